@@ -0,0 +1,135 @@
+#!/bin/bash
+
+# Genera un archivo AppCDS dinámico a partir de una ejecución de entrenamiento del servicio.
+#
+# 1. Descomprime el jar de Spring Boot en application.jar (clases + Class-Path en el manifiesto) y lib/:
+#    CDS solo archiva clases cargadas desde jars del classpath, no desde jars anidados.
+# 2. Arranca la app con -XX:ArchiveClassesAtExit, ejecuta una mezcla fija de solicitudes contra los
+#    controladores (lecturas, escrituras, QR, errores) y la detiene: al salir se escribe app.jsa.
+#
+# Ejecutar con la misma JVM que en producción (el Dockerfile lo hace en la misma imagen base).
+# Uso: ./cds-train.sh [jar] [directorio-salida]
+#      java $JAVA_OPTS -XX:SharedArchiveFile=<salida>/app.jsa -jar <salida>/application.jar
+
+set -euo pipefail
+
+JAR=${1:-target/vg-ms-students-1.0.jar}
+OUT=${2:-target/cds}
+PORT=${CDS_TRAINING_PORT:-18199}
+# inmemory: entrena sin Mongo. Las clases del driver que no se carguen aquí se cargan normalmente al ejecutar
+PROFILE=${CDS_TRAINING_PROFILE:-inmemory}
+ROUNDS=${CDS_TRAINING_ROUNDS:-3}
+MAIN_CLASS=pe.edu.vallegrande.msvstudents.MsvStudentsApplication
+BASE="http://localhost:$PORT/api/v1"
+INSTITUTION_ID=8ff22b24-6c59-36f8-9f4e-3e1a089472cb  # SyntheticDataFactory.institutionId(0)
+
+echo "📦 Descomprimiendo $JAR en $OUT"
+rm -rf "$OUT" "$OUT.tmp"
+mkdir -p "$OUT/lib" "$OUT.tmp"
+unzip -q "$JAR" -d "$OUT.tmp"
+cp "$OUT.tmp"/BOOT-INF/lib/*.jar "$OUT/lib/"
+
+# Class-Path en el orden de classpath.idx (el mismo que usa el launcher de Spring Boot)
+MANIFEST="$(cd "$OUT.tmp" && pwd)/MANIFEST.MF"
+{
+    echo "Manifest-Version: 1.0"
+    echo "Main-Class: $MAIN_CLASS"
+    sed -n 's|^- "BOOT-INF/lib/\(.*\)"$|lib/\1|p' "$OUT.tmp/BOOT-INF/classpath.idx" \
+        | awk 'NR == 1 { print "Class-Path: " $0; next } { print "  " $0 }'
+} > "$MANIFEST"
+APPLICATION_JAR="$(cd "$OUT" && pwd)/application.jar"
+(
+    cd "$OUT.tmp/BOOT-INF/classes"
+    mkdir -p META-INF
+    cp "$MANIFEST" META-INF/MANIFEST.MF
+    zip -qX "$APPLICATION_JAR" META-INF/MANIFEST.MF
+    zip -qrX "$APPLICATION_JAR" . -x META-INF/MANIFEST.MF
+)
+rm -rf "$OUT.tmp"
+
+echo "🏋️  Entrenamiento con perfil $PROFILE ($ROUNDS rondas)"
+# MaxRAM fija la ergonomía del contenedor (256 MB): compressed oops deben coincidir al ejecutar
+# shellcheck disable=SC2086
+java ${JAVA_OPTS:-} -XX:MaxRAM=256m -XX:ArchiveClassesAtExit="$OUT/app.jsa" \
+    -jar "$OUT/application.jar" \
+    --spring.profiles.active="$PROFILE" --server.port="$PORT" > "$OUT/training.log" 2>&1 &
+PID=$!
+trap 'kill "$PID" 2> /dev/null || true' EXIT
+
+until curl -sf "localhost:$PORT/actuator/health/readiness" > /dev/null; do
+    if ! kill -0 "$PID" 2> /dev/null; then
+        echo "❌ La aplicación terminó durante el entrenamiento"
+        tail -n 30 "$OUT/training.log"
+        exit 1
+    fi
+    sleep 0.2
+done
+
+call() {
+    local role=$1 method=$2 path=$3 body=${4:-}
+    local args=(-s -o /dev/null -w "%{http_code}" -X "$method"
+        -H "X-User-Id: cds-training" -H "X-User-Roles: $role" -H "X-Institution-Id: $INSTITUTION_ID")
+    if [ -n "$body" ]; then
+        args+=(-H "Content-Type: application/json" -d "$body")
+    fi
+    echo "   $(curl "${args[@]}" "$BASE$path") $method $path"
+}
+
+first_field() {
+    local response
+    response=$(curl -s -H "X-User-Id: cds-training" -H "X-User-Roles: SECRETARY" -H "X-Institution-Id: $INSTITUTION_ID" "$BASE$1")
+    grep -o "\"$2\":\"[^\"]*\"" <<< "$response" | sed -n '1s/.*:"\(.*\)"/\1/p'
+}
+
+STUDENT_ID=$(first_field /students/secretary id)
+ENROLLMENT_ID=$(first_field /enrollments/secretary id)
+CLASSROOM_ID=$(first_field /enrollments/secretary classroomId)
+
+for round in $(seq 1 "$ROUNDS"); do
+    echo "   ronda $round"
+    call SECRETARY GET /students/secretary
+    call SECRETARY GET /students/secretary/unenrolled
+    call SECRETARY GET "/students/secretary/search?query=Juan"
+    call SECRETARY GET /students/secretary/by-grade/1ro
+    call SECRETARY GET /students/secretary/by-status/ACTIVE
+    call SECRETARY GET /students/secretary/statistics
+    call TEACHER GET /students/teacher/my-students
+    call AUXILIARY GET /students/auxiliary
+    call SECRETARY GET /enrollments/secretary
+    call SECRETARY GET "/enrollments/secretary/by-classroom/$CLASSROOM_ID"
+    call SECRETARY GET /enrollments/secretary/by-status/ACTIVE
+    call SECRETARY GET /enrollments/secretary/statistics
+    call SECRETARY GET "/enrollments/secretary/by-student/$STUDENT_ID"
+    call SECRETARY GET "/enrollments/secretary/qr/$ENROLLMENT_ID"
+    call TEACHER GET /enrollments/teacher/my-enrollments
+    call TEACHER GET "/enrollments/teacher/by-student/$STUDENT_ID"
+    call AUXILIARY GET "/enrollments/auxiliary/by-classroom/$CLASSROOM_ID"
+    call AUXILIARY GET "/enrollments/auxiliary/by-student/$STUDENT_ID"
+    call SECRETARY GET /reports/secretary/dashboard
+    call SECRETARY GET /reports/secretary/overview
+    call TEACHER GET /reports/teacher/my-stats
+    call NONE GET /students
+    call NONE GET "/students/$STUDENT_ID"
+    call NONE GET "/validate-students/$STUDENT_ID"
+    call NONE GET "/validate-enrollments/$ENROLLMENT_ID"
+    call NONE GET /validate-qr/QR123456789
+    # Escrituras y rutas de error (validación, duplicados, no encontrado)
+    DOC=$(printf '7%07d' "$round")
+    call SECRETARY POST /students/secretary/create "{\"firstName\":\"Juan\",\"lastName\":\"Pérez\",\"documentType\":\"DNI\",\"documentNumber\":\"$DOC\",\"birthDate\":\"2012-05-15\",\"gender\":\"MALE\",\"address\":\"Lima\",\"phone\":\"987654321\",\"parentName\":\"Carlos\",\"parentPhone\":\"987654322\",\"parentEmail\":\"padre@email.com\"}"
+    call SECRETARY POST /students/secretary/create "{\"firstName\":\"\"}"
+    call SECRETARY PUT "/students/secretary/update/$STUDENT_ID" "{\"firstName\":\"Juan\",\"lastName\":\"Pérez\",\"phone\":\"999888777\",\"address\":\"Nueva dirección\"}"
+    call SECRETARY POST /students/secretary/bulk-create "{\"students\":[{\"firstName\":\"Luis\",\"lastName\":\"Martínez\",\"documentType\":\"DNI\",\"documentNumber\":\"8$DOC\",\"birthDate\":\"2010-01-15\",\"gender\":\"MALE\"}]}"
+    call SECRETARY PUT "/enrollments/secretary/update/$ENROLLMENT_ID" "{\"classroomId\":\"$CLASSROOM_ID\",\"enrollmentType\":\"REGULAR\",\"status\":\"ACTIVE\"}"
+    call TEACHER PUT "/enrollments/teacher/observations/$ENROLLMENT_ID" "{\"observations\":\"Entrenamiento CDS\"}"
+    call SECRETARY GET /students/secretary/no-existe
+    call NONE GET /students/00000000-0000-0000-0000-000000000000
+done
+
+# SIGTERM: apagado normal de Spring y de la JVM, que escribe el archivo al salir
+kill "$PID"
+wait "$PID" || true
+if [ ! -s "$OUT/app.jsa" ]; then
+    echo "❌ No se generó $OUT/app.jsa (ver $OUT/training.log)"
+    exit 1
+fi
+echo "✅ Archivo CDS: $OUT/app.jsa ($(du -h "$OUT/app.jsa" | cut -f 1))"
@@ -0,0 +1,72 @@
+package pe.edu.vallegrande.msvstudents.benchmark;
+
+import pe.edu.vallegrande.msvstudents.domain.enums.DocumentType;
+import pe.edu.vallegrande.msvstudents.domain.enums.EnrollmentStatus;
+import pe.edu.vallegrande.msvstudents.domain.enums.EnrollmentType;
+import pe.edu.vallegrande.msvstudents.domain.enums.Gender;
+import pe.edu.vallegrande.msvstudents.domain.enums.Status;
+import pe.edu.vallegrande.msvstudents.domain.model.Student;
+import pe.edu.vallegrande.msvstudents.domain.model.StudentEnrollment;
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.request.CreateStudentEnrollmentRequest;
+import pe.edu.vallegrande.msvstudents.infrastructure.util.QrCodeRenderer;
+import pe.edu.vallegrande.msvstudents.infrastructure.util.StudentMapper;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Datos de prueba con la forma de los documentos reales (nombres compuestos, tildes, email).
+ */
+final class BenchmarkFixtures {
+
+    static final String INSTITUTION_ID = "96960392-1e5f-4e66-afc9-4b5bcd771d9f";
+
+    private BenchmarkFixtures() {}
+
+    static Student student(int index) {
+        LocalDateTime now = LocalDateTime.of(2024, 3, 1, 8, 0);
+        Student student = new Student();
+        student.setId("student-" + index);
+        student.setInstitutionId(INSTITUTION_ID);
+        student.setFirstName("María Lucía");
+        student.setLastName("Martínez López");
+        student.setDocumentType(DocumentType.DNI);
+        student.setDocumentNumber(String.valueOf(70_000_000 + index));
+        student.setGender(Gender.FEMALE);
+        student.setBirthDate(LocalDate.of(2014, 5, 20));
+        student.setAddress("Av. Los Jardines 456, Miraflores");
+        student.setPhone("912345679");
+        student.setParentName("Rosa López");
+        student.setParentPhone("987654322");
+        student.setParentEmail("rosa.lopez@mail.com");
+        student.setStatus(Status.ACTIVE);
+        student.setCreatedAt(now);
+        student.setUpdatedAt(now);
+        return StudentMapper.refreshSearchTerms(student);
+    }
+
+    static StudentEnrollment enrollment(int index) {
+        LocalDateTime now = LocalDateTime.of(2024, 3, 1, 8, 0);
+        StudentEnrollment enrollment = new StudentEnrollment();
+        enrollment.setId("enrollment-" + index);
+        enrollment.setStudentId("student-" + index);
+        enrollment.setClassroomId("classroom-2024-001");
+        enrollment.setInstitutionId(INSTITUTION_ID);
+        enrollment.setEnrollmentDate(LocalDate.of(2024, 3, 1));
+        enrollment.setEnrollmentType(EnrollmentType.REGULAR);
+        enrollment.setStatus(EnrollmentStatus.ACTIVE);
+        enrollment.setQrCode(QrCodeRenderer.newPayload());
+        enrollment.setCreatedAt(now);
+        enrollment.setUpdatedAt(now);
+        return enrollment;
+    }
+
+    static CreateStudentEnrollmentRequest enrollmentRequest() {
+        CreateStudentEnrollmentRequest request = new CreateStudentEnrollmentRequest();
+        request.setStudentId("student-1");
+        request.setClassroomId("classroom-2024-001");
+        request.setEnrollmentDate(LocalDate.of(2024, 3, 1));
+        request.setEnrollmentType(EnrollmentType.REGULAR);
+        return request;
+    }
+}
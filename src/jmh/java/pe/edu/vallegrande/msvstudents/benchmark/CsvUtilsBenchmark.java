@@ -0,0 +1,50 @@
+package pe.edu.vallegrande.msvstudents.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pe.edu.vallegrande.msvstudents.domain.model.Student;
+import pe.edu.vallegrande.msvstudents.infrastructure.util.CsvUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Una fila del reporte CSV de estudiantes: valores simples y valores que requieren comillas.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CsvUtilsBenchmark {
+
+    private Student student;
+
+    @Setup
+    public void setUp() {
+        student = BenchmarkFixtures.student(1);
+    }
+
+    @Benchmark
+    public String joinCsvRow() {
+        return CsvUtils.joinCsv(
+            student.getId(), student.getFirstName(), student.getLastName(), student.getDocumentType(),
+            student.getDocumentNumber(), student.getBirthDate(), student.getGender(),
+            student.getAddress(), student.getPhone(), student.getParentName(),
+            student.getParentPhone(), student.getParentEmail(), student.getStatus(), student.getCreatedAt()
+        );
+    }
+
+    @Benchmark
+    public String joinCsvQuoted() {
+        return CsvUtils.joinCsv("Jr. \"Los Pinos\" 123, Lima", "línea 1\nlínea 2", student.getAddress());
+    }
+}
@@ -0,0 +1,47 @@
+package pe.edu.vallegrande.msvstudents.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import pe.edu.vallegrande.msvstudents.infrastructure.security.HeaderValidator;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validación de headers que precede a cada endpoint.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HeaderValidatorBenchmark {
+
+    private static final List<String> REQUIRED_ROLES = List.of("SECRETARY");
+
+    private MockServerWebExchange exchange;
+
+    @Setup
+    public void setUp() {
+        exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/students/secretary")
+                .header("X-User-Id", "user-456")
+                .header("X-User-Roles", "teacher, secretary")
+                .header("X-Institution-Id", BenchmarkFixtures.INSTITUTION_ID));
+    }
+
+    @Benchmark
+    public HeaderValidator.HeaderValidationResult validateHeadersSimple() {
+        return HeaderValidator.validateHeadersSimple(exchange, REQUIRED_ROLES);
+    }
+}
@@ -0,0 +1,66 @@
+package pe.edu.vallegrande.msvstudents.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pe.edu.vallegrande.msvstudents.domain.model.Student;
+import pe.edu.vallegrande.msvstudents.domain.model.StudentEnrollment;
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.request.CreateStudentEnrollmentRequest;
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.EnrollmentWithStudentResponse;
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.StudentEnrollmentResponse;
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.StudentResponse;
+import pe.edu.vallegrande.msvstudents.infrastructure.util.EnrollmentWithStudentMapper;
+import pe.edu.vallegrande.msvstudents.infrastructure.util.StudentEnrollmentMapper;
+import pe.edu.vallegrande.msvstudents.infrastructure.util.StudentMapper;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapeos entidad/DTO que se ejecutan por cada fila de las respuestas.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MapperBenchmark {
+
+    private Student student;
+    private StudentEnrollment enrollment;
+    private CreateStudentEnrollmentRequest enrollmentRequest;
+
+    @Setup
+    public void setUp() {
+        student = BenchmarkFixtures.student(1);
+        enrollment = BenchmarkFixtures.enrollment(1);
+        enrollmentRequest = BenchmarkFixtures.enrollmentRequest();
+    }
+
+    @Benchmark
+    public StudentResponse studentToResponse() {
+        return StudentMapper.toResponse(student);
+    }
+
+    @Benchmark
+    public StudentEnrollment enrollmentToEntity() {
+        return StudentEnrollmentMapper.toEntity(enrollmentRequest);
+    }
+
+    @Benchmark
+    public StudentEnrollmentResponse enrollmentToResponse() {
+        return StudentEnrollmentMapper.toResponse(enrollment);
+    }
+
+    @Benchmark
+    public EnrollmentWithStudentResponse enrollmentWithStudentToResponse() {
+        return EnrollmentWithStudentMapper.toResponse(enrollment, student);
+    }
+}
@@ -0,0 +1,39 @@
+package pe.edu.vallegrande.msvstudents.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pe.edu.vallegrande.msvstudents.infrastructure.util.QrCodeRenderer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renderizado PNG del QR de matrícula (ZXing + ImageIO) al tamaño servido por defecto.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class QrCodeRenderBenchmark {
+
+    private String payload;
+
+    @Setup
+    public void setUp() {
+        payload = QrCodeRenderer.newPayload();
+    }
+
+    @Benchmark
+    public byte[] renderPng() {
+        return QrCodeRenderer.renderPng(payload, QrCodeRenderer.DEFAULT_SIZE);
+    }
+}
@@ -0,0 +1,139 @@
+package pe.edu.vallegrande.msvstudents.benchmark;
+
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import pe.edu.vallegrande.msvstudents.domain.model.Student;
+import pe.edu.vallegrande.msvstudents.infrastructure.config.MongoIndexReconciler;
+import pe.edu.vallegrande.msvstudents.infrastructure.repository.impl.InMemoryDataStore;
+import pe.edu.vallegrande.msvstudents.infrastructure.repository.impl.InMemoryStudentRepository;
+import pe.edu.vallegrande.msvstudents.infrastructure.repository.impl.StudentRepositoryImpl;
+import pe.edu.vallegrande.msvstudents.infrastructure.search.InMemoryStudentSearchIndex;
+import pe.edu.vallegrande.msvstudents.infrastructure.search.MongoStudentSearchBackend;
+import pe.edu.vallegrande.msvstudents.infrastructure.search.StudentSearchBackend;
+import pe.edu.vallegrande.msvstudents.infrastructure.util.StudentMapper;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Búsqueda de estudiantes por backend: recorrido lineal (implementación anterior), índice de
+ * trigramas en memoria y motor Mongo. Cada operación ejecuta todas las consultas de QUERIES.
+ *
+ * Mongo: -Djmh.args="StudentSearch -p backend=mongo -jvmArgsAppend -Dbenchmark.mongo.uri=mongodb://localhost:27017"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StudentSearchBenchmark {
+
+    private static final int LIMIT = 20;
+    private static final List<String> QUERIES = List.of("gonz", "maria", "juan car", "7890", "lopez", "quispe", "rodriguez ana");
+    private static final String[] FIRST_NAMES = {"Juan", "María", "José", "Ana", "Luis", "Lucía", "Carlos", "Rosa", "Pedro", "Carmen"};
+    private static final String[] LAST_NAMES = {"González", "Pérez", "López", "Rodríguez", "Quispe", "Martínez", "Huamán", "Flores", "Sánchez", "Díaz"};
+
+    @Param({"linear-scan", "memory"})
+    public String backend;
+
+    @Param({"5000"})
+    public int students;
+
+    private List<Student> institution;
+    private StudentSearchBackend searchBackend;
+    private MongoClient mongoClient;
+    private ReactiveMongoTemplate mongoTemplate;
+
+    @Setup
+    public void setUp() {
+        institution = generateStudents();
+        switch (backend) {
+            case "linear-scan" -> searchBackend = null;
+            case "memory" -> {
+                InMemoryStudentRepository repository = new InMemoryStudentRepository(new InMemoryDataStore(Duration.ZERO, Duration.ZERO));
+                repository.insertAllUnordered(institution).block();
+                searchBackend = new InMemoryStudentSearchIndex(repository, Duration.ofHours(1), 10);
+            }
+            case "mongo" -> {
+                String uri = System.getProperty("benchmark.mongo.uri");
+                if (uri == null) {
+                    throw new IllegalStateException("backend=mongo requires -Dbenchmark.mongo.uri");
+                }
+                mongoClient = MongoClients.create(uri);
+                mongoTemplate = new ReactiveMongoTemplate(mongoClient, "vg_ms_students_benchmark");
+                mongoTemplate.dropCollection(Student.class).block();
+                mongoTemplate.insertAll(institution).then().block();
+                Flux.fromIterable(MongoIndexReconciler.SEARCH_INDEXES)
+                        .concatMap(index -> mongoTemplate.indexOps(Student.class).ensureIndex(index))
+                        .blockLast();
+                searchBackend = new MongoStudentSearchBackend(new StudentRepositoryImpl(mongoTemplate));
+            }
+            default -> throw new IllegalArgumentException("Unknown backend: " + backend);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (mongoClient != null) {
+            mongoTemplate.dropCollection(Student.class).block();
+            mongoClient.close();
+        }
+    }
+
+    @Benchmark
+    public int search() {
+        int results = 0;
+        for (String query : QUERIES) {
+            results += searchBackend == null
+                    ? linearScan(query).size()
+                    : searchBackend.search(query, BenchmarkFixtures.INSTITUTION_ID, LIMIT, false).collectList().block().size();
+        }
+        return results;
+    }
+
+    // Implementación previa de searchStudents: recorrer la institución y comparar en minúsculas
+    private List<Student> linearScan(String query) {
+        return institution.stream()
+                .filter(student ->
+                    student.getFirstName().toLowerCase().contains(query.toLowerCase()) ||
+                    student.getLastName().toLowerCase().contains(query.toLowerCase()) ||
+                    student.getDocumentNumber().contains(query) ||
+                    (student.getParentEmail() != null && student.getParentEmail().toLowerCase().contains(query.toLowerCase()))
+                )
+                .toList();
+    }
+
+    private List<Student> generateStudents() {
+        Random random = new Random(42);
+        List<Student> generated = new ArrayList<>(students);
+        for (int i = 0; i < students; i++) {
+            Student student = new Student();
+            student.setId("student-" + i);
+            student.setInstitutionId(BenchmarkFixtures.INSTITUTION_ID);
+            student.setFirstName(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + FIRST_NAMES[random.nextInt(FIRST_NAMES.length)]);
+            student.setLastName(LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)]);
+            student.setDocumentNumber(String.valueOf(70_000_000 + i));
+            student.setParentEmail("apoderado" + i + "@mail.com");
+            generated.add(StudentMapper.refreshSearchTerms(student));
+        }
+        return generated;
+    }
+}
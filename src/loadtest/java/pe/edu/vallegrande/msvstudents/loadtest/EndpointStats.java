@@ -0,0 +1,70 @@
+package pe.edu.vallegrande.msvstudents.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencias (HdrHistogram, 1 µs a 1 min con 3 dígitos significativos), códigos de estado
+ * y bytes recibidos de un endpoint. Seguro para registrar desde varios hilos.
+ */
+final class EndpointStats {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Recorder recorder = new Recorder(MAX_LATENCY_MICROS, 3);
+    private final Histogram accumulated = new Histogram(MAX_LATENCY_MICROS, 3);
+    private final Map<String, LongAdder> statuses = new ConcurrentHashMap<>();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+
+    void record(long latencyNanos, int status, long responseBytes) {
+        recorder.recordValue(Math.min(MAX_LATENCY_MICROS, Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos))));
+        statuses.computeIfAbsent(status / 100 + "xx", key -> new LongAdder()).increment();
+        if (status >= 500) {
+            errors.increment();
+        }
+        bytes.add(responseBytes);
+    }
+
+    void recordFailure(long latencyNanos, Throwable error) {
+        recorder.recordValue(Math.min(MAX_LATENCY_MICROS, Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos))));
+        statuses.computeIfAbsent(error.getClass().getSimpleName(), key -> new LongAdder()).increment();
+        errors.increment();
+    }
+
+    /**
+     * Descarta lo registrado hasta ahora (fin del calentamiento).
+     */
+    synchronized void reset() {
+        recorder.reset();
+        accumulated.reset();
+        statuses.clear();
+        errors.reset();
+        bytes.reset();
+    }
+
+    synchronized Histogram histogram() {
+        accumulated.add(recorder.getIntervalHistogram());
+        return accumulated.copy();
+    }
+
+    Map<String, Long> statuses() {
+        Map<String, Long> sorted = new TreeMap<>();
+        statuses.forEach((status, count) -> sorted.put(status, count.sum()));
+        return sorted;
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    long bytes() {
+        return bytes.sum();
+    }
+}
@@ -0,0 +1,282 @@
+package pe.edu.vallegrande.msvstudents.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.netty.handler.codec.http.HttpMethod;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import pe.edu.vallegrande.msvstudents.MsvStudentsApplication;
+import pe.edu.vallegrande.msvstudents.infrastructure.util.SyntheticDataFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generador de carga HTTP (reactor-netty) que reproduce la colección Postman o un JSONL de solicitudes.
+ *
+ * Modos:
+ * - closed: N clientes concurrentes, cada uno envía la siguiente solicitud al recibir la respuesta
+ * - open: tasa de llegada constante; la latencia se mide desde el instante programado, de modo
+ *   que las colas del servidor no se ocultan (sin "coordinated omission")
+ *
+ * Uso: mvn -Ploadtest -DskipTests verify -Dloadtest.args="--start-app=inmemory --mode=open --rate=500"
+ *
+ * Opciones (--clave=valor): base-url, start-app (perfil a levantar en este proceso, p. ej. inmemory),
+ * postman, mix (JSONL), include-writes, mode, concurrency, rate, max-in-flight, duration, warmup,
+ * report, label, var.&lt;nombre&gt; (variables de la colección). Los argumentos --spring.* se pasan a la app.
+ */
+public final class LoadTestDriver {
+
+    private static final String PLACEHOLDER_SUFFIX = "-uuid-example";
+
+    private final Map<String, String> options;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SortedMap<String, EndpointStats> endpoints = new TreeMap<>();
+    private final AtomicLong dropped = new AtomicLong();
+
+    private LoadTestDriver(Map<String, String> options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        List<String> appArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--spring.") || arg.startsWith("--inmemory.")) {
+                appArgs.add(arg);
+            } else if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            } else if (arg.startsWith("--")) {
+                options.put(arg.substring(2), "true");
+            }
+        }
+        new LoadTestDriver(options).run(appArgs);
+    }
+
+    private void run(List<String> appArgs) throws Exception {
+        ConfigurableApplicationContext app = null;
+        String baseUrl = option("base-url", "http://localhost:8102/api/v1");
+        Map<String, String> variables = new HashMap<>();
+
+        Path postman = Path.of(option("postman", "postman_collection.json"));
+        if (postman.toFile().exists()) {
+            variables.putAll(RequestMix.postmanVariables(objectMapper, postman));
+        }
+
+        String profile = options.get("start-app");
+        if (profile != null) {
+            app = startApp(profile, appArgs);
+            baseUrl = "http://localhost:" + app.getEnvironment().getProperty("local.server.port") + "/api/v1";
+            if ("inmemory".equals(profile)) {
+                variables.put("institution_id", SyntheticDataFactory.institutionId(0));
+            }
+        }
+        options.forEach((key, value) -> {
+            if (key.startsWith("var.")) {
+                variables.put(key.substring(4), value);
+            }
+        });
+
+        try {
+            HttpClient client = HttpClient.create(ConnectionProvider.builder("loadtest")
+                            .maxConnections(intOption("max-connections", 500))
+                            .pendingAcquireMaxCount(-1)
+                            .build())
+                    .baseUrl(baseUrl)
+                    .responseTimeout(Duration.ofSeconds(30));
+
+            discoverVariables(client, variables);
+
+            RequestMix mix = options.containsKey("mix")
+                    ? RequestMix.fromJsonl(objectMapper, Path.of(options.get("mix")))
+                    : RequestMix.fromPostman(objectMapper, postman);
+            if (!Boolean.parseBoolean(option("include-writes", "false"))) {
+                mix = mix.readsOnly();
+            }
+            mix = mix.resolve(variables);
+
+            Map<RequestTemplate, HttpClient> clients = new HashMap<>();
+            for (RequestTemplate template : mix.templates()) {
+                endpoints.putIfAbsent(template.name(), new EndpointStats());
+                clients.put(template, client.headers(headers -> template.headers().forEach(headers::set)));
+            }
+
+            Duration warmup = Duration.parse(option("warmup", "PT5S"));
+            Duration duration = Duration.parse(option("duration", "PT30S"));
+            String mode = option("mode", "closed");
+            System.out.printf("Load test: %s mode against %s, %d request templates, warmup %s, duration %s%n",
+                    mode, baseUrl, mix.templates().size(), warmup, duration);
+
+            if (!warmup.isZero()) {
+                execute(mode, mix, clients, warmup);
+                endpoints.values().forEach(EndpointStats::reset);
+                dropped.set(0);
+            }
+            Instant startedAt = Instant.now();
+            long start = System.nanoTime();
+            execute(mode, mix, clients, duration);
+            double measuredSeconds = (System.nanoTime() - start) / 1e9;
+
+            Map<String, Object> run = new TreeMap<>();
+            run.put("label", option("label", System.getenv().getOrDefault("GIT_COMMIT", "local")));
+            run.put("startedAt", startedAt.toString());
+            run.put("baseUrl", baseUrl);
+            run.put("app", profile == null ? "external" : profile);
+            run.put("mode", mode);
+            if ("closed".equals(mode)) {
+                run.put("concurrency", intOption("concurrency", 16));
+            } else {
+                run.put("rate", intOption("rate", 200));
+                run.put("maxInFlight", intOption("max-in-flight", 2000));
+            }
+            run.put("durationSeconds", duration.toSeconds());
+            run.put("warmupSeconds", warmup.toSeconds());
+
+            ObjectNode report = LoadTestReport.build(objectMapper, run, endpoints, measuredSeconds, dropped.get());
+            Path reportFile = Path.of(option("report", "target/loadtest/report.json"));
+            LoadTestReport.write(objectMapper, report, reportFile);
+            LoadTestReport.print(report);
+            System.out.println("Report written to " + reportFile.toAbsolutePath());
+        } finally {
+            if (app != null) {
+                app.close();
+            }
+        }
+    }
+
+    private void execute(String mode, RequestMix mix, Map<RequestTemplate, HttpClient> clients, Duration duration) {
+        long deadline = System.nanoTime() + duration.toNanos();
+        if ("open".equals(mode)) {
+            openLoop(mix, clients, intOption("rate", 200), intOption("max-in-flight", 2000), deadline);
+        } else if ("closed".equals(mode)) {
+            int concurrency = intOption("concurrency", 16);
+            Flux.range(0, concurrency)
+                    .flatMap(worker -> Mono.defer(() -> send(mix.next(), clients, System.nanoTime()))
+                            .repeat(() -> System.nanoTime() < deadline), concurrency)
+                    .blockLast();
+        } else {
+            throw new IllegalArgumentException("Unknown mode: " + mode + " (expected open or closed)");
+        }
+    }
+
+    // Un tick por milisegundo emite las solicitudes vencidas; cada una conserva su instante programado
+    private void openLoop(RequestMix mix, Map<RequestTemplate, HttpClient> clients, int rate, int maxInFlight, long deadline) {
+        long start = System.nanoTime();
+        double intervalNanos = 1e9 / rate;
+        AtomicLong scheduled = new AtomicLong();
+        AtomicInteger inFlight = new AtomicInteger();
+
+        Flux.interval(Duration.ofMillis(1))
+                .onBackpressureDrop()
+                .takeWhile(tick -> System.nanoTime() < deadline)
+                .concatMapIterable(tick -> {
+                    long due = (long) ((System.nanoTime() - start) / intervalNanos);
+                    List<Long> intendedStarts = new ArrayList<>();
+                    for (long next = scheduled.get(); next < due; next = scheduled.incrementAndGet()) {
+                        intendedStarts.add(start + (long) (next * intervalNanos));
+                    }
+                    return intendedStarts;
+                })
+                .flatMap(intendedStart -> {
+                    if (inFlight.incrementAndGet() > maxInFlight) {
+                        inFlight.decrementAndGet();
+                        dropped.incrementAndGet();
+                        return Mono.empty();
+                    }
+                    return send(mix.next(), clients, intendedStart).doFinally(signal -> inFlight.decrementAndGet());
+                }, Integer.MAX_VALUE)
+                .blockLast();
+    }
+
+    private Mono<Void> send(RequestTemplate template, Map<RequestTemplate, HttpClient> clients, long intendedStart) {
+        EndpointStats stats = endpoints.get(template.name());
+        HttpClient.RequestSender request = clients.get(template)
+                .request(HttpMethod.valueOf(template.method().toUpperCase()))
+                .uri(template.path());
+        HttpClient.ResponseReceiver<?> receiver = template.body() == null
+                ? request
+                : request.send(ByteBufFlux.fromString(Mono.just(template.body())));
+        return receiver
+                .responseSingle((response, content) -> content.asByteArray()
+                        .map(bytes -> (long) bytes.length)
+                        .defaultIfEmpty(0L)
+                        .doOnNext(length -> stats.record(System.nanoTime() - intendedStart, response.status().code(), length)))
+                .onErrorResume(error -> {
+                    stats.recordFailure(System.nanoTime() - intendedStart, error);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * Reemplaza los ids de ejemplo de la colección por ids reales de la institución,
+     * consultando los listados de estudiantes y matrículas.
+     */
+    private void discoverVariables(HttpClient client, Map<String, String> variables) {
+        HttpClient secretary = client.headers(headers -> headers
+                .set("X-User-Id", variables.getOrDefault("user_id", "loadtest"))
+                .set("X-User-Roles", "SECRETARY")
+                .set("X-Institution-Id", variables.getOrDefault("institution_id", "")));
+        if (isPlaceholder(variables.get("student_id"))) {
+            firstItem(secretary, "/students/secretary")
+                    .ifPresent(student -> variables.put("student_id", student.path("id").asText()));
+        }
+        if (isPlaceholder(variables.get("enrollment_id")) || isPlaceholder(variables.get("classroom_id"))) {
+            firstItem(secretary, "/enrollments/secretary").ifPresent(enrollment -> {
+                variables.put("enrollment_id", enrollment.path("id").asText());
+                variables.put("classroom_id", enrollment.path("classroomId").asText());
+            });
+        }
+        System.out.println("Variables: " + new TreeMap<>(variables));
+    }
+
+    private Optional<JsonNode> firstItem(HttpClient client, String path) {
+        return client.get().uri(path)
+                .responseSingle((response, content) -> content.asString())
+                .map(body -> {
+                    try {
+                        return objectMapper.readTree(body).path("data").path(0);
+                    } catch (Exception e) {
+                        return objectMapper.missingNode();
+                    }
+                })
+                .filter(node -> !node.isMissingNode())
+                .blockOptional(Duration.ofSeconds(30));
+    }
+
+    private static boolean isPlaceholder(String value) {
+        return value == null || value.endsWith(PLACEHOLDER_SUFFIX);
+    }
+
+    private static ConfigurableApplicationContext startApp(String profile, List<String> appArgs) {
+        List<String> args = new ArrayList<>(appArgs);
+        args.add("--spring.profiles.active=" + profile);
+        args.add("--server.port=0");
+        System.out.println("Starting application in-process with profile " + profile);
+        return SpringApplication.run(MsvStudentsApplication.class, args.toArray(String[]::new));
+    }
+
+    private String option(String key, String defaultValue) {
+        return options.getOrDefault(key, defaultValue);
+    }
+
+    private int intOption(String key, int defaultValue) {
+        return Integer.parseInt(options.getOrDefault(key, String.valueOf(defaultValue)));
+    }
+}
@@ -0,0 +1,99 @@
+package pe.edu.vallegrande.msvstudents.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * Reporte JSON de una corrida, con claves ordenadas para poder hacer diff entre commits,
+ * más un resumen tabular por consola.
+ */
+final class LoadTestReport {
+
+    private LoadTestReport() {}
+
+    static ObjectNode build(ObjectMapper objectMapper, Map<String, Object> run, SortedMap<String, EndpointStats> endpoints,
+                            double measuredSeconds, long dropped) {
+        ObjectNode report = objectMapper.createObjectNode();
+        report.set("run", objectMapper.valueToTree(run));
+
+        long totalRequests = 0;
+        long totalErrors = 0;
+        ObjectNode endpointNodes = report.putObject("endpoints");
+        for (Map.Entry<String, EndpointStats> entry : endpoints.entrySet()) {
+            EndpointStats stats = entry.getValue();
+            Histogram histogram = stats.histogram();
+            long count = histogram.getTotalCount();
+            if (count == 0) {
+                continue;
+            }
+            totalRequests += count;
+            totalErrors += stats.errors();
+
+            ObjectNode node = endpointNodes.putObject(entry.getKey());
+            node.put("count", count);
+            node.put("errors", stats.errors());
+            node.set("statuses", objectMapper.valueToTree(stats.statuses()));
+            node.put("throughputPerSecond", round(count / measuredSeconds));
+            node.put("bytesPerResponse", stats.bytes() / count);
+            ObjectNode latency = node.putObject("latencyMs");
+            latency.put("min", millis(histogram.getMinValue()));
+            latency.put("mean", round(histogram.getMean() / 1000.0));
+            latency.put("p50", millis(histogram.getValueAtPercentile(50)));
+            latency.put("p90", millis(histogram.getValueAtPercentile(90)));
+            latency.put("p99", millis(histogram.getValueAtPercentile(99)));
+            latency.put("p999", millis(histogram.getValueAtPercentile(99.9)));
+            latency.put("max", millis(histogram.getMaxValue()));
+        }
+
+        ObjectNode totals = report.putObject("totals");
+        totals.put("requests", totalRequests);
+        totals.put("errors", totalErrors);
+        totals.put("dropped", dropped);
+        totals.put("throughputPerSecond", round(totalRequests / measuredSeconds));
+        return report;
+    }
+
+    static void write(ObjectMapper objectMapper, ObjectNode report, Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        objectMapper.copy()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(file.toFile(), report);
+    }
+
+    static void print(ObjectNode report) {
+        System.out.printf("%n%-60s %9s %7s %9s %9s %9s %9s%n", "endpoint", "count", "errors", "req/s", "p50 ms", "p99 ms", "max ms");
+        report.path("endpoints").fields().forEachRemaining(entry -> {
+            var node = entry.getValue();
+            System.out.printf("%-60s %9d %7d %9.1f %9.2f %9.2f %9.2f%n",
+                    entry.getKey(),
+                    node.path("count").asLong(),
+                    node.path("errors").asLong(),
+                    node.path("throughputPerSecond").asDouble(),
+                    node.path("latencyMs").path("p50").asDouble(),
+                    node.path("latencyMs").path("p99").asDouble(),
+                    node.path("latencyMs").path("max").asDouble());
+        });
+        var totals = report.path("totals");
+        System.out.printf("%ntotal: %d requests, %d errors, %d dropped, %.1f req/s%n",
+                totals.path("requests").asLong(), totals.path("errors").asLong(),
+                totals.path("dropped").asLong(), totals.path("throughputPerSecond").asDouble());
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000.0) / 1000.0;
+    }
+}
@@ -0,0 +1,122 @@
+package pe.edu.vallegrande.msvstudents.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * Mezcla de solicitudes a reproducir, cargada desde la colección Postman del repositorio o desde
+ * un archivo JSONL propio (una solicitud por línea: name, method, path, headers, body, weight).
+ * La selección es round-robin ponderado: reproducible entre ejecuciones, sin aleatoriedad.
+ */
+final class RequestMix {
+
+    private static final String BASE_URL_VARIABLE = "{{base_url}}";
+
+    private final List<RequestTemplate> templates;
+    private final int[] schedule;
+    private final AtomicLong cursor = new AtomicLong();
+
+    RequestMix(List<RequestTemplate> templates) {
+        if (templates.isEmpty()) {
+            throw new IllegalArgumentException("Request mix is empty");
+        }
+        this.templates = List.copyOf(templates);
+        this.schedule = IntStream.range(0, templates.size())
+                .flatMap(index -> IntStream.generate(() -> index).limit(Math.max(1, templates.get(index).weight())))
+                .toArray();
+    }
+
+    List<RequestTemplate> templates() {
+        return templates;
+    }
+
+    RequestTemplate next() {
+        return templates.get(schedule[(int) (cursor.getAndIncrement() % schedule.length)]);
+    }
+
+    RequestMix resolve(Map<String, String> variables) {
+        return new RequestMix(templates.stream().map(template -> template.resolve(variables)).toList());
+    }
+
+    RequestMix readsOnly() {
+        return new RequestMix(templates.stream().filter(RequestTemplate::isRead).toList());
+    }
+
+    /**
+     * Variables declaradas en la colección (institution_id, student_id...), sin base_url.
+     */
+    static Map<String, String> postmanVariables(ObjectMapper objectMapper, Path collection) throws IOException {
+        Map<String, String> variables = new LinkedHashMap<>();
+        for (JsonNode variable : objectMapper.readTree(collection.toFile()).path("variable")) {
+            variables.put(variable.path("key").asText(), variable.path("value").asText());
+        }
+        variables.remove("base_url");
+        return variables;
+    }
+
+    static RequestMix fromPostman(ObjectMapper objectMapper, Path collection) throws IOException {
+        List<RequestTemplate> templates = new ArrayList<>();
+        collectPostman(objectMapper.readTree(collection.toFile()).path("item"), templates);
+        return new RequestMix(templates);
+    }
+
+    private static void collectPostman(JsonNode items, List<RequestTemplate> templates) {
+        for (JsonNode item : items) {
+            if (item.has("item")) {
+                collectPostman(item.path("item"), templates);
+                continue;
+            }
+            JsonNode request = item.path("request");
+            JsonNode url = request.path("url");
+            String raw = url.isTextual() ? url.asText() : url.path("raw").asText();
+            String path = raw.startsWith(BASE_URL_VARIABLE) ? raw.substring(BASE_URL_VARIABLE.length()) : raw;
+            Map<String, String> headers = new LinkedHashMap<>();
+            for (JsonNode header : request.path("header")) {
+                headers.put(header.path("key").asText(), header.path("value").asText());
+            }
+            String body = request.path("body").path("raw").isMissingNode() ? null : request.path("body").path("raw").asText();
+            String method = request.path("method").asText("GET");
+            templates.add(new RequestTemplate(method + " " + normalize(path), method, path, headers, body, 1));
+        }
+    }
+
+    static RequestMix fromJsonl(ObjectMapper objectMapper, Path file) throws IOException {
+        List<RequestTemplate> templates = new ArrayList<>();
+        for (String line : Files.readAllLines(file)) {
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+            JsonNode node = objectMapper.readTree(line);
+            String method = node.path("method").asText("GET");
+            String path = node.path("path").asText();
+            Map<String, String> headers = new LinkedHashMap<>();
+            node.path("headers").fields().forEachRemaining(header -> headers.put(header.getKey(), header.getValue().asText()));
+            JsonNode body = node.path("body");
+            templates.add(new RequestTemplate(
+                    node.path("name").asText(method + " " + normalize(path)),
+                    method,
+                    path,
+                    headers,
+                    body.isMissingNode() || body.isNull() ? null : body.isTextual() ? body.asText() : body.toString(),
+                    node.path("weight").asInt(1)));
+        }
+        return new RequestMix(templates);
+    }
+
+    // Nombre estable para el reporte: sin query string y con las variables como {nombre}
+    private static String normalize(String path) {
+        int query = path.indexOf('?');
+        String withoutQuery = query >= 0 ? path.substring(0, query) : path;
+        return withoutQuery.replaceAll("\\{\\{([^}]+)}}", "{$1}");
+    }
+}
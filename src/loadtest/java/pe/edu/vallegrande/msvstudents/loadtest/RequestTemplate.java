@@ -0,0 +1,37 @@
+package pe.edu.vallegrande.msvstudents.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Una solicitud del escenario: ruta relativa a base-url, con variables {{nombre}} sin resolver.
+ * El nombre identifica al endpoint en el reporte (p. ej. "GET /students/secretary").
+ */
+record RequestTemplate(String name, String method, String path, Map<String, String> headers, String body, int weight) {
+
+    private static final Pattern VARIABLE = Pattern.compile("\\{\\{([^}]+)}}");
+
+    boolean isRead() {
+        return "GET".equalsIgnoreCase(method) || "HEAD".equalsIgnoreCase(method);
+    }
+
+    RequestTemplate resolve(Map<String, String> variables) {
+        Map<String, String> resolvedHeaders = new LinkedHashMap<>();
+        headers.forEach((key, value) -> resolvedHeaders.put(key, substitute(value, variables)));
+        return new RequestTemplate(name, method, substitute(path, variables), resolvedHeaders,
+                body == null ? null : substitute(body, variables), weight);
+    }
+
+    static String substitute(String text, Map<String, String> variables) {
+        Matcher matcher = VARIABLE.matcher(text);
+        StringBuilder resolved = new StringBuilder();
+        while (matcher.find()) {
+            String value = variables.getOrDefault(matcher.group(1).trim(), matcher.group());
+            matcher.appendReplacement(resolved, Matcher.quoteReplacement(value));
+        }
+        matcher.appendTail(resolved);
+        return resolved.toString();
+    }
+}
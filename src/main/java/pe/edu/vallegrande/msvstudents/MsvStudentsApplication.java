@@ -2,10 +2,17 @@ package pe.edu.vallegrande.msvstudents;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
 @SpringBootApplication
 public class MsvStudentsApplication {
+
+    // Pasos de arranque registrados (GET /actuator/startup) para medir el tiempo de boot
+    private static final int STARTUP_STEPS_CAPACITY = 4096;
+
     public static void main(String[] args) {
-        SpringApplication.run(MsvStudentsApplication.class, args);
+        SpringApplication application = new SpringApplication(MsvStudentsApplication.class);
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS_CAPACITY));
+        application.run(args);
     }
-}
\ No newline at end of file
+}
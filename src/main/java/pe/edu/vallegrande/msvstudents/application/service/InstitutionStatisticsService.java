@@ -0,0 +1,29 @@
+package pe.edu.vallegrande.msvstudents.application.service;
+
+import pe.edu.vallegrande.msvstudents.domain.enums.EnrollmentStatus;
+import pe.edu.vallegrande.msvstudents.domain.enums.Status;
+import pe.edu.vallegrande.msvstudents.domain.model.InstitutionStatistics;
+import pe.edu.vallegrande.msvstudents.domain.model.Student;
+import pe.edu.vallegrande.msvstudents.domain.model.StudentEnrollment;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface InstitutionStatisticsService {
+
+    // Lectura puntual de institution_stats; si aún no existe se calcula con la agregación y se guarda
+    Mono<InstitutionStatistics> getStatistics(String institutionId);
+
+    // Se llaman después de guardar; un error al actualizar los contadores se registra y no falla la escritura
+    Mono<Void> studentsCreated(String institutionId, List<Student> students);
+
+    Mono<Void> studentStatusChanged(String institutionId, Status previousStatus, Status currentStatus);
+
+    Mono<Void> enrollmentsCreated(String institutionId, List<StudentEnrollment> enrollments);
+
+    Mono<Void> enrollmentStatusChanged(String institutionId, StudentEnrollment enrollment, EnrollmentStatus previousStatus);
+
+    // Recalcula con la agregación y corrige el documento si difiere; true si lo reemplazó
+    Mono<Boolean> reconcile(String institutionId);
+
+}
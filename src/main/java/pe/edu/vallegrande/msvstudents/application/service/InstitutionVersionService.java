@@ -0,0 +1,14 @@
+package pe.edu.vallegrande.msvstudents.application.service;
+
+import pe.edu.vallegrande.msvstudents.domain.model.InstitutionVersion;
+import reactor.core.publisher.Mono;
+
+public interface InstitutionVersionService {
+
+    // Versión vigente (lectura por _id); se lee antes de consultar los datos para que nunca sea más nueva que ellos
+    Mono<InstitutionVersion> current(String institutionId);
+
+    // Se llama después de cada escritura de estudiantes o matrículas; un error se registra y no falla la escritura
+    Mono<Void> bump(String institutionId);
+
+}
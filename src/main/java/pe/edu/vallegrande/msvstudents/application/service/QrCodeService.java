@@ -0,0 +1,12 @@
+package pe.edu.vallegrande.msvstudents.application.service;
+
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.QrCodeImage;
+import reactor.core.publisher.Mono;
+
+public interface QrCodeService {
+
+    Mono<QrCodeImage> getEnrollmentQrImage(String enrollmentId, String institutionId);
+
+    Mono<String> getEnrollmentQrDataUri(String enrollmentId, String institutionId);
+
+}
@@ -0,0 +1,13 @@
+package pe.edu.vallegrande.msvstudents.application.service;
+
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.DashboardStatisticsResponse;
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.InstitutionOverviewResponse;
+import reactor.core.publisher.Mono;
+
+public interface StatisticsService {
+
+    Mono<DashboardStatisticsResponse> getDashboardStatistics(String institutionId);
+
+    Mono<InstitutionOverviewResponse> getInstitutionOverview(String institutionId);
+
+}
@@ -2,11 +2,13 @@ package pe.edu.vallegrande.msvstudents.application.service;
 
 import pe.edu.vallegrande.msvstudents.infrastructure.dto.request.CreateStudentEnrollmentRequest;
 import pe.edu.vallegrande.msvstudents.infrastructure.dto.request.UpdateStudentEnrollmentRequest;
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.BulkEnrollmentsResponse;
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.CursorPage;
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.EnrollmentStatisticsResponse;
 import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.StudentEnrollmentResponse;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import java.util.List;
-import java.util.Map;
 
 public interface StudentEnrollmentService {
 
@@ -29,11 +31,12 @@ public interface StudentEnrollmentService {
     Mono<Boolean> existsByQrCode(String qrCode);
 
     // Nuevos métodos para lógica de negocio
-    Mono<Map<String, Object>> createBulkEnrollments(List<CreateStudentEnrollmentRequest> requests, String institutionId);
+    // summaryOnly omite la lista de matrículas creadas en la respuesta
+    Mono<BulkEnrollmentsResponse> createBulkEnrollments(List<CreateStudentEnrollmentRequest> requests, String institutionId, boolean summaryOnly);
     
     Flux<StudentEnrollmentResponse> getEnrollmentsByStatus(String status, String institutionId);
     
-    Mono<Map<String, Object>> getEnrollmentStatistics(String institutionId);
+    Mono<EnrollmentStatisticsResponse> getEnrollmentStatistics(String institutionId);
     
     Mono<StudentEnrollmentResponse> transferStudent(String enrollmentId, String newClassroomId, String reason, String institutionId);
     
@@ -47,4 +50,9 @@ public interface StudentEnrollmentService {
     // Método específico para servicios internos - información básica
     Flux<pe.edu.vallegrande.msvstudents.infrastructure.dto.response.InternalEnrollmentResponse> getInternalEnrollmentsByClassroom(String classroomId, String institutionId);
 
+    // Paginación por cursor
+    Mono<CursorPage<StudentEnrollmentResponse>> getEnrollmentsByInstitutionPage(String institutionId, String cursor, Integer size);
+
+    Mono<CursorPage<StudentEnrollmentResponse>> getEnrollmentsByClassroomPage(String classroomId, String institutionId, String cursor, Integer size);
+
 }
\ No newline at end of file
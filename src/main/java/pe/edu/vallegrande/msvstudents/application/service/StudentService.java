@@ -2,11 +2,13 @@ package pe.edu.vallegrande.msvstudents.application.service;
 
 import pe.edu.vallegrande.msvstudents.infrastructure.dto.request.CreateStudentRequest;
 import pe.edu.vallegrande.msvstudents.infrastructure.dto.request.UpdateStudentRequest;
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.BulkStudentsResponse;
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.CursorPage;
 import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.StudentResponse;
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.StudentStatisticsResponse;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import java.util.List;
-import java.util.Map;
 
 public interface StudentService {
 
@@ -26,19 +28,31 @@ public interface StudentService {
 
     // Nuevos métodos para lógica de negocio
     Flux<StudentResponse> getUnenrolledStudents(String institutionId);
+
+    Mono<Long> countUnenrolledStudents(String institutionId);
     
-    Mono<Map<String, Object>> createStudentsBulk(List<CreateStudentRequest> requests, String institutionId);
+    // summaryOnly omite la lista de estudiantes creados en la respuesta
+    Mono<BulkStudentsResponse> createStudentsBulk(List<CreateStudentRequest> requests, String institutionId, boolean summaryOnly);
     
-    Flux<StudentResponse> searchStudents(String query, String institutionId);
+    // Resultados ordenados por relevancia; limit null devuelve todas las coincidencias
+    // y fuzzy agrega coincidencias aproximadas (errores de tipeo)
+    Flux<StudentResponse> searchStudents(String query, String institutionId, Integer limit, boolean fuzzy);
     
     Flux<StudentResponse> getStudentsByGrade(String grade, String institutionId);
     
     Flux<StudentResponse> getStudentsByStatus(String status, String institutionId);
     
-    Mono<Map<String, Object>> getStudentStatistics(String institutionId);
+    Mono<StudentStatisticsResponse> getStudentStatistics(String institutionId);
     
     Mono<StudentResponse> deactivateStudent(String studentId, String institutionId);
     
     Mono<StudentResponse> activateStudent(String studentId, String institutionId);
 
+    // Paginación por cursor
+    Mono<CursorPage<StudentResponse>> findAllPage(String cursor, Integer size);
+
+    Mono<CursorPage<StudentResponse>> getStudentsByInstitutionPage(String institutionId, String cursor, Integer size);
+
+    Mono<CursorPage<StudentResponse>> getStudentsByStatusPage(String status, String institutionId, String cursor, Integer size);
+
 }
\ No newline at end of file
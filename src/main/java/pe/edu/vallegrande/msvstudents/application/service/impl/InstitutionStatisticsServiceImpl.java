@@ -0,0 +1,189 @@
+package pe.edu.vallegrande.msvstudents.application.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import pe.edu.vallegrande.msvstudents.application.service.InstitutionStatisticsService;
+import pe.edu.vallegrande.msvstudents.domain.enums.EnrollmentStatus;
+import pe.edu.vallegrande.msvstudents.domain.enums.Status;
+import pe.edu.vallegrande.msvstudents.domain.model.InstitutionStatistics;
+import pe.edu.vallegrande.msvstudents.domain.model.Student;
+import pe.edu.vallegrande.msvstudents.domain.model.StudentEnrollment;
+import pe.edu.vallegrande.msvstudents.infrastructure.repository.StatisticsRepository;
+import pe.edu.vallegrande.msvstudents.infrastructure.repository.StudentEnrollmentRepository;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Contadores materializados por institución (institution_stats): cada escritura aplica sus
+ * deltas con un $inc atómico y el dashboard se resuelve con una lectura por _id.
+ *
+ * "No matriculados" depende de las demás matrículas del estudiante: cuando una matrícula entra o
+ * sale de ACTIVE se cuentan las activas que quedan después de guardar. Dos escrituras concurrentes
+ * sobre el mismo estudiante pueden dejar ese conteo desfasado; InstitutionStatisticsReconciler lo corrige.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InstitutionStatisticsServiceImpl implements InstitutionStatisticsService {
+
+    private final StatisticsRepository statisticsRepository;
+    private final StudentEnrollmentRepository enrollmentRepository;
+
+    @Override
+    public Mono<InstitutionStatistics> getStatistics(String institutionId) {
+        return statisticsRepository.findMaterializedStatistics(institutionId)
+                .switchIfEmpty(Mono.defer(() -> statisticsRepository.aggregateInstitutionStatistics(institutionId)
+                        .flatMap(statistics -> statisticsRepository.saveMaterializedStatistics(institutionId, statistics, null)
+                                .onErrorResume(error -> {
+                                    log.warn("Institution statistics for {} could not be materialized: {}", institutionId, error.getMessage());
+                                    return Mono.just(false);
+                                })
+                                .thenReturn(statistics))));
+    }
+
+    @Override
+    public Mono<Void> studentsCreated(String institutionId, List<Student> students) {
+        if (students.isEmpty()) {
+            return Mono.empty();
+        }
+        InstitutionStatistics delta = new InstitutionStatistics();
+        delta.setTotalStudents(students.size());
+        // Un estudiante recién creado todavía no tiene matrículas
+        delta.setUnenrolledStudents(students.size());
+        for (Student student : students) {
+            if (student.getStatus() != null) {
+                delta.getStudentsByStatus().merge(student.getStatus(), 1L, Long::sum);
+            }
+        }
+        return increment(institutionId, Mono.just(delta));
+    }
+
+    @Override
+    public Mono<Void> studentStatusChanged(String institutionId, Status previousStatus, Status currentStatus) {
+        if (previousStatus == currentStatus) {
+            return Mono.empty();
+        }
+        InstitutionStatistics delta = new InstitutionStatistics();
+        moveStatus(delta.getStudentsByStatus(), previousStatus, currentStatus);
+        return increment(institutionId, Mono.just(delta));
+    }
+
+    @Override
+    public Mono<Void> enrollmentsCreated(String institutionId, List<StudentEnrollment> enrollments) {
+        if (enrollments.isEmpty()) {
+            return Mono.empty();
+        }
+        InstitutionStatistics delta = new InstitutionStatistics();
+        delta.setTotalEnrollments(enrollments.size());
+        for (StudentEnrollment enrollment : enrollments) {
+            if (enrollment.getStatus() != null) {
+                delta.getEnrollmentsByStatus().merge(enrollment.getStatus(), 1L, Long::sum);
+            }
+        }
+        Map<String, Long> createdActiveByStudent = enrollments.stream()
+                .filter(enrollment -> enrollment.getStatus() == EnrollmentStatus.ACTIVE)
+                .collect(Collectors.groupingBy(StudentEnrollment::getStudentId, Collectors.counting()));
+        if (createdActiveByStudent.isEmpty()) {
+            return increment(institutionId, Mono.just(delta));
+        }
+        // Deja de estar sin matrícula quien no tiene más activas que las recién creadas
+        return increment(institutionId, enrollmentRepository.countActiveByStudentIds(createdActiveByStudent.keySet(), institutionId)
+                .map(activeByStudent -> {
+                    long firstActive = createdActiveByStudent.entrySet().stream()
+                            .filter(created -> activeByStudent.getOrDefault(created.getKey(), 0L) <= created.getValue())
+                            .count();
+                    delta.setUnenrolledStudents(-firstActive);
+                    return delta;
+                }));
+    }
+
+    @Override
+    public Mono<Void> enrollmentStatusChanged(String institutionId, StudentEnrollment enrollment, EnrollmentStatus previousStatus) {
+        EnrollmentStatus currentStatus = enrollment.getStatus();
+        if (previousStatus == currentStatus) {
+            return Mono.empty();
+        }
+        InstitutionStatistics delta = new InstitutionStatistics();
+        moveStatus(delta.getEnrollmentsByStatus(), previousStatus, currentStatus);
+        boolean wasActive = previousStatus == EnrollmentStatus.ACTIVE;
+        boolean isActive = currentStatus == EnrollmentStatus.ACTIVE;
+        if (wasActive == isActive) {
+            return increment(institutionId, Mono.just(delta));
+        }
+        return increment(institutionId, enrollmentRepository.countActiveByStudentIds(List.of(enrollment.getStudentId()), institutionId)
+                .map(activeByStudent -> {
+                    long active = activeByStudent.getOrDefault(enrollment.getStudentId(), 0L);
+                    if (isActive && active <= 1) {
+                        delta.setUnenrolledStudents(-1);
+                    } else if (wasActive && active == 0) {
+                        delta.setUnenrolledStudents(1);
+                    }
+                    return delta;
+                }));
+    }
+
+    @Override
+    public Mono<Boolean> reconcile(String institutionId) {
+        // La versión se lee antes de agregar: si llega un $inc en medio, el reemplazo no aplica y se reintenta en la próxima pasada
+        return statisticsRepository.findMaterializedStatistics(institutionId)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(materialized -> statisticsRepository.aggregateInstitutionStatistics(institutionId)
+                        .flatMap(actual -> {
+                            if (materialized.isPresent() && sameCounts(materialized.get(), actual)) {
+                                return Mono.just(false);
+                            }
+                            Long expectedVersion = materialized.map(InstitutionStatistics::getVersion).orElse(null);
+                            return statisticsRepository.saveMaterializedStatistics(institutionId, actual, expectedVersion)
+                                    .doOnNext(replaced -> {
+                                        if (replaced && materialized.isPresent()) {
+                                            log.info("Institution statistics drift corrected for {}: {} -> {}",
+                                                    institutionId, materialized.get(), actual);
+                                        }
+                                    });
+                        }));
+    }
+
+    private Mono<Void> increment(String institutionId, Mono<InstitutionStatistics> delta) {
+        return delta
+                .flatMap(statistics -> statisticsRepository.incrementStatistics(institutionId, statistics))
+                .onErrorResume(error -> {
+                    log.warn("Institution statistics for {} not updated, the reconciler will correct them: {}",
+                            institutionId, error.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private static <E extends Enum<E>> void moveStatus(Map<E, Long> counts, E previousStatus, E currentStatus) {
+        if (previousStatus != null) {
+            counts.merge(previousStatus, -1L, Long::sum);
+        }
+        if (currentStatus != null) {
+            counts.merge(currentStatus, 1L, Long::sum);
+        }
+    }
+
+    static boolean sameCounts(InstitutionStatistics first, InstitutionStatistics second) {
+        if (first.getTotalStudents() != second.getTotalStudents()
+                || first.getUnenrolledStudents() != second.getUnenrolledStudents()
+                || first.getTotalEnrollments() != second.getTotalEnrollments()) {
+            return false;
+        }
+        for (Status status : Status.values()) {
+            if (first.getStudentCount(status) != second.getStudentCount(status)) {
+                return false;
+            }
+        }
+        for (EnrollmentStatus status : EnrollmentStatus.values()) {
+            if (first.getEnrollmentCount(status) != second.getEnrollmentCount(status)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
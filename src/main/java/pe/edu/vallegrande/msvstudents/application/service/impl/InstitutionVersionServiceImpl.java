@@ -0,0 +1,54 @@
+package pe.edu.vallegrande.msvstudents.application.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import pe.edu.vallegrande.msvstudents.application.service.InstitutionVersionService;
+import pe.edu.vallegrande.msvstudents.domain.model.InstitutionVersion;
+import pe.edu.vallegrande.msvstudents.infrastructure.repository.InstitutionVersionRepository;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Versión por institución guardada en Mongo (InstitutionVersionRepository): cada escritura la
+ * incrementa de forma atómica y todas las réplicas validan If-None-Match / If-Modified-Since
+ * contra el mismo contador, con una lectura por _id por solicitud.
+ */
+@Slf4j
+@Service
+public class InstitutionVersionServiceImpl implements InstitutionVersionService {
+
+    private final InstitutionVersionRepository versionRepository;
+    private Clock clock = Clock.systemUTC();
+
+    public InstitutionVersionServiceImpl(InstitutionVersionRepository versionRepository) {
+        this.versionRepository = versionRepository;
+    }
+
+    @Override
+    public Mono<InstitutionVersion> current(String institutionId) {
+        // Institución sin escrituras todavía: se crea el contador para tener un validador estable
+        return versionRepository.findByInstitutionId(institutionId)
+                .switchIfEmpty(Mono.defer(() -> increment(institutionId)
+                        .then(versionRepository.findByInstitutionId(institutionId))));
+    }
+
+    @Override
+    public Mono<Void> bump(String institutionId) {
+        if (institutionId == null) {
+            return Mono.empty();
+        }
+        return increment(institutionId)
+                .onErrorResume(error -> {
+                    log.warn("Version of institution {} not bumped, conditional GETs may answer 304 until the next write: {}",
+                            institutionId, error.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    // Last-Modified tiene precisión de segundos; el repositorio garantiza que siempre avance
+    private Mono<Void> increment(String institutionId) {
+        return versionRepository.increment(institutionId, clock.instant().truncatedTo(ChronoUnit.SECONDS));
+    }
+}
@@ -0,0 +1,65 @@
+package pe.edu.vallegrande.msvstudents.application.service.impl;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import pe.edu.vallegrande.msvstudents.application.service.QrCodeService;
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.QrCodeImage;
+import pe.edu.vallegrande.msvstudents.infrastructure.exception.ResourceNotFoundException;
+import pe.edu.vallegrande.msvstudents.infrastructure.exception.custom.InsufficientPermissionsException;
+import pe.edu.vallegrande.msvstudents.infrastructure.repository.StudentEnrollmentRepository;
+import pe.edu.vallegrande.msvstudents.infrastructure.util.QrCodeRenderer;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+@Service
+public class QrCodeServiceImpl implements QrCodeService {
+
+    private final StudentEnrollmentRepository enrollmentRepository;
+    private final Scheduler qrRenderScheduler;
+    private final AsyncCache<String, QrCodeImage> qrImageCache;
+
+    public QrCodeServiceImpl(StudentEnrollmentRepository enrollmentRepository,
+                             @Qualifier("qrRenderScheduler") Scheduler qrRenderScheduler,
+                             AsyncCache<String, QrCodeImage> qrImageCache) {
+        this.enrollmentRepository = enrollmentRepository;
+        this.qrRenderScheduler = qrRenderScheduler;
+        this.qrImageCache = qrImageCache;
+    }
+
+    @Override
+    public Mono<QrCodeImage> getEnrollmentQrImage(String enrollmentId, String institutionId) {
+        // Cargas concurrentes del mismo id comparten un único future; la cancelación de un
+        // suscriptor no debe cancelar la carga que esperan los demás.
+        return Mono.fromFuture(() -> qrImageCache.get(enrollmentId, (id, executor) -> load(id).toFuture()), true)
+                .flatMap(image -> {
+                    if (image.getInstitutionId() == null || !image.getInstitutionId().equals(institutionId)) {
+                        return Mono.error(new InsufficientPermissionsException("SECRETARY", "access enrollment from another institution"));
+                    }
+                    return Mono.just(image);
+                });
+    }
+
+    @Override
+    public Mono<String> getEnrollmentQrDataUri(String enrollmentId, String institutionId) {
+        return getEnrollmentQrImage(enrollmentId, institutionId)
+                .map(image -> QrCodeRenderer.toDataUri(image.getPng()));
+    }
+
+    private Mono<QrCodeImage> load(String enrollmentId) {
+        return enrollmentRepository.findById(enrollmentId)
+                .switchIfEmpty(Mono.error(new ResourceNotFoundException("Enrollment not found with id: " + enrollmentId)))
+                .flatMap(enrollment -> {
+                    String qrCode = enrollment.getQrCode();
+                    if (qrCode == null) {
+                        return Mono.error(new ResourceNotFoundException("Enrollment has no QR code: " + enrollmentId));
+                    }
+                    return Mono.fromCallable(() -> new QrCodeImage(
+                                enrollment.getId(),
+                                enrollment.getInstitutionId(),
+                                QrCodeRenderer.etag(qrCode, QrCodeRenderer.DEFAULT_SIZE),
+                                QrCodeRenderer.renderPng(qrCode)))
+                            .subscribeOn(qrRenderScheduler);
+                });
+    }
+}
@@ -0,0 +1,30 @@
+package pe.edu.vallegrande.msvstudents.application.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import pe.edu.vallegrande.msvstudents.application.service.InstitutionStatisticsService;
+import pe.edu.vallegrande.msvstudents.application.service.StatisticsService;
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.DashboardStatisticsResponse;
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.InstitutionOverviewResponse;
+import pe.edu.vallegrande.msvstudents.infrastructure.util.StatisticsMapper;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+public class StatisticsServiceImpl implements StatisticsService {
+
+    // Lectura puntual del documento institution_stats, no la agregación completa
+    private final InstitutionStatisticsService institutionStatistics;
+
+    @Override
+    public Mono<DashboardStatisticsResponse> getDashboardStatistics(String institutionId) {
+        return institutionStatistics.getStatistics(institutionId)
+                .map(StatisticsMapper::toDashboard);
+    }
+
+    @Override
+    public Mono<InstitutionOverviewResponse> getInstitutionOverview(String institutionId) {
+        return institutionStatistics.getStatistics(institutionId)
+                .map(StatisticsMapper::toOverview);
+    }
+}
@@ -1,12 +1,21 @@
 package pe.edu.vallegrande.msvstudents.application.service.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import pe.edu.vallegrande.msvstudents.application.service.InstitutionStatisticsService;
+import pe.edu.vallegrande.msvstudents.application.service.InstitutionVersionService;
 import pe.edu.vallegrande.msvstudents.application.service.StudentEnrollmentService;
 import pe.edu.vallegrande.msvstudents.domain.enums.EnrollmentStatus;
+import pe.edu.vallegrande.msvstudents.domain.model.EnrollmentWithStudent;
+import pe.edu.vallegrande.msvstudents.domain.model.Student;
 import pe.edu.vallegrande.msvstudents.domain.model.StudentEnrollment;
 import pe.edu.vallegrande.msvstudents.infrastructure.dto.request.CreateStudentEnrollmentRequest;
 import pe.edu.vallegrande.msvstudents.infrastructure.dto.request.UpdateStudentEnrollmentRequest;
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.BulkEnrollmentsResponse;
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.BulkFailure;
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.CursorPage;
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.EnrollmentStatisticsResponse;
 import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.StudentEnrollmentResponse;
 import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.EnrollmentWithStudentResponse;
 import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.InternalEnrollmentResponse;
@@ -14,15 +23,18 @@ import pe.edu.vallegrande.msvstudents.infrastructure.exception.ResourceNotFoundE
 import pe.edu.vallegrande.msvstudents.infrastructure.exception.custom.InsufficientPermissionsException;
 import pe.edu.vallegrande.msvstudents.infrastructure.repository.StudentEnrollmentRepository;
 import pe.edu.vallegrande.msvstudents.infrastructure.repository.StudentRepository;
+import pe.edu.vallegrande.msvstudents.infrastructure.util.CursorUtils;
 import pe.edu.vallegrande.msvstudents.infrastructure.util.StudentEnrollmentMapper;
 import pe.edu.vallegrande.msvstudents.infrastructure.util.EnrollmentWithStudentMapper;
 import pe.edu.vallegrande.msvstudents.infrastructure.util.InternalEnrollmentMapper;
+import pe.edu.vallegrande.msvstudents.infrastructure.util.StatisticsMapper;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
-import java.util.HashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -30,9 +42,25 @@ public class StudentEnrollmentServiceImpl implements StudentEnrollmentService {
 
     private final StudentEnrollmentRepository enrollmentRepository;
     private final StudentRepository studentRepository;
+    private final InstitutionStatisticsService institutionStatistics;
+    private final InstitutionVersionService institutionVersions;
+
+    // Tamaño de cada insertMany en la matrícula masiva
+    @Value("${enrollments.bulk.chunk-size:200}")
+    private int bulkChunkSize = 200;
+
+    private static final String STUDENT_JOIN_LOOKUP = "lookup";
+
+    // Cruce matrícula-estudiante por aula: "batch" ($in por ventana) o "lookup" (una agregación)
+    @Value("${enrollments.student-join.mode:batch}")
+    private String studentJoinMode = "batch";
+
+    @Value("${enrollments.student-join.window-size:100}")
+    private int studentJoinWindowSize = 100;
 
     @Override
     public Mono<StudentEnrollmentResponse> createEnrollment(CreateStudentEnrollmentRequest request, String institutionId) {
+        // Solo se lee institutionId, que no cambia: la copia en cache basta (el estudiante no se guarda)
         return studentRepository.findById(request.getStudentId())
                 .switchIfEmpty(Mono.error(new ResourceNotFoundException("Student not found with id: " + request.getStudentId())))
                 .flatMap(student -> {
@@ -42,8 +70,10 @@ public class StudentEnrollmentServiceImpl implements StudentEnrollmentService {
                     StudentEnrollment enrollment = StudentEnrollmentMapper.toEntity(request);
                     // Denormalize institutionId into enrollment so we can query enrollments per institution
                     enrollment.setInstitutionId(institutionId);
-                    return enrollmentRepository.save(enrollment);
+                    return enrollmentRepository.save(enrollment)
+                            .flatMap(saved -> institutionStatistics.enrollmentsCreated(institutionId, List.of(saved)).thenReturn(saved));
                 })
+                .flatMap(this::afterWrite)
                 .map(StudentEnrollmentMapper::toResponse);
     }
 
@@ -63,9 +93,11 @@ public class StudentEnrollmentServiceImpl implements StudentEnrollmentService {
                             if (!student.getInstitutionId().equals(institutionId)) {
                                 return Mono.error(new InsufficientPermissionsException("SECRETARY", "update an enrollment from another institution"));
                             }
+                            EnrollmentStatus previousStatus = enrollment.getStatus();
                             StudentEnrollment updatedEnrollment = StudentEnrollmentMapper.updateEntity(enrollment, request);
-                            return enrollmentRepository.save(updatedEnrollment);
+                            return saveWithStatusChange(updatedEnrollment, previousStatus, institutionId);
                         }))
+                .flatMap(this::afterWrite)
                 .map(StudentEnrollmentMapper::toResponse);
     }
 
@@ -93,6 +125,7 @@ public class StudentEnrollmentServiceImpl implements StudentEnrollmentService {
                     // In a real scenario, you would set the field and save.
                     return enrollmentRepository.save(enrollment);
                 })
+                .flatMap(this::afterWrite)
                 .map(StudentEnrollmentMapper::toResponse);
     }
 
@@ -120,30 +153,83 @@ public class StudentEnrollmentServiceImpl implements StudentEnrollmentService {
     }
 
     @Override
-    public Mono<Map<String, Object>> createBulkEnrollments(List<CreateStudentEnrollmentRequest> requests, String institutionId) {
-        AtomicInteger successCount = new AtomicInteger(0);
-        AtomicInteger errorCount = new AtomicInteger(0);
-        
-        return Flux.fromIterable(requests)
-                .flatMap(request -> 
-                    createEnrollment(request, institutionId)
-                        .doOnNext(enrollment -> successCount.incrementAndGet())
-                        .onErrorResume(error -> {
-                            errorCount.incrementAndGet();
-                            return Mono.empty();
-                        })
-                )
-                .collectList()
-                .map(enrollments -> {
-                    Map<String, Object> result = new HashMap<>();
-                    result.put("totalRequested", requests.size());
-                    result.put("successfullyCreated", successCount.get());
-                    result.put("errors", errorCount.get());
-                    result.put("enrollments", enrollments);
-                    return result;
+    public Mono<BulkEnrollmentsResponse> createBulkEnrollments(List<CreateStudentEnrollmentRequest> requests, String institutionId, boolean summaryOnly) {
+        Set<String> studentIds = requests.stream()
+                .map(CreateStudentEnrollmentRequest::getStudentId)
+                .collect(Collectors.toSet());
+
+        // Una sola consulta $in para todos los estudiantes; la pertenencia se valida en memoria
+        return studentRepository.findAllByIds(studentIds)
+                .collectMap(Student::getId, Student::getInstitutionId)
+                .flatMap(institutionByStudent -> {
+                    List<BulkFailure> failures = new ArrayList<>();
+                    List<Integer> pending = new ArrayList<>();
+                    for (int i = 0; i < requests.size(); i++) {
+                        String studentId = requests.get(i).getStudentId();
+                        String studentInstitution = institutionByStudent.get(studentId);
+                        if (studentInstitution == null) {
+                            failures.add(BulkFailure.ofStudent(i, studentId, "Student not found with id: " + studentId));
+                        } else if (!studentInstitution.equals(institutionId)) {
+                            failures.add(BulkFailure.ofStudent(i, studentId, "Cannot enroll a student from another institution"));
+                        } else {
+                            pending.add(i);
+                        }
+                    }
+                    return Flux.fromIterable(pending)
+                            .buffer(Math.max(1, bulkChunkSize))
+                            .concatMap(chunk -> insertChunk(chunk, requests, institutionId, failures))
+                            .collectList()
+                            .flatMap(enrollments -> institutionStatistics.enrollmentsCreated(institutionId, enrollments).thenReturn(enrollments))
+                            .transform(write -> bumpAfter(institutionId, write))
+                            .map(enrollments -> {
+                                failures.sort(Comparator.comparingInt(BulkFailure::index));
+                                return new BulkEnrollmentsResponse(requests.size(), enrollments.size(), failures.size(), failures,
+                                        summaryOnly ? null : enrollments.stream().map(StudentEnrollmentMapper::toResponse).toList());
+                            });
                 });
     }
 
+    // Inserta un lote con insertMany no ordenado; los rechazos se reportan con el índice de la petición
+    private Flux<StudentEnrollment> insertChunk(List<Integer> chunk, List<CreateStudentEnrollmentRequest> requests,
+                                                String institutionId, List<BulkFailure> failures) {
+        List<StudentEnrollment> enrollments = chunk.stream()
+                .map(index -> {
+                    StudentEnrollment enrollment = StudentEnrollmentMapper.toEntity(requests.get(index));
+                    enrollment.setInstitutionId(institutionId);
+                    return enrollment;
+                })
+                .toList();
+        return enrollmentRepository.insertAllUnordered(enrollments)
+                .flatMapMany(result -> {
+                    List<StudentEnrollment> created = new ArrayList<>();
+                    for (int i = 0; i < enrollments.size(); i++) {
+                        StudentEnrollment enrollment = enrollments.get(i);
+                        if (result.isFailed(i)) {
+                            failures.add(BulkFailure.ofStudent(chunk.get(i), enrollment.getStudentId(), result.getFailures().get(i)));
+                        } else {
+                            created.add(enrollment);
+                        }
+                    }
+                    return Flux.fromIterable(created);
+                });
+    }
+
+    private Mono<StudentEnrollment> saveWithStatusChange(StudentEnrollment enrollment, EnrollmentStatus previousStatus, String institutionId) {
+        return enrollmentRepository.save(enrollment)
+                .flatMap(saved -> institutionStatistics.enrollmentStatusChanged(institutionId, saved, previousStatus).thenReturn(saved));
+    }
+
+    // Antes de emitir el resultado; un lote puede fallar después de insertar otros, así que también con error
+    private <T> Mono<T> bumpAfter(String institutionId, Mono<T> write) {
+        return write
+                .flatMap(result -> institutionVersions.bump(institutionId).thenReturn(result))
+                .onErrorResume(error -> institutionVersions.bump(institutionId).then(Mono.error(error)));
+    }
+
+    private Mono<StudentEnrollment> afterWrite(StudentEnrollment enrollment) {
+        return institutionVersions.bump(enrollment.getInstitutionId()).thenReturn(enrollment);
+    }
+
     @Override
     public Flux<StudentEnrollmentResponse> getEnrollmentsByStatus(String status, String institutionId) {
         EnrollmentStatus enrollmentStatus = EnrollmentStatus.valueOf(status.toUpperCase());
@@ -153,35 +239,9 @@ public class StudentEnrollmentServiceImpl implements StudentEnrollmentService {
     }
 
     @Override
-    public Mono<Map<String, Object>> getEnrollmentStatistics(String institutionId) {
-        return enrollmentRepository.findByInstitutionId(institutionId)
-                .collectList()
-                .map(enrollments -> {
-                    Map<String, Object> stats = new HashMap<>();
-                    stats.put("totalEnrollments", enrollments.size());
-                    
-                    long activeCount = enrollments.stream()
-                        .filter(e -> e.getStatus() == EnrollmentStatus.ACTIVE)
-                        .count();
-                    stats.put("activeEnrollments", activeCount);
-                    
-                    long retiredCount = enrollments.stream()
-                        .filter(e -> e.getStatus() == EnrollmentStatus.RETIRED)
-                        .count();
-                    stats.put("retiredEnrollments", retiredCount);
-                    
-                    long transferredCount = enrollments.stream()
-                        .filter(e -> e.getStatus() == EnrollmentStatus.TRANSFER)
-                        .count();
-                    stats.put("transferredEnrollments", transferredCount);
-                    
-                    long completedCount = enrollments.stream()
-                        .filter(e -> e.getStatus() == EnrollmentStatus.COMPLETED)
-                        .count();
-                    stats.put("completedEnrollments", completedCount);
-                    
-                    return stats;
-                });
+    public Mono<EnrollmentStatisticsResponse> getEnrollmentStatistics(String institutionId) {
+        return institutionStatistics.getStatistics(institutionId)
+                .map(StatisticsMapper::toEnrollmentStatistics);
     }
 
     @Override
@@ -192,11 +252,13 @@ public class StudentEnrollmentServiceImpl implements StudentEnrollmentService {
                     if (!enrollment.getInstitutionId().equals(institutionId)) {
                         return Mono.error(new InsufficientPermissionsException("SECRETARY", "transfer an enrollment from another institution"));
                     }
+                    EnrollmentStatus previousStatus = enrollment.getStatus();
                     enrollment.setClassroomId(newClassroomId);
                     enrollment.setStatus(EnrollmentStatus.TRANSFER);
                     enrollment.setTransferReason(reason);
-                    return enrollmentRepository.save(enrollment);
+                    return saveWithStatusChange(enrollment, previousStatus, institutionId);
                 })
+                .flatMap(this::afterWrite)
                 .map(StudentEnrollmentMapper::toResponse);
     }
 
@@ -214,32 +276,66 @@ public class StudentEnrollmentServiceImpl implements StudentEnrollmentService {
                     if (!enrollment.getInstitutionId().equals(institutionId)) {
                         return Mono.error(new InsufficientPermissionsException("SECRETARY", "cancel an enrollment from another institution"));
                     }
+                    EnrollmentStatus previousStatus = enrollment.getStatus();
                     enrollment.setStatus(EnrollmentStatus.RETIRED);
                     enrollment.setTransferReason(reason);
-                    return enrollmentRepository.save(enrollment);
+                    return saveWithStatusChange(enrollment, previousStatus, institutionId);
                 })
+                .flatMap(this::afterWrite)
                 .map(StudentEnrollmentMapper::toResponse);
     }
 
     @Override
     public Flux<EnrollmentWithStudentResponse> getEnrollmentsByClassroomWithStudentInfo(String classroomId, String institutionId) {
-        return enrollmentRepository.findByClassroomId(classroomId)
-                .filter(enrollment -> enrollment.getInstitutionId().equals(institutionId))
-                .flatMap(enrollment -> 
-                    studentRepository.findById(enrollment.getStudentId())
-                        .map(student -> EnrollmentWithStudentMapper.toResponse(enrollment, student))
-                        .switchIfEmpty(Mono.empty()) // Si no encuentra el estudiante, omite esta matrícula
-                );
+        return findByClassroomWithStudents(classroomId, institutionId)
+                .map(pair -> EnrollmentWithStudentMapper.toResponse(pair.getEnrollment(), pair.getStudent()));
     }
 
     @Override
     public Flux<InternalEnrollmentResponse> getInternalEnrollmentsByClassroom(String classroomId, String institutionId) {
-        return enrollmentRepository.findByClassroomId(classroomId)
-                // No filtrar por institución en endpoints internos
-                .flatMap(enrollment -> 
-                    studentRepository.findById(enrollment.getStudentId())
-                        .map(student -> InternalEnrollmentMapper.toResponse(enrollment, student))
-                        .switchIfEmpty(Mono.empty()) // Si no encuentra el estudiante, omite esta matrícula
-                );
+        // No filtrar por institución en endpoints internos
+        return findByClassroomWithStudents(classroomId, null)
+                .map(pair -> InternalEnrollmentMapper.toResponse(pair.getEnrollment(), pair.getStudent()));
+    }
+
+    // Si no encuentra el estudiante, omite la matrícula (en ambos modos)
+    private Flux<EnrollmentWithStudent> findByClassroomWithStudents(String classroomId, String institutionId) {
+        if (STUDENT_JOIN_LOOKUP.equalsIgnoreCase(studentJoinMode)) {
+            return enrollmentRepository.findByClassroomIdWithStudent(classroomId, institutionId);
+        }
+        return joinStudents(enrollmentRepository.findByClassroomId(classroomId)
+                .filter(enrollment -> institutionId == null || institutionId.equals(enrollment.getInstitutionId())));
+    }
+
+    // Agrupa las matrículas en ventanas y resuelve sus estudiantes con un $in por ventana, conservando el orden
+    private Flux<EnrollmentWithStudent> joinStudents(Flux<StudentEnrollment> enrollments) {
+        return enrollments
+                .buffer(Math.max(1, studentJoinWindowSize))
+                .concatMap(window -> studentRepository.findAllByIds(window.stream()
+                                .map(StudentEnrollment::getStudentId)
+                                .collect(Collectors.toSet()))
+                        .collectMap(Student::getId)
+                        .flatMapIterable(studentsById -> window.stream()
+                                .filter(enrollment -> studentsById.containsKey(enrollment.getStudentId()))
+                                .map(enrollment -> new EnrollmentWithStudent(enrollment, studentsById.get(enrollment.getStudentId())))
+                                .toList()));
+    }
+
+    @Override
+    public Mono<CursorPage<StudentEnrollmentResponse>> getEnrollmentsByInstitutionPage(String institutionId, String cursor, Integer size) {
+        int pageSize = CursorUtils.resolvePageSize(size);
+        return enrollmentRepository.findByInstitutionIdAfter(institutionId, CursorUtils.decode(cursor), pageSize + 1)
+                .map(StudentEnrollmentMapper::toResponse)
+                .collectList()
+                .map(enrollments -> CursorPage.of(enrollments, pageSize, StudentEnrollmentResponse::getId));
+    }
+
+    @Override
+    public Mono<CursorPage<StudentEnrollmentResponse>> getEnrollmentsByClassroomPage(String classroomId, String institutionId, String cursor, Integer size) {
+        int pageSize = CursorUtils.resolvePageSize(size);
+        return enrollmentRepository.findByClassroomIdAndInstitutionIdAfter(classroomId, institutionId, CursorUtils.decode(cursor), pageSize + 1)
+                .map(StudentEnrollmentMapper::toResponse)
+                .collectList()
+                .map(enrollments -> CursorPage.of(enrollments, pageSize, StudentEnrollmentResponse::getId));
     }
 }
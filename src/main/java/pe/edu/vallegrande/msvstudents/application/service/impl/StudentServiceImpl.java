@@ -1,32 +1,49 @@
 package pe.edu.vallegrande.msvstudents.application.service.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import pe.edu.vallegrande.msvstudents.application.service.InstitutionStatisticsService;
+import pe.edu.vallegrande.msvstudents.application.service.InstitutionVersionService;
 import pe.edu.vallegrande.msvstudents.application.service.StudentService;
 import pe.edu.vallegrande.msvstudents.domain.enums.Status;
-import pe.edu.vallegrande.msvstudents.domain.enums.EnrollmentStatus;
 import pe.edu.vallegrande.msvstudents.domain.model.Student;
 import pe.edu.vallegrande.msvstudents.infrastructure.dto.request.CreateStudentRequest;
 import pe.edu.vallegrande.msvstudents.infrastructure.dto.request.UpdateStudentRequest;
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.BulkFailure;
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.BulkStudentsResponse;
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.CursorPage;
 import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.StudentResponse;
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.StudentStatisticsResponse;
 import pe.edu.vallegrande.msvstudents.infrastructure.exception.ResourceNotFoundException;
 import pe.edu.vallegrande.msvstudents.infrastructure.exception.custom.InsufficientPermissionsException;
 import pe.edu.vallegrande.msvstudents.infrastructure.repository.StudentRepository;
-import pe.edu.vallegrande.msvstudents.infrastructure.repository.StudentEnrollmentRepository;
+import pe.edu.vallegrande.msvstudents.infrastructure.search.StudentSearchBackend;
+import pe.edu.vallegrande.msvstudents.infrastructure.util.CursorUtils;
+import pe.edu.vallegrande.msvstudents.infrastructure.util.StatisticsMapper;
+import pe.edu.vallegrande.msvstudents.infrastructure.util.SearchTextUtils;
 import pe.edu.vallegrande.msvstudents.infrastructure.util.StudentMapper;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.HashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class StudentServiceImpl implements StudentService {
 
     private final StudentRepository studentRepository;
-    private final StudentEnrollmentRepository studentEnrollmentRepository;
+    private final InstitutionStatisticsService institutionStatistics;
+    private final StudentSearchBackend searchIndex;
+    private final InstitutionVersionService institutionVersions;
+
+    // Tamaño de cada insertMany en la carga masiva
+    @Value("${students.bulk.chunk-size:200}")
+    private int bulkChunkSize = 200;
 
     @Override
     public Mono<StudentResponse> createStudent(CreateStudentRequest request, String institutionId) {
@@ -39,7 +56,10 @@ public class StudentServiceImpl implements StudentService {
                     }
                     // If not, create and save the new student
                     Student student = StudentMapper.toEntity(request, institutionId);
-                    return studentRepository.save(student).map(StudentMapper::toResponse);
+                    return studentRepository.save(student)
+                            .flatMap(saved -> institutionStatistics.studentsCreated(institutionId, List.of(saved)).thenReturn(saved))
+                            .flatMap(this::afterWrite)
+                            .map(StudentMapper::toResponse);
                 });
     }
 
@@ -64,16 +84,18 @@ public class StudentServiceImpl implements StudentService {
 
     @Override
     public Mono<StudentResponse> updateStudent(String studentId, UpdateStudentRequest request, String institutionId) {
-        return studentRepository.findById(studentId)
+        return studentRepository.findByIdForUpdate(studentId)
                 .switchIfEmpty(Mono.error(new ResourceNotFoundException("Student not found with id: " + studentId)))
                 .flatMap(student -> {
                     // Verify that the student belongs to the institution of the user making the request
                     if (!student.getInstitutionId().equals(institutionId)) {
                         return Mono.error(new InsufficientPermissionsException("SECRETARY", "update a student from another institution"));
                     }
+                    Status previousStatus = student.getStatus();
                     Student updatedStudent = StudentMapper.updateEntity(student, request);
-                    return studentRepository.save(updatedStudent);
+                    return saveWithStatusChange(updatedStudent, previousStatus);
                 })
+                .flatMap(this::afterWrite)
                 .map(StudentMapper::toResponse);
     }
 
@@ -96,55 +118,102 @@ public class StudentServiceImpl implements StudentService {
 
     @Override
     public Flux<StudentResponse> getUnenrolledStudents(String institutionId) {
-        return studentRepository.findByInstitutionId(institutionId)
-                .filterWhen(student -> 
-                    studentEnrollmentRepository.findByStudentIdAndInstitutionId(student.getId(), institutionId)
-                        .filter(enrollment -> enrollment.getStatus().equals(EnrollmentStatus.ACTIVE))
-                        .hasElements()
-                        .map(hasActiveEnrollments -> !hasActiveEnrollments)
-                )
+        return studentRepository.findUnenrolledByInstitutionId(institutionId)
                 .map(StudentMapper::toResponse);
     }
 
     @Override
-    public Mono<Map<String, Object>> createStudentsBulk(List<CreateStudentRequest> requests, String institutionId) {
-        AtomicInteger successCount = new AtomicInteger(0);
-        AtomicInteger errorCount = new AtomicInteger(0);
-        
+    public Mono<Long> countUnenrolledStudents(String institutionId) {
+        return studentRepository.countUnenrolledByInstitutionId(institutionId);
+    }
+
+    @Override
+    public Mono<BulkStudentsResponse> createStudentsBulk(List<CreateStudentRequest> requests, String institutionId, boolean summaryOnly) {
         // Limitar a 1000 estudiantes
         if (requests.size() > 1000) {
             return Mono.error(new IllegalArgumentException("Cannot process more than 1000 students at once"));
         }
-        
-        return Flux.fromIterable(requests)
-                .flatMap(request -> 
-                    createStudent(request, institutionId)
-                        .doOnNext(student -> successCount.incrementAndGet())
-                        .onErrorResume(error -> {
-                            errorCount.incrementAndGet();
-                            return Mono.empty();
-                        })
-                )
-                .collectList()
+
+        // Deduplicar en memoria por número de documento conservando el índice original
+        List<BulkFailure> failures = new ArrayList<>();
+        Map<String, Integer> firstIndexByDocument = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            String documentNumber = requests.get(i).getDocumentNumber();
+            if (firstIndexByDocument.putIfAbsent(documentNumber, i) != null) {
+                failures.add(BulkFailure.ofDocument(i, documentNumber, "Duplicate document number in request"));
+            }
+        }
+
+        // Una sola consulta $in para detectar los documentos ya registrados en la institución
+        return studentRepository.findExistingDocumentNumbers(institutionId, firstIndexByDocument.keySet())
+                .collect(Collectors.toSet())
+                .flatMap(existing -> {
+                    List<Integer> pending = new ArrayList<>();
+                    firstIndexByDocument.forEach((documentNumber, index) -> {
+                        if (existing.contains(documentNumber)) {
+                            failures.add(BulkFailure.ofDocument(index, documentNumber,
+                                    "Student with document number " + documentNumber + " already exists in this institution."));
+                        } else {
+                            pending.add(index);
+                        }
+                    });
+                    return Flux.fromIterable(pending)
+                            .buffer(Math.max(1, bulkChunkSize))
+                            .concatMap(chunk -> insertChunk(chunk, requests, institutionId, failures))
+                            .collectList()
+                            .flatMap(students -> institutionStatistics.studentsCreated(institutionId, students).thenReturn(students));
+                })
+                .transform(write -> bumpAfter(institutionId, write))
                 .map(students -> {
-                    Map<String, Object> result = new HashMap<>();
-                    result.put("totalRequested", requests.size());
-                    result.put("successfullyCreated", successCount.get());
-                    result.put("errors", errorCount.get());
-                    result.put("students", students);
-                    return result;
+                    failures.sort(Comparator.comparingInt(BulkFailure::index));
+                    return new BulkStudentsResponse(requests.size(), students.size(), failures.size(), failures,
+                            summaryOnly ? null : students.stream().map(StudentMapper::toResponse).toList());
+                });
+    }
+
+    // Inserta un lote con insertMany no ordenado; los rechazos se reportan con el índice de la petición
+    private Flux<Student> insertChunk(List<Integer> chunk, List<CreateStudentRequest> requests,
+                                      String institutionId, List<BulkFailure> failures) {
+        List<Student> students = chunk.stream()
+                .map(index -> StudentMapper.toEntity(requests.get(index), institutionId))
+                .toList();
+        return studentRepository.insertAllUnordered(students)
+                .flatMapMany(result -> {
+                    List<Student> created = new ArrayList<>();
+                    for (int i = 0; i < students.size(); i++) {
+                        Student student = students.get(i);
+                        if (result.isFailed(i)) {
+                            failures.add(BulkFailure.ofDocument(chunk.get(i), student.getDocumentNumber(), result.getFailures().get(i)));
+                        } else {
+                            searchIndex.index(student);
+                            created.add(student);
+                        }
+                    }
+                    return Flux.fromIterable(created);
                 });
     }
 
+    private Mono<Student> saveWithStatusChange(Student student, Status previousStatus) {
+        return studentRepository.save(student)
+                .flatMap(saved -> institutionStatistics.studentStatusChanged(saved.getInstitutionId(), previousStatus, saved.getStatus())
+                        .thenReturn(saved));
+    }
+
+    // Antes de emitir el resultado; un lote puede fallar después de insertar otros, así que también con error
+    private <T> Mono<T> bumpAfter(String institutionId, Mono<T> write) {
+        return write
+                .flatMap(result -> institutionVersions.bump(institutionId).thenReturn(result))
+                .onErrorResume(error -> institutionVersions.bump(institutionId).then(Mono.error(error)));
+    }
+
+    private Mono<Student> afterWrite(Student student) {
+        searchIndex.index(student);
+        return institutionVersions.bump(student.getInstitutionId()).thenReturn(student);
+    }
+
     @Override
-    public Flux<StudentResponse> searchStudents(String query, String institutionId) {
-        return studentRepository.findByInstitutionId(institutionId)
-                .filter(student -> 
-                    student.getFirstName().toLowerCase().contains(query.toLowerCase()) ||
-                    student.getLastName().toLowerCase().contains(query.toLowerCase()) ||
-                    student.getDocumentNumber().contains(query) ||
-                    (student.getParentEmail() != null && student.getParentEmail().toLowerCase().contains(query.toLowerCase()))
-                )
+    public Flux<StudentResponse> searchStudents(String query, String institutionId, Integer limit, boolean fuzzy) {
+        return searchIndex.search(query, institutionId, SearchTextUtils.resolveLimit(limit), fuzzy)
                 .map(StudentMapper::toResponse);
     }
 
@@ -165,47 +234,68 @@ public class StudentServiceImpl implements StudentService {
     }
 
     @Override
-    public Mono<Map<String, Object>> getStudentStatistics(String institutionId) {
-        return Mono.zip(
-            studentRepository.countByInstitutionId(institutionId),
-            studentRepository.countByInstitutionIdAndStatus(institutionId, Status.ACTIVE),
-            studentRepository.countByInstitutionIdAndStatus(institutionId, Status.INACTIVE),
-            getUnenrolledStudents(institutionId).count()
-        ).map(tuple -> {
-            Map<String, Object> stats = new HashMap<>();
-            stats.put("totalStudents", tuple.getT1());
-            stats.put("activeStudents", tuple.getT2());
-            stats.put("inactiveStudents", tuple.getT3());
-            stats.put("unenrolledStudents", tuple.getT4());
-            return stats;
-        });
+    public Mono<StudentStatisticsResponse> getStudentStatistics(String institutionId) {
+        return institutionStatistics.getStatistics(institutionId)
+                .map(StatisticsMapper::toStudentStatistics);
     }
 
     @Override
     public Mono<StudentResponse> deactivateStudent(String studentId, String institutionId) {
-        return studentRepository.findById(studentId)
+        return studentRepository.findByIdForUpdate(studentId)
                 .switchIfEmpty(Mono.error(new ResourceNotFoundException("Student not found with id: " + studentId)))
                 .flatMap(student -> {
                     if (!student.getInstitutionId().equals(institutionId)) {
                         return Mono.error(new InsufficientPermissionsException("SECRETARY", "deactivate a student from another institution"));
                     }
+                    Status previousStatus = student.getStatus();
                     student.setStatus(Status.INACTIVE);
-                    return studentRepository.save(student);
+                    return saveWithStatusChange(student, previousStatus);
                 })
+                .flatMap(this::afterWrite)
                 .map(StudentMapper::toResponse);
     }
 
     @Override
     public Mono<StudentResponse> activateStudent(String studentId, String institutionId) {
-        return studentRepository.findById(studentId)
+        return studentRepository.findByIdForUpdate(studentId)
                 .switchIfEmpty(Mono.error(new ResourceNotFoundException("Student not found with id: " + studentId)))
                 .flatMap(student -> {
                     if (!student.getInstitutionId().equals(institutionId)) {
                         return Mono.error(new InsufficientPermissionsException("SECRETARY", "activate a student from another institution"));
                     }
+                    Status previousStatus = student.getStatus();
                     student.setStatus(Status.ACTIVE);
-                    return studentRepository.save(student);
+                    return saveWithStatusChange(student, previousStatus);
                 })
+                .flatMap(this::afterWrite)
                 .map(StudentMapper::toResponse);
     }
+
+    @Override
+    public Mono<CursorPage<StudentResponse>> findAllPage(String cursor, Integer size) {
+        int pageSize = CursorUtils.resolvePageSize(size);
+        return studentRepository.findAllAfter(CursorUtils.decode(cursor), pageSize + 1)
+                .map(StudentMapper::toResponse)
+                .collectList()
+                .map(students -> CursorPage.of(students, pageSize, StudentResponse::getId));
+    }
+
+    @Override
+    public Mono<CursorPage<StudentResponse>> getStudentsByInstitutionPage(String institutionId, String cursor, Integer size) {
+        int pageSize = CursorUtils.resolvePageSize(size);
+        return studentRepository.findByInstitutionIdAfter(institutionId, CursorUtils.decode(cursor), pageSize + 1)
+                .map(StudentMapper::toResponse)
+                .collectList()
+                .map(students -> CursorPage.of(students, pageSize, StudentResponse::getId));
+    }
+
+    @Override
+    public Mono<CursorPage<StudentResponse>> getStudentsByStatusPage(String status, String institutionId, String cursor, Integer size) {
+        Status statusEnum = Status.valueOf(status.toUpperCase());
+        int pageSize = CursorUtils.resolvePageSize(size);
+        return studentRepository.findByInstitutionIdAndStatusAfter(institutionId, statusEnum, CursorUtils.decode(cursor), pageSize + 1)
+                .map(StudentMapper::toResponse)
+                .collectList()
+                .map(students -> CursorPage.of(students, pageSize, StudentResponse::getId));
+    }
 }
@@ -0,0 +1,15 @@
+package pe.edu.vallegrande.msvstudents.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Matrícula junto con su estudiante, resuelta por el join en lote o por $lookup.
+ */
+@Data
+@AllArgsConstructor
+public class EnrollmentWithStudent {
+
+    private StudentEnrollment enrollment;
+    private Student student;
+}
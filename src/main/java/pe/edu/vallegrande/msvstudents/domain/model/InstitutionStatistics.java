@@ -0,0 +1,46 @@
+package pe.edu.vallegrande.msvstudents.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import pe.edu.vallegrande.msvstudents.domain.enums.EnrollmentStatus;
+import pe.edu.vallegrande.msvstudents.domain.enums.Status;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Conteos por estado de estudiantes y matrículas de una institución, resueltos por el
+ * pipeline de agregación de estadísticas o leídos del documento materializado institution_stats.
+ * Como delta de $inc los conteos pueden ser negativos.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InstitutionStatistics {
+
+    private long totalStudents;
+
+    @Builder.Default
+    private Map<Status, Long> studentsByStatus = new EnumMap<>(Status.class);
+
+    private long unenrolledStudents;
+
+    private long totalEnrollments;
+
+    @Builder.Default
+    private Map<EnrollmentStatus, Long> enrollmentsByStatus = new EnumMap<>(EnrollmentStatus.class);
+
+    // Versión del documento materializado: aumenta con cada $inc (0 si se calculó con la agregación)
+    private long version;
+
+    public long getStudentCount(Status status) {
+        return studentsByStatus.getOrDefault(status, 0L);
+    }
+
+    public long getEnrollmentCount(EnrollmentStatus status) {
+        return enrollmentsByStatus.getOrDefault(status, 0L);
+    }
+}
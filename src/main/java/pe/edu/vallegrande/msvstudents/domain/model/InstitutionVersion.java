@@ -0,0 +1,15 @@
+package pe.edu.vallegrande.msvstudents.domain.model;
+
+import java.time.Instant;
+
+/**
+ * Versión de los datos (estudiantes + matrículas) de una institución, usada como validador HTTP:
+ * etag es un ETag débil ya formateado (W/"...") y lastModified tiene precisión de segundos.
+ */
+public record InstitutionVersion(String etag, Instant lastModified) {
+
+    // epoch identifica el contador (cambia si el documento se recrea), así una versión nunca se repite
+    public static InstitutionVersion of(String epoch, long version, Instant lastModified) {
+        return new InstitutionVersion("W/\"" + epoch + "-" + version + "\"", lastModified);
+    }
+}
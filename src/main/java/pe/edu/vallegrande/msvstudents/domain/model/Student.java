@@ -4,13 +4,13 @@ import lombok.Data;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
-import org.springframework.data.mongodb.core.index.Indexed;
 import pe.edu.vallegrande.msvstudents.domain.enums.DocumentType;
 import pe.edu.vallegrande.msvstudents.domain.enums.Gender;
 import pe.edu.vallegrande.msvstudents.domain.enums.Status;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 @Document(collection = "students")
@@ -31,8 +31,8 @@ public class Student {
     @Field("document_type")
     private DocumentType documentType;
 
+    // Único por institución: ver MongoIndexReconciler
     @Field("document_number")
-    @Indexed(unique = true)
     private String documentNumber;
 
     @Field("birth_date")
@@ -60,4 +60,8 @@ public class Student {
 
     @Field("updated_at")
     private LocalDateTime updatedAt;
+
+    // Palabras plegadas (sin tildes, en minúsculas) para búsquedas por prefijo: las mantiene StudentMapper
+    @Field("search_terms")
+    private List<String> searchTerms;
 }
\ No newline at end of file
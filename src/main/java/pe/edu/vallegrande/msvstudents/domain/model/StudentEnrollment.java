@@ -18,16 +18,14 @@ public class StudentEnrollment {
     @Id
     private String id;
 
+    // Índices compuestos por consulta: ver MongoIndexReconciler
     @Field("student_id")
-    @Indexed
     private String studentId;
 
     @Field("classroom_id")
-    @Indexed
     private String classroomId;
 
     @Field("institution_id")
-    @Indexed
     private String institutionId;
 
     @Field("enrollment_date")
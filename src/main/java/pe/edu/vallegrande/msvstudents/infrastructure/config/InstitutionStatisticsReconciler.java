@@ -0,0 +1,73 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.config;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import pe.edu.vallegrande.msvstudents.application.service.InstitutionStatisticsService;
+import pe.edu.vallegrande.msvstudents.infrastructure.repository.StatisticsRepository;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Recalcula periódicamente los contadores de institution_stats con la agregación y corrige el
+ * desfase: escrituras concurrentes sobre un mismo estudiante, $inc fallidos o documentos
+ * escritos fuera del servicio. Las instituciones se recorren de a una para no cargar Mongo.
+ */
+@Slf4j
+@Component
+@Profile("!inmemory")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "statistics.reconcile.enabled", havingValue = "true", matchIfMissing = true)
+public class InstitutionStatisticsReconciler {
+
+    private final StatisticsRepository statisticsRepository;
+    private final InstitutionStatisticsService institutionStatistics;
+
+    @Value("${statistics.reconcile.interval:PT10M}")
+    private Duration interval = Duration.ofMinutes(10);
+
+    @Value("${statistics.reconcile.initial-delay:PT1M}")
+    private Duration initialDelay = Duration.ofMinutes(1);
+
+    private volatile Disposable reconciling;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        reconciling = Flux.interval(initialDelay, interval)
+                .onBackpressureDrop()
+                .concatMap(tick -> reconcileAll(), 1)
+                .subscribe(corrected -> log.debug("Institution statistics reconciled: {} documents corrected", corrected));
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (reconciling != null) {
+            reconciling.dispose();
+        }
+    }
+
+    // Un error en una institución no detiene la pasada ni las siguientes
+    Mono<Long> reconcileAll() {
+        return statisticsRepository.findInstitutionIds()
+                .concatMap(institutionId -> institutionStatistics.reconcile(institutionId)
+                        .onErrorResume(error -> {
+                            log.warn("Institution statistics for {} not reconciled: {}", institutionId, error.getMessage());
+                            return Mono.just(false);
+                        }))
+                .filter(Boolean::booleanValue)
+                .count()
+                .onErrorResume(error -> {
+                    log.warn("Institution statistics reconciliation failed: {}", error.getMessage());
+                    return Mono.just(0L);
+                });
+    }
+}
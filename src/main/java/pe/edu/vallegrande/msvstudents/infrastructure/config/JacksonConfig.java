@@ -0,0 +1,27 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.NativeDetector;
+
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Blackbird reemplaza el acceso reflexivo a getters/setters/constructores por lambdas generadas
+     * una vez por tipo (LambdaMetafactory). Boot registra cualquier bean Module en su ObjectMapper.
+     * WebConfig lo agrega también al mapper de los codecs HTTP.
+     */
+    @Bean
+    public Module blackbirdModule() {
+        return accessorModule();
+    }
+
+    // En la imagen nativa no se pueden generar clases en tiempo de ejecución: se usa un módulo vacío
+    static Module accessorModule() {
+        return NativeDetector.inNativeImage() ? new SimpleModule("blackbird-disabled") : new BlackbirdModule();
+    }
+}
@@ -0,0 +1,138 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.TextIndexDefinition;
+import org.springframework.stereotype.Component;
+import pe.edu.vallegrande.msvstudents.domain.model.Student;
+import pe.edu.vallegrande.msvstudents.domain.model.StudentEnrollment;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Declara los índices compuestos que usan las consultas de los repositorios y los
+ * crea en segundo plano al arrancar, sin bloquear el inicio de la aplicación.
+ * Luego registra $indexStats para detectar índices sin uso (y consultas que recorren la colección).
+ */
+@Slf4j
+@Component
+@Profile("!inmemory")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "mongo.indexes.reconcile", havingValue = "true", matchIfMissing = true)
+public class MongoIndexReconciler {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    // Los índices de búsqueda solo se crean si la búsqueda se resuelve en Mongo
+    @Value("${students.search.backend:memory}")
+    private String searchBackend = "memory";
+
+    /**
+     * Índices por colección, nombrados según la consulta a la que sirven.
+     */
+    static final Map<Class<?>, List<Index>> INDEXES = Map.of(
+        Student.class, List.of(
+            // findByInstitutionId (+ keyset por _id), conteos y anti-join de no matriculados
+            new Index().named("students_institution_id")
+                    .on("institution_id", Sort.Direction.ASC).on("_id", Sort.Direction.ASC),
+            // findByInstitutionIdAndStatus (+ keyset por _id)
+            new Index().named("students_institution_status_id")
+                    .on("institution_id", Sort.Direction.ASC).on("status", Sort.Direction.ASC).on("_id", Sort.Direction.ASC),
+            // findByDocumentNumberAndInstitutionId y carga masiva: documento único por institución
+            new Index().named("students_institution_document_number").unique()
+                    .on("institution_id", Sort.Direction.ASC).on("document_number", Sort.Direction.ASC)
+        ),
+        StudentEnrollment.class, List.of(
+            // findByStudentIdAndInstitutionId y $lookup de matrículas activas por estudiante
+            new Index().named("enrollments_student_institution_status")
+                    .on("student_id", Sort.Direction.ASC).on("institution_id", Sort.Direction.ASC).on("status", Sort.Direction.ASC),
+            // findByClassroomId / findByClassroomIdIn (+ keyset por institución y _id)
+            new Index().named("enrollments_classroom_institution_id")
+                    .on("classroom_id", Sort.Direction.ASC).on("institution_id", Sort.Direction.ASC).on("_id", Sort.Direction.ASC),
+            // findByInstitutionId (+ keyset por _id) y estadísticas por institución
+            new Index().named("enrollments_institution_id")
+                    .on("institution_id", Sort.Direction.ASC).on("_id", Sort.Direction.ASC),
+            // existsByQrCode (conserva el nombre que generaba @Indexed)
+            new Index().named("qr_code").unique()
+                    .on("qr_code", Sort.Direction.ASC)
+        )
+    );
+
+    /**
+     * Índices del motor de búsqueda en Mongo (MongoStudentSearchBackend): prefijos anclados
+     * sobre search_terms y el índice de texto (uno por colección), sin stemming.
+     */
+    public static final List<IndexDefinition> SEARCH_INDEXES = List.of(
+        new Index().named("students_institution_search_terms")
+                .on("institution_id", Sort.Direction.ASC).on("search_terms", Sort.Direction.ASC),
+        new TextIndexDefinition.TextIndexDefinitionBuilder().named("students_text")
+                .onField("first_name").onField("last_name").onField("parent_email").onField("document_number")
+                .withDefaultLanguage("none")
+                .build()
+    );
+
+    /**
+     * Índices de una sola columna que generaban los @Indexed anteriores: quedan cubiertos por los
+     * compuestos, y el único global de document_number impedía repetir documento entre instituciones.
+     */
+    static final Map<Class<?>, Set<String>> OBSOLETE_INDEXES = Map.of(
+        Student.class, Set.of("document_number"),
+        StudentEnrollment.class, Set.of("student_id", "classroom_id", "institution_id")
+    );
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        Flux.fromIterable(INDEXES.entrySet())
+                .concatMap(entry -> reconcile(entry.getKey(), entry.getValue()))
+                .thenMany("mongo".equalsIgnoreCase(searchBackend) ? reconcile(Student.class, SEARCH_INDEXES) : Mono.empty())
+                .thenMany(Flux.fromIterable(INDEXES.keySet()).concatMap(this::logIndexStats))
+                .subscribe(
+                    null,
+                    error -> log.warn("Index reconciliation failed: {}", error.getMessage())
+                );
+    }
+
+    Mono<Void> reconcile(Class<?> entityClass, List<? extends IndexDefinition> indexes) {
+        String collection = mongoTemplate.getCollectionName(entityClass);
+        return Flux.fromIterable(indexes)
+                .concatMap(index -> mongoTemplate.indexOps(entityClass).ensureIndex(index instanceof Index compound ? compound.background() : index)
+                        .doOnNext(name -> log.info("Index {}.{} ensured", collection, name))
+                        .onErrorResume(error -> {
+                            log.warn("Index {}.{} could not be created: {}", collection, index.getIndexOptions().getString("name"), error.getMessage());
+                            return Mono.empty();
+                        }))
+                .thenMany(mongoTemplate.indexOps(entityClass).getIndexInfo())
+                .map(IndexInfo::getName)
+                .filter(name -> OBSOLETE_INDEXES.getOrDefault(entityClass, Set.of()).contains(name))
+                .concatMap(name -> mongoTemplate.indexOps(entityClass).dropIndex(name)
+                        .doOnSuccess(ignored -> log.info("Obsolete index {}.{} dropped", collection, name)))
+                .then();
+    }
+
+    Mono<Void> logIndexStats(Class<?> entityClass) {
+        String collection = mongoTemplate.getCollectionName(entityClass);
+        return mongoTemplate.getCollection(collection)
+                .flatMapMany(mongoCollection -> mongoCollection.aggregate(List.of(new Document("$indexStats", new Document()))))
+                .doOnNext(stats -> log.info("Index usage {}.{}: {} ops since {}",
+                        collection,
+                        stats.getString("name"),
+                        stats.get("accesses", Document.class).get("ops"),
+                        stats.get("accesses", Document.class).get("since")))
+                .then();
+    }
+}
@@ -0,0 +1,32 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import pe.edu.vallegrande.msvstudents.infrastructure.metrics.MongoCommandMonitor;
+import pe.edu.vallegrande.msvstudents.infrastructure.metrics.MongoConnectionPoolMonitor;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "mongo.monitoring.enabled", havingValue = "true", matchIfMissing = true)
+public class MongoMonitoringConfig {
+
+    /**
+     * Registra los listeners de comandos y del pool en el MongoClient reactivo.
+     * Un umbral de 0 desactiva el log de consultas lentas (las métricas se mantienen).
+     */
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoMonitoringCustomizer(
+            MeterRegistry meterRegistry,
+            @Value("${mongo.monitoring.slow-query-threshold:200ms}") Duration slowQueryThreshold) {
+        MongoCommandMonitor commandMonitor = new MongoCommandMonitor(meterRegistry, slowQueryThreshold);
+        MongoConnectionPoolMonitor poolMonitor = new MongoConnectionPoolMonitor(meterRegistry);
+        return settings -> settings
+                .addCommandListener(commandMonitor)
+                .applyToConnectionPoolSettings(pool -> pool.addConnectionPoolListener(poolMonitor));
+    }
+}
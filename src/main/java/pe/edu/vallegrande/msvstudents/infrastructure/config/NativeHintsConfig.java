@@ -0,0 +1,78 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.config;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.util.ClassUtils;
+import pe.edu.vallegrande.msvstudents.domain.model.InstitutionStatistics;
+import pe.edu.vallegrande.msvstudents.domain.model.Student;
+import pe.edu.vallegrande.msvstudents.domain.model.StudentEnrollment;
+
+import java.util.List;
+
+/**
+ * Hints para la imagen nativa (perfil Maven native). Spring AOT ya cubre los tipos de las firmas
+ * de los controladores; aquí se agrega lo que solo se descubre en tiempo de ejecución:
+ * - DTOs Lombok y modelos serializados por Jackson dentro de ApiResponse&lt;T&gt;, CursorPage&lt;T&gt;...
+ * - entidades mapeadas por Spring Data Mongo (también leídas desde $lookup y agregaciones)
+ * - ZXing + ImageIO (escritor PNG cargado por SPI)
+ * Caffeine se cubre con el repositorio de metadatos de GraalVM (metadataRepository del parent).
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.ApplicationRuntimeHints.class)
+public class NativeHintsConfig {
+
+    static final List<String> BINDING_PACKAGES = List.of(
+            "pe.edu.vallegrande.msvstudents.infrastructure.dto",
+            "pe.edu.vallegrande.msvstudents.domain.model",
+            "pe.edu.vallegrande.msvstudents.domain.enums"
+    );
+
+    static final List<Class<?>> MONGO_ENTITIES = List.of(Student.class, StudentEnrollment.class, InstitutionStatistics.class);
+
+    static final List<String> IMAGE_IO_TYPES = List.of(
+            "com.sun.imageio.plugins.png.PNGImageWriterSpi",
+            "com.sun.imageio.plugins.png.PNGImageWriter",
+            "com.sun.imageio.plugins.png.PNGMetadata"
+    );
+
+    static class ApplicationRuntimeHints implements RuntimeHintsRegistrar {
+
+        private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // Se resuelve al construir la imagen: cualquier DTO nuevo queda incluido sin listarlo
+            ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+            scanner.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+            for (String basePackage : BINDING_PACKAGES) {
+                for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+                    bindingRegistrar.registerReflectionHints(hints.reflection(),
+                            ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader));
+                }
+            }
+
+            // MappingMongoConverter instancia y puebla las entidades por reflexión sobre los campos
+            for (Class<?> entity : MONGO_ENTITIES) {
+                hints.reflection().registerType(entity,
+                        MemberCategory.DECLARED_FIELDS,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_DECLARED_METHODS);
+            }
+
+            hints.reflection().registerType(TypeReference.of("com.google.zxing.qrcode.QRCodeWriter"),
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            for (String type : IMAGE_IO_TYPES) {
+                hints.reflection().registerType(TypeReference.of(type),
+                        MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+            }
+            hints.resources().registerPattern("META-INF/services/javax.imageio.spi.*");
+        }
+    }
+}
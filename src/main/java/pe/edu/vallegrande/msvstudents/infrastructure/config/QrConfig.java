@@ -0,0 +1,37 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.config;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.QrCodeImage;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+public class QrConfig {
+
+    /**
+     * Pool acotado para renderizar QR (ZXing + ImageIO) sin bloquear hilos de Netty.
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler qrRenderScheduler(
+            @Value("${qr.render.threads:2}") int threads,
+            @Value("${qr.render.queue-size:1000}") int queueSize) {
+        return Schedulers.newBoundedElastic(threads, queueSize, "qr-render");
+    }
+
+    /**
+     * Cache de PNG por id de matrícula, acotada por bytes totales (W-TinyLFU de Caffeine).
+     * El payload de un QR nunca cambia, así que no necesita expiración por tiempo.
+     */
+    @Bean
+    public AsyncCache<String, QrCodeImage> qrImageCache(
+            @Value("${qr.cache.max-bytes:8388608}") long maxBytes) {
+        return Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String enrollmentId, QrCodeImage image) -> image.getPng().length)
+                .buildAsync();
+    }
+}
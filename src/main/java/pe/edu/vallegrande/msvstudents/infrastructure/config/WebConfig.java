@@ -1,10 +1,30 @@
 package pe.edu.vallegrande.msvstudents.infrastructure.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
 import org.springframework.web.reactive.config.EnableWebFlux;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
 
 @Configuration
 @EnableWebFlux
-public class WebConfig {
+public class WebConfig implements WebFluxConfigurer {
     // Configuration simplificada sin filtros complejos
+
+    /**
+     * Con @EnableWebFlux los codecs usan su propio mapper (Jackson2ObjectMapperBuilder.json()), no el
+     * ObjectMapper de Boot. Se conserva ese mapper y solo se le agrega Blackbird: el de Boot desactiva
+     * WRITE_DATES_AS_TIMESTAMPS y cambiaría LocalDate/LocalDateTime de [2015,3,15] a "2015-03-15".
+     */
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(JacksonConfig.accessorModule())
+                .build();
+        configurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+        configurer.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+    }
 }
\ No newline at end of file
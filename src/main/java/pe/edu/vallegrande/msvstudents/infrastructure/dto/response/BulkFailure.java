@@ -0,0 +1,24 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Elemento rechazado en una carga masiva, identificado por su índice en la petición.
+ * Estudiantes se identifican por documentNumber y matrículas por studentId.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkFailure(
+        int index,
+        String documentNumber,
+        String studentId,
+        String error
+) {
+
+    public static BulkFailure ofDocument(int index, String documentNumber, String error) {
+        return new BulkFailure(index, documentNumber, null, error);
+    }
+
+    public static BulkFailure ofStudent(int index, String studentId, String error) {
+        return new BulkFailure(index, null, studentId, error);
+    }
+}
@@ -0,0 +1,18 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * Resultado de /students/secretary/bulk-create. Con summaryOnly=true students es null y se omite.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkStudentsResponse(
+        int totalRequested,
+        int successfullyCreated,
+        int errors,
+        List<BulkFailure> failures,
+        List<StudentResponse> students
+) {
+}
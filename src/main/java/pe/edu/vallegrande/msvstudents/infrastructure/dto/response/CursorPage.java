@@ -0,0 +1,40 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import pe.edu.vallegrande.msvstudents.infrastructure.util.CursorUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasMore;
+
+    /**
+     * Construye la página a partir de una consulta que pidió pageSize + 1 elementos:
+     * el elemento extra solo indica que existe una página siguiente.
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int pageSize, Function<T, String> idExtractor) {
+        boolean hasMore = fetched.size() > pageSize;
+        List<T> items = hasMore ? fetched.subList(0, pageSize) : fetched;
+        String nextCursor = hasMore ? CursorUtils.encode(idExtractor.apply(items.get(items.size() - 1))) : null;
+        return new CursorPage<>(items, nextCursor, hasMore);
+    }
+
+    public Map<String, Object> toExtraData() {
+        Map<String, Object> extraData = new HashMap<>();
+        extraData.put("hasMore", hasMore);
+        extraData.put("nextCursor", nextCursor);
+        extraData.put("size", items.size());
+        return extraData;
+    }
+}
@@ -0,0 +1,7 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.dto.response;
+
+public record DashboardStatisticsResponse(
+        StudentStatisticsResponse studentStats,
+        EnrollmentStatisticsResponse enrollmentStats
+) {
+}
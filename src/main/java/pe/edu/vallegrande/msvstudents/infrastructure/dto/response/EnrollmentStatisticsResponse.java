@@ -0,0 +1,13 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.dto.response;
+
+/**
+ * Conteos de matrículas por estado de una institución (/enrollments/secretary/statistics y dashboard).
+ */
+public record EnrollmentStatisticsResponse(
+        long totalEnrollments,
+        long activeEnrollments,
+        long retiredEnrollments,
+        long transferredEnrollments,
+        long completedEnrollments
+) {
+}
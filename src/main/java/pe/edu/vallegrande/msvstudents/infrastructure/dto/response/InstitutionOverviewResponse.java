@@ -0,0 +1,17 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Resumen de la institución. Los porcentajes se omiten cuando no hay estudiantes.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record InstitutionOverviewResponse(
+        long totalStudents,
+        long unenrolledStudents,
+        long totalEnrollments,
+        long activeEnrollments,
+        Double enrollmentPercentage,
+        Double unenrolledPercentage
+) {
+}
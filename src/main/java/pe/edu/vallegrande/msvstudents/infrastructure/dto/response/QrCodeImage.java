@@ -0,0 +1,17 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * PNG renderizado de un QR de matrícula junto con su ETag fuerte.
+ * Se cachea por id de matrícula; institutionId permite validar acceso sin volver a Mongo.
+ */
+@Data
+@AllArgsConstructor
+public class QrCodeImage {
+    private String enrollmentId;
+    private String institutionId;
+    private String etag;
+    private byte[] png;
+}
@@ -0,0 +1,12 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.dto.response;
+
+/**
+ * Conteos de estudiantes de una institución (/students/secretary/statistics y dashboard).
+ */
+public record StudentStatisticsResponse(
+        long totalStudents,
+        long activeStudents,
+        long inactiveStudents,
+        long unenrolledStudents
+) {
+}
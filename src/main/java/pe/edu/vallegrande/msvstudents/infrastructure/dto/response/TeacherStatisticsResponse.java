@@ -0,0 +1,7 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.dto.response;
+
+public record TeacherStatisticsResponse(
+        long myStudents,
+        long myEnrollments
+) {
+}
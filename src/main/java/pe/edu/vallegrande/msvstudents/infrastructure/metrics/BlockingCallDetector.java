@@ -0,0 +1,88 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.blockhound.BlockHound;
+import reactor.blockhound.BlockingMethod;
+import reactor.blockhound.BlockingOperationError;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Modo opcional (blocking-detector.enabled=true) que instala BlockHound y reporta cada llamada
+ * bloqueante hecha desde un hilo no bloqueante (event loop de Netty, parallel de Reactor):
+ * - reactor.blocking.calls: contador por método bloqueante y grupo de hilos
+ * - logger reactor.blocking: una línea clave=valor con la traza de la llamada
+ * Con blocking-detector.mode=fail además lanza BlockingOperationError (perfil de pruebas).
+ * En JDK 13+ requiere arrancar la JVM con -XX:+AllowRedefinitionToAddDeleteMethods.
+ */
+@Slf4j(topic = "reactor.blocking")
+@Component
+@ConditionalOnProperty(name = "blocking-detector.enabled", havingValue = "true")
+public class BlockingCallDetector {
+
+    public enum Mode { REPORT, FAIL }
+
+    static final String BLOCKING_CALLS_COUNTER = "reactor.blocking.calls";
+
+    // BlockHound se instala una sola vez por JVM; cada contexto nuevo reemplaza el listener
+    private static final AtomicBoolean INSTALLED = new AtomicBoolean();
+    private static final AtomicLong DETECTED = new AtomicLong();
+    private static volatile Consumer<BlockingMethod> listener = method -> { };
+
+    private final MeterRegistry meterRegistry;
+    private final Mode mode;
+
+    public BlockingCallDetector(MeterRegistry meterRegistry,
+                                @Value("${blocking-detector.mode:report}") Mode mode) {
+        this.meterRegistry = meterRegistry;
+        this.mode = mode;
+        listener = this::onBlockingCall;
+        install();
+    }
+
+    /**
+     * Total de llamadas bloqueantes detectadas en esta JVM.
+     */
+    public static long detectedCount() {
+        return DETECTED.get();
+    }
+
+    private static void install() {
+        if (!INSTALLED.compareAndSet(false, true)) {
+            return;
+        }
+        BlockHound.install(builder -> builder
+                // El propio log del detector escribe en consola/archivo
+                .allowBlockingCallsInside("ch.qos.logback.core.OutputStreamAppender", "writeBytes")
+                .blockingMethodCallback(method -> listener.accept(method)));
+    }
+
+    private void onBlockingCall(BlockingMethod method) {
+        DETECTED.incrementAndGet();
+        String threadGroup = threadGroup(Thread.currentThread().getName());
+        Counter.builder(BLOCKING_CALLS_COUNTER)
+                .description("Llamadas bloqueantes en hilos no bloqueantes")
+                .tag("method", method.getClassName() + "." + method.getName())
+                .tag("thread", threadGroup)
+                .register(meterRegistry)
+                .increment();
+
+        BlockingOperationError error = new BlockingOperationError(method);
+        log.warn("blocking_call method={} thread={} mode={}", method, Thread.currentThread().getName(), mode, error);
+        if (mode == Mode.FAIL) {
+            throw error;
+        }
+    }
+
+    // reactor-http-nio-3 -> reactor-http-nio, parallel-1 -> parallel: acota la cardinalidad
+    private static String threadGroup(String threadName) {
+        return threadName.replaceAll("-\\d+$", "");
+    }
+}
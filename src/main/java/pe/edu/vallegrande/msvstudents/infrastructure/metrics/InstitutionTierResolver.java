@@ -0,0 +1,30 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.metrics;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Traduce un institutionId a su nivel (tier) para etiquetar métricas sin disparar la
+ * cardinalidad: metrics.institution-tiers.&lt;institutionId&gt;=large, el resto usa metrics.default-tier.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "metrics")
+public class InstitutionTierResolver {
+
+    public static final String NO_INSTITUTION = "none";
+
+    private String defaultTier = "standard";
+    private Map<String, String> institutionTiers = new HashMap<>();
+
+    public String resolve(String institutionId) {
+        if (institutionId == null) {
+            return NO_INSTITUTION;
+        }
+        return institutionTiers.getOrDefault(institutionId, defaultTier);
+    }
+}
@@ -0,0 +1,87 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.metrics;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import pe.edu.vallegrande.msvstudents.infrastructure.util.MongoCommandShapes;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CommandListener del driver Mongo:
+ * - mongodb.command: timer por colección, comando y resultado (con histograma de percentiles)
+ * - logger mongo.slow-query: una línea clave=valor por comando que supera el umbral, con la
+ *   forma del filtro (campos y operadores) pero nunca sus valores
+ * Reemplaza el log DEBUG de com.mongodb, que escribía cada comando completo.
+ */
+@Slf4j(topic = "mongo.slow-query")
+public class MongoCommandMonitor implements CommandListener {
+
+    static final String COMMAND_TIMER = "mongodb.command";
+
+    private final MeterRegistry meterRegistry;
+    private final long slowQueryThresholdNanos;
+
+    // Datos del comando en curso: el evento de fin solo trae el nombre del comando
+    private final Map<Integer, InFlightCommand> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public MongoCommandMonitor(MeterRegistry meterRegistry, Duration slowQueryThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.slowQueryThresholdNanos = slowQueryThreshold.toNanos();
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        // El documento del comando solo es válido durante el callback: se extrae aquí la forma
+        String collection = MongoCommandShapes.collection(event.getCommandName(), event.getCommand());
+        String shape = slowQueryLogEnabled() ? MongoCommandShapes.shape(event.getCommand()) : null;
+        inFlight.put(event.getRequestId(), new InFlightCommand(event.getDatabaseName(), collection, shape));
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        complete(event.getRequestId(), event.getCommandName(), event.getElapsedTime(TimeUnit.NANOSECONDS), "success");
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        complete(event.getRequestId(), event.getCommandName(), event.getElapsedTime(TimeUnit.NANOSECONDS), "failed");
+    }
+
+    private void complete(int requestId, String commandName, long elapsedNanos, String status) {
+        InFlightCommand command = inFlight.remove(requestId);
+        String collection = command != null ? command.collection() : MongoCommandShapes.UNKNOWN_COLLECTION;
+        timer(collection, commandName, status).record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        if (command != null && slowQueryLogEnabled() && elapsedNanos >= slowQueryThresholdNanos) {
+            log.warn("slow_mongo_command database={} collection={} command={} status={} durationMs={} shape={}",
+                    command.database(), collection, commandName, status,
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), command.shape());
+        }
+    }
+
+    private boolean slowQueryLogEnabled() {
+        return slowQueryThresholdNanos > 0;
+    }
+
+    private Timer timer(String collection, String commandName, String status) {
+        return timers.computeIfAbsent(collection + '|' + commandName + '|' + status, key -> Timer.builder(COMMAND_TIMER)
+                .description("Duración de comandos Mongo medida por el driver")
+                .tag("collection", collection)
+                .tag("command", commandName)
+                .tag("status", status)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private record InFlightCommand(String database, String collection, String shape) {
+    }
+}
@@ -0,0 +1,140 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.metrics;
+
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckOutStartedEvent;
+import com.mongodb.event.ConnectionCheckedInEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionClosedEvent;
+import com.mongodb.event.ConnectionCreatedEvent;
+import com.mongodb.event.ConnectionPoolClosedEvent;
+import com.mongodb.event.ConnectionPoolCreatedEvent;
+import com.mongodb.event.ConnectionPoolListener;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ConnectionPoolListener del driver Mongo, por servidor:
+ * - mongodb.pool.size / checkedout / waiting: gauges de conexiones abiertas, en uso y en espera
+ * - mongodb.pool.wait: timer del tiempo de espera para obtener una conexión
+ * El driver no correlaciona inicio y fin del check-out, así que la espera se mide en orden
+ * FIFO, el mismo que usa la cola de espera del pool.
+ */
+public class MongoConnectionPoolMonitor implements ConnectionPoolListener {
+
+    static final String POOL_WAIT_TIMER = "mongodb.pool.wait";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<ServerId, ServerPool> pools = new ConcurrentHashMap<>();
+
+    public MongoConnectionPoolMonitor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void connectionPoolCreated(ConnectionPoolCreatedEvent event) {
+        pools.computeIfAbsent(event.getServerId(), ServerPool::new);
+    }
+
+    @Override
+    public void connectionPoolClosed(ConnectionPoolClosedEvent event) {
+        ServerPool pool = pools.remove(event.getServerId());
+        if (pool != null) {
+            pool.meters.forEach(meterRegistry::remove);
+        }
+    }
+
+    @Override
+    public void connectionCheckOutStarted(ConnectionCheckOutStartedEvent event) {
+        ServerPool pool = pool(event.getServerId());
+        pool.waiting.incrementAndGet();
+        pool.checkOutStarts.add(System.nanoTime());
+    }
+
+    @Override
+    public void connectionCheckedOut(ConnectionCheckedOutEvent event) {
+        ServerPool pool = pool(event.getConnectionId().getServerId());
+        pool.checkedOut.incrementAndGet();
+        pool.finishWait(pool.acquired);
+    }
+
+    @Override
+    public void connectionCheckOutFailed(ConnectionCheckOutFailedEvent event) {
+        ServerPool pool = pool(event.getServerId());
+        pool.finishWait(pool.failed);
+    }
+
+    @Override
+    public void connectionCheckedIn(ConnectionCheckedInEvent event) {
+        pool(event.getConnectionId().getServerId()).checkedOut.decrementAndGet();
+    }
+
+    @Override
+    public void connectionCreated(ConnectionCreatedEvent event) {
+        pool(event.getConnectionId().getServerId()).size.incrementAndGet();
+    }
+
+    @Override
+    public void connectionClosed(ConnectionClosedEvent event) {
+        pool(event.getConnectionId().getServerId()).size.decrementAndGet();
+    }
+
+    private ServerPool pool(ServerId serverId) {
+        return pools.computeIfAbsent(serverId, ServerPool::new);
+    }
+
+    private final class ServerPool {
+
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicInteger checkedOut = new AtomicInteger();
+        private final AtomicInteger waiting = new AtomicInteger();
+        private final Queue<Long> checkOutStarts = new ConcurrentLinkedQueue<>();
+        private final Timer acquired;
+        private final Timer failed;
+        private final List<Meter> meters;
+
+        private ServerPool(ServerId serverId) {
+            Tags tags = Tags.of("server", serverId.getAddress().toString());
+            this.acquired = waitTimer(tags, "acquired");
+            this.failed = waitTimer(tags, "failed");
+            this.meters = List.of(
+                Gauge.builder("mongodb.pool.size", size, AtomicInteger::get)
+                        .description("Conexiones abiertas en el pool").tags(tags).register(meterRegistry),
+                Gauge.builder("mongodb.pool.checkedout", checkedOut, AtomicInteger::get)
+                        .description("Conexiones en uso").tags(tags).register(meterRegistry),
+                Gauge.builder("mongodb.pool.waiting", waiting, AtomicInteger::get)
+                        .description("Operaciones esperando una conexión").tags(tags).register(meterRegistry),
+                acquired,
+                failed
+            );
+        }
+
+        private Timer waitTimer(Tags tags, String outcome) {
+            return Timer.builder(POOL_WAIT_TIMER)
+                    .description("Tiempo de espera para obtener una conexión del pool")
+                    .tags(tags)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+        }
+
+        private void finishWait(Timer timer) {
+            waiting.decrementAndGet();
+            Long start = checkOutStarts.poll();
+            if (start != null) {
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
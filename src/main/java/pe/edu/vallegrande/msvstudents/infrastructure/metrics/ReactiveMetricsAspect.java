@@ -0,0 +1,125 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import reactor.core.observability.micrometer.Micrometer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Mide cada método público de repositorios y servicios que devuelve Mono o Flux:
+ * - app.method: timer con histograma de percentiles por capa, operación, nivel de institución y resultado
+ * - app.documents.streamed: elementos emitidos por cada consulta Flux de repositorio
+ * - repository.flux.*: métricas de Reactor (name()/tap()) de los Flux de repositorio
+ * El tiempo corre desde la suscripción hasta la terminación o cancelación, no desde el ensamblado.
+ * CachingStudentRepository queda fuera: su delegado ya se mide y los aciertos de cache tienen
+ * su propia serie (students.by-id.lookup), así cada consulta se registra una sola vez.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ReactiveMetricsAspect {
+
+    static final String METHOD_TIMER = "app.method";
+    static final String DOCUMENTS_COUNTER = "app.documents.streamed";
+    static final String REPOSITORY_FLUX = "repository.flux";
+
+    private static final String INSTITUTION_PARAMETER = "institutionId";
+
+    private final MeterRegistry meterRegistry;
+    private final InstitutionTierResolver tierResolver;
+
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    @Around("execution(public (reactor.core.publisher.Mono || reactor.core.publisher.Flux) pe.edu.vallegrande.msvstudents.infrastructure.repository.impl..*(..))"
+            + " && !within(pe.edu.vallegrande.msvstudents.infrastructure.repository.impl.CachingStudentRepository)")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return instrument(joinPoint, "repository");
+    }
+
+    @Around("execution(public (reactor.core.publisher.Mono || reactor.core.publisher.Flux) pe.edu.vallegrande.msvstudents.application.service.impl..*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return instrument(joinPoint, "service");
+    }
+
+    private Object instrument(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        String operation = ClassUtils.getUserClass(joinPoint.getTarget()).getSimpleName() + "." + signature.getName();
+        String tier = tierResolver.resolve(institutionId(signature, joinPoint.getArgs()));
+        Object result = joinPoint.proceed();
+
+        if (result instanceof Mono<?> mono) {
+            return Mono.defer(() -> {
+                Timer.Sample sample = Timer.start(meterRegistry);
+                return mono.doFinally(signal -> sample.stop(timer(layer, operation, tier, signal)));
+            });
+        }
+        if (result instanceof Flux<?> flux) {
+            Flux<?> timed = Flux.defer(() -> {
+                Timer.Sample sample = Timer.start(meterRegistry);
+                return flux.doFinally(signal -> sample.stop(timer(layer, operation, tier, signal)));
+            });
+            if (!"repository".equals(layer)) {
+                return timed;
+            }
+            Counter documents = counter(operation, tier);
+            return timed
+                    .doOnNext(document -> documents.increment())
+                    .name(REPOSITORY_FLUX)
+                    .tag("operation", operation)
+                    .tap(Micrometer.metrics(meterRegistry));
+        }
+        return result;
+    }
+
+    private Timer timer(String layer, String operation, String tier, SignalType signal) {
+        String outcome = switch (signal) {
+            case ON_ERROR -> "error";
+            case CANCEL -> "cancelled";
+            default -> "success";
+        };
+        return timers.computeIfAbsent(layer + '|' + operation + '|' + tier + '|' + outcome, key -> Timer.builder(METHOD_TIMER)
+                .description("Duración de métodos reactivos desde la suscripción hasta la terminación")
+                .tag("layer", layer)
+                .tag("operation", operation)
+                .tag("tier", tier)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private Counter counter(String operation, String tier) {
+        return counters.computeIfAbsent(operation + '|' + tier, key -> Counter.builder(DOCUMENTS_COUNTER)
+                .description("Documentos emitidos por consulta de repositorio")
+                .tag("operation", operation)
+                .tag("tier", tier)
+                .register(meterRegistry));
+    }
+
+    // Requiere compilar con -parameters (activado por spring-boot-starter-parent)
+    private static String institutionId(MethodSignature signature, Object[] args) {
+        String[] names = signature.getParameterNames();
+        if (names == null) {
+            return null;
+        }
+        for (int i = 0; i < names.length; i++) {
+            if (INSTITUTION_PARAMETER.equals(names[i]) && args[i] instanceof String institutionId) {
+                return institutionId;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,26 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Map;
+
+/**
+ * Resultado de un insertMany no ordenado: cuántos documentos se insertaron y,
+ * por posición dentro del lote enviado, el motivo de cada documento rechazado.
+ */
+@Data
+@AllArgsConstructor
+public class BulkInsertResult {
+
+    private int insertedCount;
+    private Map<Integer, String> failures;
+
+    public static BulkInsertResult empty() {
+        return new BulkInsertResult(0, Map.of());
+    }
+
+    public boolean isFailed(int position) {
+        return failures.containsKey(position);
+    }
+}
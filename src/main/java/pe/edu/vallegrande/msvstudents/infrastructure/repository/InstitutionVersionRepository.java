@@ -0,0 +1,16 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.repository;
+
+import pe.edu.vallegrande.msvstudents.domain.model.InstitutionVersion;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+public interface InstitutionVersionRepository {
+
+    // Lectura puntual del contador de la institución; vacío si nunca se incrementó
+    Mono<InstitutionVersion> findByInstitutionId(String institutionId);
+
+    // Incremento atómico (crea el contador si no existe); Last-Modified = máx(now, anterior + 1 s)
+    Mono<Void> increment(String institutionId, Instant now);
+
+}
@@ -0,0 +1,30 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.repository;
+
+import pe.edu.vallegrande.msvstudents.domain.model.InstitutionStatistics;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface StatisticsRepository {
+
+    // Conteos de estudiantes por estado + no matriculados ($facet sobre students)
+    Mono<InstitutionStatistics> aggregateStudentStatistics(String institutionId);
+
+    // Conteos de matrículas por estado ($group sobre enrollments)
+    Mono<InstitutionStatistics> aggregateEnrollmentStatistics(String institutionId);
+
+    // Estudiantes y matrículas en una sola ida y vuelta ($unionWith + $facet)
+    Mono<InstitutionStatistics> aggregateInstitutionStatistics(String institutionId);
+
+    // Lectura puntual del documento materializado institution_stats; vacío si aún no existe
+    Mono<InstitutionStatistics> findMaterializedStatistics(String institutionId);
+
+    // $inc atómico con los deltas (pueden ser negativos); sin upsert: si no existe se reconstruye al leerlo
+    Mono<Void> incrementStatistics(String institutionId, InstitutionStatistics delta);
+
+    // Reemplaza los conteos solo si nadie aplicó un $inc desde expectedVersion (null: solo si no existe)
+    Mono<Boolean> saveMaterializedStatistics(String institutionId, InstitutionStatistics statistics, Long expectedVersion);
+
+    // Instituciones con estudiantes o matrículas (recorrido del reconciliador)
+    Flux<String> findInstitutionIds();
+
+}
@@ -1,10 +1,13 @@
 package pe.edu.vallegrande.msvstudents.infrastructure.repository;
 
+import pe.edu.vallegrande.msvstudents.domain.model.EnrollmentWithStudent;
 import pe.edu.vallegrande.msvstudents.domain.model.StudentEnrollment;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface StudentEnrollmentRepository {
 
@@ -25,4 +28,18 @@ public interface StudentEnrollmentRepository {
     
     Flux<StudentEnrollment> findByClassroomId(String classroomId);
 
+    // Paginación por cursor (keyset sobre _id): afterId null para la primera página
+    Flux<StudentEnrollment> findByInstitutionIdAfter(String institutionId, String afterId, int limit);
+
+    Flux<StudentEnrollment> findByClassroomIdAndInstitutionIdAfter(String classroomId, String institutionId, String afterId, int limit);
+
+    // Matrículas de un aula con su estudiante en una sola agregación $lookup; institutionId null no filtra
+    Flux<EnrollmentWithStudent> findByClassroomIdWithStudent(String classroomId, String institutionId);
+
+    // Matrícula masiva: insertMany no ordenado por lote
+    Mono<BulkInsertResult> insertAllUnordered(List<StudentEnrollment> enrollments);
+
+    // Matrículas ACTIVE por estudiante en la institución; los estudiantes sin ninguna no aparecen
+    Mono<Map<String, Long>> countActiveByStudentIds(Collection<String> studentIds, String institutionId);
+
 }
\ No newline at end of file
@@ -5,12 +5,21 @@ import pe.edu.vallegrande.msvstudents.domain.model.Student;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface StudentRepository {
 
     Mono<Student> save(Student student);
 
     Mono<Student> findById(String id);
 
+    // Lectura siempre desde la fuente (sin cache) para los caminos que modifican y guardan el documento completo
+    Mono<Student> findByIdForUpdate(String id);
+
+    // Una sola consulta $in para resolver varios estudiantes a la vez
+    Flux<Student> findAllByIds(Collection<String> ids);
+
     Flux<Student> findAll();
 
     Flux<Student> findByInstitutionId(String institutionId);
@@ -27,4 +36,32 @@ public interface StudentRepository {
     
     Mono<Long> countByInstitutionIdAndStatus(String institutionId, Status status);
 
+    // Anti-join contra enrollments: estudiantes sin matrícula ACTIVE en una sola consulta
+    Flux<Student> findUnenrolledByInstitutionId(String institutionId);
+
+    Mono<Long> countUnenrolledByInstitutionId(String institutionId);
+
+    // Paginación por cursor (keyset sobre _id): afterId null para la primera página
+    Flux<Student> findAllAfter(String afterId, int limit);
+
+    Flux<Student> findByInstitutionIdAfter(String institutionId, String afterId, int limit);
+
+    Flux<Student> findByInstitutionIdAndStatusAfter(String institutionId, Status status, String afterId, int limit);
+
+    // Búsqueda en Mongo: cada término debe ser prefijo de alguna palabra de search_terms
+    Flux<Student> findBySearchTermPrefixes(String institutionId, List<String> terms, int limit);
+
+    // Búsqueda por el índice de texto, ordenada por relevancia
+    Flux<Student> findByText(String institutionId, List<String> terms, int limit);
+
+    Flux<Student> findWithoutSearchTerms(int limit);
+
+    // Escribe solo search_terms y solo si el documento aún no lo tiene: no pisa escrituras concurrentes
+    Mono<Boolean> setSearchTermsIfMissing(String id, List<String> searchTerms);
+
+    // Carga masiva: una consulta $in para duplicados y un insertMany no ordenado por lote
+    Flux<String> findExistingDocumentNumbers(String institutionId, Collection<String> documentNumbers);
+
+    Mono<BulkInsertResult> insertAllUnordered(List<Student> students);
+
 }
\ No newline at end of file
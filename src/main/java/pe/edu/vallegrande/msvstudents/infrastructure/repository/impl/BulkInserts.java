@@ -0,0 +1,92 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.repository.impl;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import pe.edu.vallegrande.msvstudents.infrastructure.repository.BulkInsertResult;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * insertMany con ordered=false: Mongo sigue insertando tras un error y reporta
+ * cada documento rechazado (p. ej. clave duplicada) con su índice en el lote.
+ * insertIfAbsent hace lo mismo con upserts por _id y $setOnInsert, para poder repetirlo.
+ */
+final class BulkInserts {
+
+    private static final int DUPLICATE_KEY = 11000;
+
+    private BulkInserts() {}
+
+    static Mono<BulkInsertResult> insertUnordered(ReactiveMongoTemplate mongoTemplate, List<?> documents, Class<?> entityClass) {
+        if (documents.isEmpty()) {
+            return Mono.just(BulkInsertResult.empty());
+        }
+        return mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, entityClass)
+                .insert(documents)
+                .execute()
+                .map(result -> new BulkInsertResult(result.getInsertedCount(), Map.of()))
+                .onErrorResume(error -> bulkWriteException(error) != null,
+                        error -> Mono.just(toResult(bulkWriteException(error))));
+    }
+
+    /**
+     * Inserta solo los documentos cuyo _id no existe; los existentes no se modifican.
+     * insertedCount cuenta los documentos realmente insertados.
+     */
+    static Mono<BulkInsertResult> insertIfAbsent(ReactiveMongoTemplate mongoTemplate, List<?> documents, Class<?> entityClass) {
+        if (documents.isEmpty()) {
+            return Mono.just(BulkInsertResult.empty());
+        }
+        ReactiveBulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, entityClass);
+        for (Object entity : documents) {
+            Document document = new Document();
+            mongoTemplate.getConverter().write(entity, document);
+            Update update = new Update();
+            document.forEach((field, value) -> {
+                if (!"_id".equals(field)) {
+                    update.setOnInsert(field, value);
+                }
+            });
+            operations.upsert(Query.query(Criteria.where("_id").is(document.get("_id"))), update);
+        }
+        return operations.execute()
+                .map(result -> new BulkInsertResult(result.getUpserts().size(), Map.of()))
+                .onErrorResume(error -> bulkWriteException(error) != null,
+                        error -> Mono.just(toResult(bulkWriteException(error))));
+    }
+
+    private static BulkInsertResult toResult(MongoBulkWriteException exception) {
+        Map<Integer, String> failures = new HashMap<>();
+        for (BulkWriteError writeError : exception.getWriteErrors()) {
+            String reason = writeError.getCode() == DUPLICATE_KEY
+                    ? "Duplicate key: " + writeError.getMessage()
+                    : writeError.getMessage();
+            failures.put(writeError.getIndex(), reason);
+        }
+        // Un lote es solo de inserts o solo de upserts: uno de los dos conteos es 0
+        return new BulkInsertResult(exception.getWriteResult().getInsertedCount()
+                + exception.getWriteResult().getUpserts().size(), failures);
+    }
+
+    // El template traduce la excepción del driver (DuplicateKeyException, BulkOperationException...)
+    private static MongoBulkWriteException bulkWriteException(Throwable error) {
+        Throwable current = error;
+        while (current != null) {
+            if (current instanceof MongoBulkWriteException bulkWriteException) {
+                return bulkWriteException;
+            }
+            current = current.getCause();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,218 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.repository.impl;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import pe.edu.vallegrande.msvstudents.domain.enums.Status;
+import pe.edu.vallegrande.msvstudents.domain.model.Student;
+import pe.edu.vallegrande.msvstudents.infrastructure.repository.BulkInsertResult;
+import pe.edu.vallegrande.msvstudents.infrastructure.repository.StudentRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Decorador de StudentRepository con cache read-through de findById (Caffeine, acotada por
+ * tamaño y TTL). Las lecturas concurrentes del mismo id comparten una sola consulta a Mongo
+ * y save invalida la entrada. El resto de métodos delega sin cache.
+ *
+ * save solo invalida la cache de esta instancia: otra réplica puede tener una copia de hasta
+ * students.cache.ttl. Por eso los caminos que modifican y guardan el estudiante completo usan
+ * findByIdForUpdate, que nunca pasa por la cache; una copia vieja revertiría escrituras ajenas.
+ *
+ * ReactiveMetricsAspect no mide este decorador: findById registra su latencia en
+ * students.by-id.lookup separando aciertos (result=hit) de fallos que consultan Mongo (result=miss).
+ */
+@Primary
+@Repository
+@Profile("!inmemory")
+public class CachingStudentRepository implements StudentRepository {
+
+    static final String LOOKUP_TIMER = "students.by-id.lookup";
+
+    private final StudentRepository delegate;
+    private final AsyncCache<String, Student> cache;
+    private final MeterRegistry meterRegistry;
+    private final Timer hitTimer;
+    private final Timer missTimer;
+
+    public CachingStudentRepository(
+            @Qualifier("studentRepositoryImpl") StudentRepository delegate,
+            MeterRegistry meterRegistry,
+            @Value("${students.cache.ttl:PT5M}") Duration ttl,
+            @Value("${students.cache.max-size:10000}") long maxSize) {
+        this.delegate = delegate;
+        this.cache = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .<String, Student>buildAsync(), "students.by-id");
+        this.meterRegistry = meterRegistry;
+        this.hitTimer = lookupTimer(meterRegistry, "hit");
+        this.missTimer = lookupTimer(meterRegistry, "miss");
+    }
+
+    private static Timer lookupTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder(LOOKUP_TIMER)
+                .description("Duración de findById con cache, separando aciertos de consultas a Mongo")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Student> save(Student student) {
+        return delegate.save(student)
+                .doFinally(signal -> invalidate(student.getId()));
+    }
+
+    @Override
+    public Mono<Student> findById(String id) {
+        // Un futuro vacío (estudiante inexistente) no queda en cache
+        // Quien espera una consulta ya en curso cuenta como miss: su latencia es la de Mongo
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            AtomicBoolean miss = new AtomicBoolean();
+            return Mono.fromFuture(() -> {
+                        CompletableFuture<Student> future = cache.get(id, (key, executor) -> {
+                            miss.set(true);
+                            return delegate.findById(key).toFuture();
+                        });
+                        if (!future.isDone()) {
+                            miss.set(true);
+                        }
+                        return future;
+                    }, true)
+                    .map(CachingStudentRepository::copyOf)
+                    .doFinally(signal -> sample.stop(miss.get() ? missTimer : hitTimer));
+        });
+    }
+
+    @Override
+    public Mono<Student> findByIdForUpdate(String id) {
+        return delegate.findByIdForUpdate(id);
+    }
+
+    public void invalidate(String id) {
+        if (id != null) {
+            cache.synchronous().invalidate(id);
+        }
+    }
+
+    // Los servicios modifican la entidad antes de guardarla: nunca se entrega la instancia cacheada
+    private static Student copyOf(Student cached) {
+        Student copy = new Student();
+        BeanUtils.copyProperties(cached, copy);
+        return copy;
+    }
+
+    @Override
+    public Flux<Student> findAllByIds(Collection<String> ids) {
+        return delegate.findAllByIds(ids);
+    }
+
+    @Override
+    public Flux<Student> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Flux<Student> findByInstitutionId(String institutionId) {
+        return delegate.findByInstitutionId(institutionId);
+    }
+
+    @Override
+    public Mono<Boolean> existsById(String studentId) {
+        return delegate.existsById(studentId);
+    }
+
+    @Override
+    public Mono<Student> findByDocumentNumberAndInstitutionId(String documentNumber, String institutionId) {
+        return delegate.findByDocumentNumberAndInstitutionId(documentNumber, institutionId);
+    }
+
+    @Override
+    public Flux<Student> findByInstitutionIdAndStatus(String institutionId, Status status) {
+        return delegate.findByInstitutionIdAndStatus(institutionId, status);
+    }
+
+    @Override
+    public Mono<Long> countByInstitutionId(String institutionId) {
+        return delegate.countByInstitutionId(institutionId);
+    }
+
+    @Override
+    public Mono<Long> countByInstitutionIdAndStatus(String institutionId, Status status) {
+        return delegate.countByInstitutionIdAndStatus(institutionId, status);
+    }
+
+    @Override
+    public Flux<Student> findUnenrolledByInstitutionId(String institutionId) {
+        return delegate.findUnenrolledByInstitutionId(institutionId);
+    }
+
+    @Override
+    public Mono<Long> countUnenrolledByInstitutionId(String institutionId) {
+        return delegate.countUnenrolledByInstitutionId(institutionId);
+    }
+
+    @Override
+    public Flux<Student> findAllAfter(String afterId, int limit) {
+        return delegate.findAllAfter(afterId, limit);
+    }
+
+    @Override
+    public Flux<Student> findByInstitutionIdAfter(String institutionId, String afterId, int limit) {
+        return delegate.findByInstitutionIdAfter(institutionId, afterId, limit);
+    }
+
+    @Override
+    public Flux<Student> findByInstitutionIdAndStatusAfter(String institutionId, Status status, String afterId, int limit) {
+        return delegate.findByInstitutionIdAndStatusAfter(institutionId, status, afterId, limit);
+    }
+
+    @Override
+    public Flux<Student> findBySearchTermPrefixes(String institutionId, List<String> terms, int limit) {
+        return delegate.findBySearchTermPrefixes(institutionId, terms, limit);
+    }
+
+    @Override
+    public Flux<Student> findByText(String institutionId, List<String> terms, int limit) {
+        return delegate.findByText(institutionId, terms, limit);
+    }
+
+    @Override
+    public Flux<Student> findWithoutSearchTerms(int limit) {
+        return delegate.findWithoutSearchTerms(limit);
+    }
+
+    @Override
+    public Mono<Boolean> setSearchTermsIfMissing(String id, List<String> searchTerms) {
+        return delegate.setSearchTermsIfMissing(id, searchTerms)
+                .doFinally(signal -> invalidate(id));
+    }
+
+    @Override
+    public Flux<String> findExistingDocumentNumbers(String institutionId, Collection<String> documentNumbers) {
+        return delegate.findExistingDocumentNumbers(institutionId, documentNumbers);
+    }
+
+    @Override
+    public Mono<BulkInsertResult> insertAllUnordered(List<Student> students) {
+        // Ids nuevos: no hay entradas que invalidar
+        return delegate.insertAllUnordered(students);
+    }
+}
@@ -0,0 +1,53 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.repository.impl;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import pe.edu.vallegrande.msvstudents.domain.enums.EnrollmentStatus;
+
+import java.util.List;
+
+/**
+ * Etapas de agregación compartidas para cruzar students con enrollments.
+ */
+final class EnrollmentLookups {
+
+    static final String ACTIVE_ENROLLMENTS = "activeEnrollments";
+
+    static final String STUDENT = "student";
+
+    private EnrollmentLookups() {}
+
+    /**
+     * $lookup correlacionado contra enrollments que solo trae como máximo un _id
+     * de matrícula ACTIVE de la misma institución, suficiente para el anti-join.
+     * Requiere que el documento de entrada conserve _id e institution_id.
+     */
+    static AggregationOperation activeEnrollmentLookup() {
+        return context -> new Document("$lookup", new Document("from", "enrollments")
+                .append("let", new Document("studentId", "$_id").append("institutionId", "$institution_id"))
+                .append("pipeline", List.of(
+                    new Document("$match", new Document("$expr", new Document("$and", List.of(
+                        new Document("$eq", List.of("$student_id", "$$studentId")),
+                        new Document("$eq", List.of("$institution_id", "$$institutionId")),
+                        new Document("$eq", List.of("$status", EnrollmentStatus.ACTIVE.name()))
+                    )))),
+                    new Document("$limit", 1),
+                    new Document("$project", new Document("_id", 1))
+                ))
+                .append("as", ACTIVE_ENROLLMENTS));
+    }
+
+    /**
+     * $lookup de la matrícula a su estudiante por _id seguido de $unwind: las
+     * matrículas cuyo estudiante no existe se descartan, igual que en el join en lote.
+     */
+    static List<AggregationOperation> studentLookup() {
+        return List.of(
+            context -> new Document("$lookup", new Document("from", "students")
+                    .append("localField", "student_id")
+                    .append("foreignField", "_id")
+                    .append("as", STUDENT)),
+            context -> new Document("$unwind", "$" + STUDENT)
+        );
+    }
+}
@@ -0,0 +1,68 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.repository.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import pe.edu.vallegrande.msvstudents.infrastructure.util.SyntheticDataFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Genera datos sintéticos para el perfil inmemory: N instituciones × M estudiantes × K matrículas
+ * (ver SyntheticDataFactory). Es determinista para una misma semilla, de modo que los escenarios
+ * de carga pueden apuntar a las mismas instituciones.
+ */
+@Slf4j
+@Component
+@Profile("inmemory")
+public class InMemoryDataGenerator implements ApplicationRunner {
+
+    private final InMemoryDataStore store;
+
+    @Value("${inmemory.seed.institutions:3}")
+    private int institutions = 3;
+
+    @Value("${inmemory.seed.students-per-institution:500}")
+    private int studentsPerInstitution = 500;
+
+    @Value("${inmemory.seed.enrollments-per-student:1}")
+    private int enrollmentsPerStudent = 1;
+
+    @Value("${inmemory.seed.classrooms-per-institution:20}")
+    private int classroomsPerInstitution = 20;
+
+    @Value("${inmemory.seed.random-seed:42}")
+    private long randomSeed = 42;
+
+    public InMemoryDataGenerator(InMemoryDataStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        List<String> institutionIds = seed(institutions, studentsPerInstitution, enrollmentsPerStudent);
+        log.info("In-memory data seeded: {} institutions x {} students x {} enrollments in {} ms; institutionIds={}",
+                institutions, studentsPerInstitution, enrollmentsPerStudent,
+                (System.nanoTime() - start) / 1_000_000, institutionIds);
+    }
+
+    /**
+     * Siembra el almacén y devuelve los ids de las instituciones generadas.
+     */
+    public List<String> seed(int institutionCount, int studentCount, int enrollmentCount) {
+        List<String> institutionIds = new ArrayList<>(institutionCount);
+        for (int i = 0; i < institutionCount; i++) {
+            SyntheticDataFactory.Institution institution = SyntheticDataFactory.institution(
+                    randomSeed, i, studentCount, enrollmentCount, classroomsPerInstitution);
+            store.insertStudents(institution.students());
+            store.insertEnrollments(institution.enrollments());
+            institutionIds.add(institution.institutionId());
+        }
+        return institutionIds;
+    }
+}
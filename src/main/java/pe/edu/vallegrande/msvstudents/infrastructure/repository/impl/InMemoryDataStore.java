@@ -0,0 +1,312 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.repository.impl;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+import pe.edu.vallegrande.msvstudents.domain.enums.EnrollmentStatus;
+import pe.edu.vallegrande.msvstudents.domain.model.Student;
+import pe.edu.vallegrande.msvstudents.domain.model.StudentEnrollment;
+import pe.edu.vallegrande.msvstudents.infrastructure.repository.BulkInsertResult;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Almacén en memoria compartido por los repositorios del perfil inmemory (pruebas de carga sin Mongo).
+ * - Documentos por _id en mapas ordenados, para la paginación por cursor
+ * - Índices secundarios por institución, aula y estudiante, y únicos por documento y qr_code,
+ *   equivalentes a los de MongoIndexReconciler
+ * - Latencia sintética opcional (inmemory.latency.min/max) antes de cada operación
+ * Las lecturas no bloquean; las escrituras de cada colección se serializan para mantener
+ * los índices y las restricciones únicas consistentes. Se guardan y entregan copias,
+ * como haría un driver que serializa los documentos.
+ */
+@Component
+@Profile("inmemory")
+public class InMemoryDataStore {
+
+    private final NavigableMap<String, Student> students = new ConcurrentSkipListMap<>();
+    private final NavigableMap<String, StudentEnrollment> enrollments = new ConcurrentSkipListMap<>();
+
+    private final SecondaryIndex studentsByInstitution = new SecondaryIndex();
+    private final Map<String, String> studentsByDocumentNumber = new ConcurrentHashMap<>();
+
+    private final SecondaryIndex enrollmentsByInstitution = new SecondaryIndex();
+    private final SecondaryIndex enrollmentsByClassroom = new SecondaryIndex();
+    private final SecondaryIndex enrollmentsByStudent = new SecondaryIndex();
+    private final Map<String, String> enrollmentsByQrCode = new ConcurrentHashMap<>();
+
+    private final long minLatencyNanos;
+    private final long maxLatencyNanos;
+
+    public InMemoryDataStore(
+            @Value("${inmemory.latency.min:0ms}") Duration minLatency,
+            @Value("${inmemory.latency.max:0ms}") Duration maxLatency) {
+        this.minLatencyNanos = minLatency.toNanos();
+        this.maxLatencyNanos = Math.max(minLatency.toNanos(), maxLatency.toNanos());
+    }
+
+    // --- Latencia sintética ---
+
+    <T> Mono<T> withLatency(Mono<T> operation) {
+        Duration latency = nextLatency();
+        return latency.isZero() ? operation : Mono.delay(latency).then(operation);
+    }
+
+    <T> Flux<T> withLatency(Flux<T> operation) {
+        Duration latency = nextLatency();
+        return latency.isZero() ? operation : Mono.delay(latency).thenMany(operation);
+    }
+
+    private Duration nextLatency() {
+        if (maxLatencyNanos <= 0) {
+            return Duration.ZERO;
+        }
+        long nanos = minLatencyNanos == maxLatencyNanos
+                ? minLatencyNanos
+                : ThreadLocalRandom.current().nextLong(minLatencyNanos, maxLatencyNanos + 1);
+        return Duration.ofNanos(nanos);
+    }
+
+    // --- Students ---
+
+    NavigableMap<String, Student> students() {
+        return students;
+    }
+
+    NavigableSet<String> studentIdsByInstitution(String institutionId) {
+        return studentsByInstitution.ids(institutionId);
+    }
+
+    String studentIdByDocumentNumber(String institutionId, String documentNumber) {
+        return studentsByDocumentNumber.get(key(institutionId, documentNumber));
+    }
+
+    Student saveStudent(Student student) {
+        Student stored = copy(student);
+        if (stored.getId() == null) {
+            stored.setId(UUID.randomUUID().toString());
+        }
+        synchronized (students) {
+            Student previous = students.get(stored.getId());
+            claimUnique(studentsByDocumentNumber, key(stored.getInstitutionId(), stored.getDocumentNumber()),
+                    stored.getId(), "students_institution_document_number");
+            if (previous != null) {
+                unindex(previous);
+            }
+            students.put(stored.getId(), stored);
+            index(stored);
+        }
+        return copy(stored);
+    }
+
+    BulkInsertResult insertStudents(List<Student> batch) {
+        Map<Integer, String> failures = new HashMap<>();
+        synchronized (students) {
+            for (int i = 0; i < batch.size(); i++) {
+                Student stored = copy(batch.get(i));
+                if (stored.getId() == null) {
+                    stored.setId(UUID.randomUUID().toString());
+                }
+                String documentKey = key(stored.getInstitutionId(), stored.getDocumentNumber());
+                if (students.containsKey(stored.getId())) {
+                    failures.put(i, "Duplicate key: _id " + stored.getId());
+                } else if (studentsByDocumentNumber.containsKey(documentKey)) {
+                    failures.put(i, "Duplicate key: students_institution_document_number " + documentKey);
+                } else {
+                    students.put(stored.getId(), stored);
+                    index(stored);
+                }
+            }
+        }
+        return new BulkInsertResult(batch.size() - failures.size(), failures);
+    }
+
+    private void index(Student student) {
+        studentsByInstitution.add(student.getInstitutionId(), student.getId());
+        studentsByDocumentNumber.put(key(student.getInstitutionId(), student.getDocumentNumber()), student.getId());
+    }
+
+    private void unindex(Student student) {
+        studentsByInstitution.remove(student.getInstitutionId(), student.getId());
+        studentsByDocumentNumber.remove(key(student.getInstitutionId(), student.getDocumentNumber()), student.getId());
+    }
+
+    // --- Enrollments ---
+
+    NavigableMap<String, StudentEnrollment> enrollments() {
+        return enrollments;
+    }
+
+    NavigableSet<String> enrollmentIdsByInstitution(String institutionId) {
+        return enrollmentsByInstitution.ids(institutionId);
+    }
+
+    NavigableSet<String> enrollmentIdsByClassroom(String classroomId) {
+        return enrollmentsByClassroom.ids(classroomId);
+    }
+
+    NavigableSet<String> enrollmentIdsByStudent(String studentId) {
+        return enrollmentsByStudent.ids(studentId);
+    }
+
+    boolean hasQrCode(String qrCode) {
+        return qrCode != null && enrollmentsByQrCode.containsKey(qrCode);
+    }
+
+    boolean hasActiveEnrollment(String studentId, String institutionId) {
+        for (String enrollmentId : enrollmentsByStudent.ids(studentId)) {
+            StudentEnrollment enrollment = enrollments.get(enrollmentId);
+            if (enrollment != null
+                    && enrollment.getStatus() == EnrollmentStatus.ACTIVE
+                    && institutionId.equals(enrollment.getInstitutionId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    StudentEnrollment saveEnrollment(StudentEnrollment enrollment) {
+        StudentEnrollment stored = copy(enrollment);
+        if (stored.getId() == null) {
+            stored.setId(UUID.randomUUID().toString());
+        }
+        synchronized (enrollments) {
+            StudentEnrollment previous = enrollments.get(stored.getId());
+            if (stored.getQrCode() != null) {
+                claimUnique(enrollmentsByQrCode, stored.getQrCode(), stored.getId(), "qr_code");
+            }
+            if (previous != null) {
+                unindex(previous);
+            }
+            enrollments.put(stored.getId(), stored);
+            index(stored);
+        }
+        return copy(stored);
+    }
+
+    BulkInsertResult insertEnrollments(List<StudentEnrollment> batch) {
+        Map<Integer, String> failures = new HashMap<>();
+        synchronized (enrollments) {
+            for (int i = 0; i < batch.size(); i++) {
+                StudentEnrollment stored = copy(batch.get(i));
+                if (stored.getId() == null) {
+                    stored.setId(UUID.randomUUID().toString());
+                }
+                if (enrollments.containsKey(stored.getId())) {
+                    failures.put(i, "Duplicate key: _id " + stored.getId());
+                } else if (hasQrCode(stored.getQrCode())) {
+                    failures.put(i, "Duplicate key: qr_code " + stored.getQrCode());
+                } else {
+                    enrollments.put(stored.getId(), stored);
+                    index(stored);
+                }
+            }
+        }
+        return new BulkInsertResult(batch.size() - failures.size(), failures);
+    }
+
+    private void index(StudentEnrollment enrollment) {
+        enrollmentsByInstitution.add(enrollment.getInstitutionId(), enrollment.getId());
+        enrollmentsByClassroom.add(enrollment.getClassroomId(), enrollment.getId());
+        enrollmentsByStudent.add(enrollment.getStudentId(), enrollment.getId());
+        if (enrollment.getQrCode() != null) {
+            enrollmentsByQrCode.put(enrollment.getQrCode(), enrollment.getId());
+        }
+    }
+
+    private void unindex(StudentEnrollment enrollment) {
+        enrollmentsByInstitution.remove(enrollment.getInstitutionId(), enrollment.getId());
+        enrollmentsByClassroom.remove(enrollment.getClassroomId(), enrollment.getId());
+        enrollmentsByStudent.remove(enrollment.getStudentId(), enrollment.getId());
+        if (enrollment.getQrCode() != null) {
+            enrollmentsByQrCode.remove(enrollment.getQrCode(), enrollment.getId());
+        }
+    }
+
+    // --- Utilidades ---
+
+    public void clear() {
+        synchronized (students) {
+            students.clear();
+            studentsByInstitution.clear();
+            studentsByDocumentNumber.clear();
+        }
+        synchronized (enrollments) {
+            enrollments.clear();
+            enrollmentsByInstitution.clear();
+            enrollmentsByClassroom.clear();
+            enrollmentsByStudent.clear();
+            enrollmentsByQrCode.clear();
+        }
+    }
+
+    static Student copy(Student student) {
+        Student copy = new Student();
+        BeanUtils.copyProperties(student, copy);
+        return copy;
+    }
+
+    static StudentEnrollment copy(StudentEnrollment enrollment) {
+        StudentEnrollment copy = new StudentEnrollment();
+        BeanUtils.copyProperties(enrollment, copy);
+        return copy;
+    }
+
+    private static void claimUnique(Map<String, String> uniqueIndex, String key, String id, String indexName) {
+        String owner = uniqueIndex.get(key);
+        if (owner != null && !owner.equals(id)) {
+            throw new DuplicateKeyException("E11000 duplicate key error index: " + indexName + " dup key: " + key);
+        }
+    }
+
+    private static String key(String first, String second) {
+        return first + '\u0000' + second;
+    }
+
+    /**
+     * Índice secundario no único: valor del campo -> ids ordenados.
+     */
+    private static final class SecondaryIndex {
+
+        private final Map<String, NavigableSet<String>> entries = new ConcurrentHashMap<>();
+
+        void add(String key, String id) {
+            if (key != null) {
+                entries.computeIfAbsent(key, k -> new ConcurrentSkipListSet<>()).add(id);
+            }
+        }
+
+        void remove(String key, String id) {
+            if (key != null) {
+                entries.computeIfPresent(key, (k, ids) -> {
+                    ids.remove(id);
+                    return ids.isEmpty() ? null : ids;
+                });
+            }
+        }
+
+        NavigableSet<String> ids(String key) {
+            NavigableSet<String> ids = key == null ? null : entries.get(key);
+            return ids == null ? Collections.emptyNavigableSet() : ids;
+        }
+
+        void clear() {
+            entries.clear();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.repository.impl;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import pe.edu.vallegrande.msvstudents.domain.model.InstitutionVersion;
+import pe.edu.vallegrande.msvstudents.infrastructure.repository.InstitutionVersionRepository;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * InstitutionVersionRepository en memoria (perfil inmemory): misma semántica que
+ * InstitutionVersionRepositoryImpl para una sola instancia.
+ */
+@Repository
+@Profile("inmemory")
+public class InMemoryInstitutionVersionRepository implements InstitutionVersionRepository {
+
+    private record Counter(String epoch, long version, Instant lastModified) {
+    }
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    @Override
+    public Mono<InstitutionVersion> findByInstitutionId(String institutionId) {
+        return Mono.fromSupplier(() -> {
+            Counter counter = counters.get(institutionId);
+            return counter == null ? null : InstitutionVersion.of(counter.epoch(), counter.version(), counter.lastModified());
+        });
+    }
+
+    @Override
+    public Mono<Void> increment(String institutionId, Instant now) {
+        return Mono.fromRunnable(() -> counters.compute(institutionId, (key, previous) -> previous == null
+                ? new Counter(Long.toString(now.toEpochMilli(), 36), 1, now)
+                : new Counter(previous.epoch(), previous.version() + 1, max(now, previous.lastModified().plusSeconds(1)))));
+    }
+
+    private static Instant max(Instant first, Instant second) {
+        return first.isAfter(second) ? first : second;
+    }
+}
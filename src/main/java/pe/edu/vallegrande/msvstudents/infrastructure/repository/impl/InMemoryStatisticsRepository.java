@@ -0,0 +1,106 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.repository.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import pe.edu.vallegrande.msvstudents.domain.model.InstitutionStatistics;
+import pe.edu.vallegrande.msvstudents.domain.model.Student;
+import pe.edu.vallegrande.msvstudents.domain.model.StudentEnrollment;
+import pe.edu.vallegrande.msvstudents.infrastructure.repository.StatisticsRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+/**
+ * StatisticsRepository sobre InMemoryDataStore (perfil inmemory): los mismos conteos que
+ * los pipelines de StatisticsRepositoryImpl, recorriendo el índice por institución.
+ * Sin documento materializado: cada lectura recalcula en memoria, así que los $inc se ignoran.
+ */
+@Repository
+@Profile("inmemory")
+@RequiredArgsConstructor
+public class InMemoryStatisticsRepository implements StatisticsRepository {
+
+    private final InMemoryDataStore store;
+
+    @Override
+    public Mono<InstitutionStatistics> aggregateStudentStatistics(String institutionId) {
+        return store.withLatency(Mono.fromSupplier(() -> {
+            InstitutionStatistics statistics = new InstitutionStatistics();
+            addStudents(statistics, institutionId);
+            return statistics;
+        }));
+    }
+
+    @Override
+    public Mono<InstitutionStatistics> aggregateEnrollmentStatistics(String institutionId) {
+        return store.withLatency(Mono.fromSupplier(() -> {
+            InstitutionStatistics statistics = new InstitutionStatistics();
+            addEnrollments(statistics, institutionId);
+            return statistics;
+        }));
+    }
+
+    @Override
+    public Mono<InstitutionStatistics> aggregateInstitutionStatistics(String institutionId) {
+        return store.withLatency(Mono.fromSupplier(() -> {
+            InstitutionStatistics statistics = new InstitutionStatistics();
+            addStudents(statistics, institutionId);
+            addEnrollments(statistics, institutionId);
+            return statistics;
+        }));
+    }
+
+    @Override
+    public Mono<InstitutionStatistics> findMaterializedStatistics(String institutionId) {
+        return aggregateInstitutionStatistics(institutionId);
+    }
+
+    @Override
+    public Mono<Void> incrementStatistics(String institutionId, InstitutionStatistics delta) {
+        return Mono.empty();
+    }
+
+    @Override
+    public Mono<Boolean> saveMaterializedStatistics(String institutionId, InstitutionStatistics statistics, Long expectedVersion) {
+        return Mono.just(false);
+    }
+
+    @Override
+    public Flux<String> findInstitutionIds() {
+        return Flux.defer(() -> Flux.fromStream(store.students().values().stream()
+                .map(Student::getInstitutionId)
+                .filter(Objects::nonNull)
+                .distinct()));
+    }
+
+    private void addStudents(InstitutionStatistics statistics, String institutionId) {
+        for (String studentId : store.studentIdsByInstitution(institutionId)) {
+            Student student = store.students().get(studentId);
+            if (student == null) {
+                continue;
+            }
+            statistics.setTotalStudents(statistics.getTotalStudents() + 1);
+            if (student.getStatus() != null) {
+                statistics.getStudentsByStatus().merge(student.getStatus(), 1L, Long::sum);
+            }
+            if (!store.hasActiveEnrollment(studentId, institutionId)) {
+                statistics.setUnenrolledStudents(statistics.getUnenrolledStudents() + 1);
+            }
+        }
+    }
+
+    private void addEnrollments(InstitutionStatistics statistics, String institutionId) {
+        for (String enrollmentId : store.enrollmentIdsByInstitution(institutionId)) {
+            StudentEnrollment enrollment = store.enrollments().get(enrollmentId);
+            if (enrollment == null) {
+                continue;
+            }
+            statistics.setTotalEnrollments(statistics.getTotalEnrollments() + 1);
+            if (enrollment.getStatus() != null) {
+                statistics.getEnrollmentsByStatus().merge(enrollment.getStatus(), 1L, Long::sum);
+            }
+        }
+    }
+}
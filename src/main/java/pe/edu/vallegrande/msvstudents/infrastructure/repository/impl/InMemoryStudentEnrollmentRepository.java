@@ -0,0 +1,145 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.repository.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import pe.edu.vallegrande.msvstudents.domain.enums.EnrollmentStatus;
+import pe.edu.vallegrande.msvstudents.domain.model.EnrollmentWithStudent;
+import pe.edu.vallegrande.msvstudents.domain.model.Student;
+import pe.edu.vallegrande.msvstudents.domain.model.StudentEnrollment;
+import pe.edu.vallegrande.msvstudents.infrastructure.repository.BulkInsertResult;
+import pe.edu.vallegrande.msvstudents.infrastructure.repository.StudentEnrollmentRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * StudentEnrollmentRepository sobre InMemoryDataStore (perfil inmemory). Replica la semántica
+ * de StudentEnrollmentRepositoryImpl usando los índices por institución, aula y estudiante.
+ */
+@Repository
+@Profile("inmemory")
+@RequiredArgsConstructor
+public class InMemoryStudentEnrollmentRepository implements StudentEnrollmentRepository {
+
+    private final InMemoryDataStore store;
+
+    @Override
+    public Mono<StudentEnrollment> save(StudentEnrollment enrollment) {
+        return store.withLatency(Mono.fromCallable(() -> store.saveEnrollment(enrollment)));
+    }
+
+    @Override
+    public Mono<StudentEnrollment> findById(String id) {
+        return store.withLatency(Mono.fromSupplier(() -> {
+            StudentEnrollment enrollment = id == null ? null : store.enrollments().get(id);
+            return enrollment == null ? null : InMemoryDataStore.copy(enrollment);
+        }));
+    }
+
+    @Override
+    public Flux<StudentEnrollment> findByInstitutionId(String institutionId) {
+        return store.withLatency(Flux.defer(() -> stream(store.enrollmentIdsByInstitution(institutionId).stream(), any())));
+    }
+
+    @Override
+    public Mono<Boolean> existsById(String enrollmentId) {
+        return store.withLatency(Mono.fromSupplier(() -> store.enrollments().containsKey(enrollmentId)));
+    }
+
+    @Override
+    public Mono<Boolean> existsByQrCode(String qrCode) {
+        return store.withLatency(Mono.fromSupplier(() -> store.hasQrCode(qrCode)));
+    }
+
+    @Override
+    public Flux<StudentEnrollment> findByClassroomIdIn(List<String> classroomIds) {
+        return store.withLatency(Flux.defer(() -> stream(classroomIds.stream()
+                .distinct()
+                .flatMap(classroomId -> store.enrollmentIdsByClassroom(classroomId).stream()), any())));
+    }
+
+    @Override
+    public Flux<StudentEnrollment> findByStudentIdAndInstitutionId(String studentId, String institutionId) {
+        return store.withLatency(Flux.defer(() ->
+                stream(store.enrollmentIdsByStudent(studentId).stream(), inInstitution(institutionId))));
+    }
+
+    @Override
+    public Flux<StudentEnrollment> findByClassroomId(String classroomId) {
+        return store.withLatency(Flux.defer(() -> stream(store.enrollmentIdsByClassroom(classroomId).stream(), any())));
+    }
+
+    @Override
+    public Flux<StudentEnrollment> findByInstitutionIdAfter(String institutionId, String afterId, int limit) {
+        return store.withLatency(Flux.defer(() ->
+                stream(after(store.enrollmentIdsByInstitution(institutionId), afterId).stream().limit(limit), any())));
+    }
+
+    @Override
+    public Flux<StudentEnrollment> findByClassroomIdAndInstitutionIdAfter(String classroomId, String institutionId, String afterId, int limit) {
+        return store.withLatency(Flux.defer(() -> Flux.fromStream(stored(after(store.enrollmentIdsByClassroom(classroomId), afterId).stream())
+                .filter(inInstitution(institutionId))
+                .limit(limit)
+                .map(InMemoryDataStore::copy))));
+    }
+
+    @Override
+    public Flux<EnrollmentWithStudent> findByClassroomIdWithStudent(String classroomId, String institutionId) {
+        Predicate<StudentEnrollment> filter = institutionId == null ? any() : inInstitution(institutionId);
+        // Igual que $lookup + $unwind: las matrículas sin estudiante se descartan
+        return store.withLatency(Flux.defer(() -> Flux.fromStream(stored(store.enrollmentIdsByClassroom(classroomId).stream())
+                .filter(filter)
+                .map(enrollment -> {
+                    Student student = store.students().get(enrollment.getStudentId());
+                    return student == null ? null : new EnrollmentWithStudent(
+                            InMemoryDataStore.copy(enrollment), InMemoryDataStore.copy(student));
+                })
+                .filter(Objects::nonNull))));
+    }
+
+    @Override
+    public Mono<BulkInsertResult> insertAllUnordered(List<StudentEnrollment> enrollments) {
+        if (enrollments.isEmpty()) {
+            return Mono.just(BulkInsertResult.empty());
+        }
+        return store.withLatency(Mono.fromCallable(() -> store.insertEnrollments(enrollments)));
+    }
+
+    @Override
+    public Mono<Map<String, Long>> countActiveByStudentIds(Collection<String> studentIds, String institutionId) {
+        return store.withLatency(Mono.fromSupplier(() -> stored(studentIds.stream()
+                        .flatMap(studentId -> store.enrollmentIdsByStudent(studentId).stream()))
+                .filter(inInstitution(institutionId))
+                .filter(enrollment -> enrollment.getStatus() == EnrollmentStatus.ACTIVE)
+                .collect(Collectors.groupingBy(StudentEnrollment::getStudentId, Collectors.counting()))));
+    }
+
+    private Flux<StudentEnrollment> stream(Stream<String> ids, Predicate<StudentEnrollment> filter) {
+        return Flux.fromStream(stored(ids).filter(filter).map(InMemoryDataStore::copy));
+    }
+
+    private Stream<StudentEnrollment> stored(Stream<String> ids) {
+        return ids.map(store.enrollments()::get).filter(Objects::nonNull);
+    }
+
+    private static Predicate<StudentEnrollment> any() {
+        return enrollment -> true;
+    }
+
+    private static Predicate<StudentEnrollment> inInstitution(String institutionId) {
+        return enrollment -> Objects.equals(institutionId, enrollment.getInstitutionId());
+    }
+
+    private static NavigableSet<String> after(NavigableSet<String> ids, String afterId) {
+        return afterId == null ? ids : ids.tailSet(afterId, false);
+    }
+}
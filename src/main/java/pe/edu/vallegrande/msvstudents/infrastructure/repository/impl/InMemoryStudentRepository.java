@@ -0,0 +1,221 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.repository.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import pe.edu.vallegrande.msvstudents.domain.enums.Status;
+import pe.edu.vallegrande.msvstudents.domain.model.Student;
+import pe.edu.vallegrande.msvstudents.infrastructure.repository.BulkInsertResult;
+import pe.edu.vallegrande.msvstudents.infrastructure.repository.StudentRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * StudentRepository sobre InMemoryDataStore (perfil inmemory). Replica la semántica de
+ * StudentRepositoryImpl usando los índices secundarios del almacén en lugar de recorrer todo.
+ */
+@Repository
+@Profile("inmemory")
+@RequiredArgsConstructor
+public class InMemoryStudentRepository implements StudentRepository {
+
+    private static final Comparator<Student> BY_NAME = Comparator
+            .comparing(Student::getLastName, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Student::getFirstName, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final InMemoryDataStore store;
+
+    @Override
+    public Mono<Student> save(Student student) {
+        return store.withLatency(Mono.fromCallable(() -> store.saveStudent(student)));
+    }
+
+    @Override
+    public Mono<Student> findById(String id) {
+        return store.withLatency(Mono.fromSupplier(() -> copyOrNull(id)));
+    }
+
+    @Override
+    public Mono<Student> findByIdForUpdate(String id) {
+        return findById(id);
+    }
+
+    @Override
+    public Flux<Student> findAllByIds(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+        return store.withLatency(Flux.defer(() -> stream(ids.stream().distinct())));
+    }
+
+    @Override
+    public Flux<Student> findAll() {
+        return store.withLatency(Flux.defer(() -> stream(store.students().keySet().stream())));
+    }
+
+    @Override
+    public Flux<Student> findByInstitutionId(String institutionId) {
+        return store.withLatency(Flux.defer(() -> stream(store.studentIdsByInstitution(institutionId).stream())));
+    }
+
+    @Override
+    public Mono<Boolean> existsById(String studentId) {
+        return store.withLatency(Mono.fromSupplier(() -> store.students().containsKey(studentId)));
+    }
+
+    @Override
+    public Mono<Student> findByDocumentNumberAndInstitutionId(String documentNumber, String institutionId) {
+        return store.withLatency(Mono.fromSupplier(() ->
+                copyOrNull(store.studentIdByDocumentNumber(institutionId, documentNumber))));
+    }
+
+    @Override
+    public Flux<Student> findByInstitutionIdAndStatus(String institutionId, Status status) {
+        return store.withLatency(Flux.defer(() -> stream(store.studentIdsByInstitution(institutionId).stream(), hasStatus(status))));
+    }
+
+    @Override
+    public Mono<Long> countByInstitutionId(String institutionId) {
+        return store.withLatency(Mono.fromSupplier(() -> (long) store.studentIdsByInstitution(institutionId).size()));
+    }
+
+    @Override
+    public Mono<Long> countByInstitutionIdAndStatus(String institutionId, Status status) {
+        return store.withLatency(Mono.fromSupplier(() -> stored(store.studentIdsByInstitution(institutionId).stream())
+                .filter(hasStatus(status))
+                .count()));
+    }
+
+    @Override
+    public Flux<Student> findUnenrolledByInstitutionId(String institutionId) {
+        return store.withLatency(Flux.defer(() ->
+                stream(store.studentIdsByInstitution(institutionId).stream(), unenrolledIn(institutionId))));
+    }
+
+    @Override
+    public Mono<Long> countUnenrolledByInstitutionId(String institutionId) {
+        return store.withLatency(Mono.fromSupplier(() -> stored(store.studentIdsByInstitution(institutionId).stream())
+                .filter(unenrolledIn(institutionId))
+                .count()));
+    }
+
+    @Override
+    public Flux<Student> findAllAfter(String afterId, int limit) {
+        return store.withLatency(Flux.defer(() -> stream(after(store.students().navigableKeySet(), afterId).stream().limit(limit))));
+    }
+
+    @Override
+    public Flux<Student> findByInstitutionIdAfter(String institutionId, String afterId, int limit) {
+        return store.withLatency(Flux.defer(() ->
+                stream(after(store.studentIdsByInstitution(institutionId), afterId).stream().limit(limit))));
+    }
+
+    @Override
+    public Flux<Student> findByInstitutionIdAndStatusAfter(String institutionId, Status status, String afterId, int limit) {
+        return store.withLatency(Flux.defer(() -> Flux.fromStream(stored(after(store.studentIdsByInstitution(institutionId), afterId).stream())
+                .filter(hasStatus(status))
+                .limit(limit)
+                .map(InMemoryDataStore::copy))));
+    }
+
+    @Override
+    public Flux<Student> findBySearchTermPrefixes(String institutionId, List<String> terms, int limit) {
+        Predicate<Student> matchesAll = student -> student.getSearchTerms() != null && terms.stream()
+                .allMatch(term -> student.getSearchTerms().stream().anyMatch(word -> word.startsWith(term)));
+        return store.withLatency(Flux.defer(() -> Flux.fromStream(stored(store.studentIdsByInstitution(institutionId).stream())
+                .filter(matchesAll)
+                .sorted(BY_NAME)
+                .limit(limit)
+                .map(InMemoryDataStore::copy))));
+    }
+
+    @Override
+    public Flux<Student> findByText(String institutionId, List<String> terms, int limit) {
+        // Aproxima el índice de texto (language none): puntaje = términos presentes como palabra completa
+        Comparator<Student> byScore = Comparator.comparingLong((Student student) -> textScore(student, terms)).reversed();
+        return store.withLatency(Flux.defer(() -> Flux.fromStream(stored(store.studentIdsByInstitution(institutionId).stream())
+                .filter(student -> textScore(student, terms) > 0)
+                .sorted(byScore)
+                .limit(limit)
+                .map(InMemoryDataStore::copy))));
+    }
+
+    @Override
+    public Flux<Student> findWithoutSearchTerms(int limit) {
+        return store.withLatency(Flux.defer(() -> Flux.fromStream(store.students().values().stream()
+                .filter(student -> student.getSearchTerms() == null)
+                .limit(limit)
+                .map(InMemoryDataStore::copy))));
+    }
+
+    @Override
+    public Mono<Boolean> setSearchTermsIfMissing(String id, List<String> searchTerms) {
+        return store.withLatency(Mono.fromSupplier(() -> {
+            synchronized (store.students()) {
+                Student stored = store.students().get(id);
+                if (stored == null || stored.getSearchTerms() != null) {
+                    return false;
+                }
+                stored.setSearchTerms(List.copyOf(searchTerms));
+                return true;
+            }
+        }));
+    }
+
+    @Override
+    public Flux<String> findExistingDocumentNumbers(String institutionId, Collection<String> documentNumbers) {
+        return store.withLatency(Flux.defer(() -> Flux.fromStream(documentNumbers.stream()
+                .distinct()
+                .filter(documentNumber -> store.studentIdByDocumentNumber(institutionId, documentNumber) != null))));
+    }
+
+    @Override
+    public Mono<BulkInsertResult> insertAllUnordered(List<Student> students) {
+        if (students.isEmpty()) {
+            return Mono.just(BulkInsertResult.empty());
+        }
+        return store.withLatency(Mono.fromCallable(() -> store.insertStudents(students)));
+    }
+
+    private Flux<Student> stream(Stream<String> ids) {
+        return Flux.fromStream(stored(ids).map(InMemoryDataStore::copy));
+    }
+
+    private Flux<Student> stream(Stream<String> ids, Predicate<Student> filter) {
+        return Flux.fromStream(stored(ids).filter(filter).map(InMemoryDataStore::copy));
+    }
+
+    // Un id puede desaparecer del mapa entre el índice y la lectura: se descarta
+    private Stream<Student> stored(Stream<String> ids) {
+        return ids.map(store.students()::get).filter(Objects::nonNull);
+    }
+
+    private Student copyOrNull(String id) {
+        Student student = id == null ? null : store.students().get(id);
+        return student == null ? null : InMemoryDataStore.copy(student);
+    }
+
+    private Predicate<Student> unenrolledIn(String institutionId) {
+        return student -> !store.hasActiveEnrollment(student.getId(), institutionId);
+    }
+
+    private static Predicate<Student> hasStatus(Status status) {
+        return student -> student.getStatus() == status;
+    }
+
+    private static NavigableSet<String> after(NavigableSet<String> ids, String afterId) {
+        return afterId == null ? ids : ids.tailSet(afterId, false);
+    }
+
+    private static long textScore(Student student, List<String> terms) {
+        return student.getSearchTerms() == null ? 0 : terms.stream().filter(student.getSearchTerms()::contains).count();
+    }
+}
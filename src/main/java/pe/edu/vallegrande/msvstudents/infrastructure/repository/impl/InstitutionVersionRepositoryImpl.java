@@ -0,0 +1,57 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.repository.impl;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.UpdateOptions;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Repository;
+import pe.edu.vallegrande.msvstudents.domain.model.InstitutionVersion;
+import pe.edu.vallegrande.msvstudents.infrastructure.repository.InstitutionVersionRepository;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Contador de versión por institución en la colección institution_versions (_id = institutionId),
+ * compartido por todas las réplicas: una escritura en cualquiera invalida los ETag de las demás.
+ */
+@Repository
+@Profile("!inmemory")
+@RequiredArgsConstructor
+public class InstitutionVersionRepositoryImpl implements InstitutionVersionRepository {
+
+    static final String COLLECTION = "institution_versions";
+    private static final String VERSION = "version";
+    private static final String EPOCH = "epoch";
+    private static final String LAST_MODIFIED = "last_modified";
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    @Override
+    public Mono<InstitutionVersion> findByInstitutionId(String institutionId) {
+        return mongoTemplate.findById(institutionId, Document.class, COLLECTION)
+                .map(document -> InstitutionVersion.of(
+                        document.getString(EPOCH),
+                        document.get(VERSION, Number.class).longValue(),
+                        document.getDate(LAST_MODIFIED).toInstant()));
+    }
+
+    @Override
+    public Mono<Void> increment(String institutionId, Instant now) {
+        // Update con pipeline (Mongo 4.2+): Last-Modified depende del valor anterior en la misma operación atómica
+        Document set = new Document("$set", new Document()
+                .append(VERSION, new Document("$add", List.of(new Document("$ifNull", List.of("$" + VERSION, 0L)), 1L)))
+                .append(EPOCH, new Document("$ifNull", List.of("$" + EPOCH, Long.toString(now.toEpochMilli(), 36))))
+                .append(LAST_MODIFIED, new Document("$max", List.of(
+                        Date.from(now),
+                        new Document("$add", List.of(new Document("$ifNull", List.of("$" + LAST_MODIFIED, new Date(0))), 1000L))))));
+        return mongoTemplate.getCollection(COLLECTION)
+                .flatMap(collection -> Mono.from(collection.updateOne(
+                        Filters.eq("_id", institutionId), List.of(set), new UpdateOptions().upsert(true))))
+                .then();
+    }
+}
@@ -0,0 +1,208 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.repository.impl;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Component;
+import pe.edu.vallegrande.msvstudents.application.service.InstitutionStatisticsService;
+import pe.edu.vallegrande.msvstudents.application.service.InstitutionVersionService;
+import pe.edu.vallegrande.msvstudents.domain.enums.DocumentType;
+import pe.edu.vallegrande.msvstudents.domain.enums.EnrollmentStatus;
+import pe.edu.vallegrande.msvstudents.domain.enums.EnrollmentType;
+import pe.edu.vallegrande.msvstudents.domain.enums.Gender;
+import pe.edu.vallegrande.msvstudents.domain.enums.Status;
+import pe.edu.vallegrande.msvstudents.domain.model.Student;
+import pe.edu.vallegrande.msvstudents.domain.model.StudentEnrollment;
+import pe.edu.vallegrande.msvstudents.infrastructure.repository.BulkInsertResult;
+import pe.edu.vallegrande.msvstudents.infrastructure.util.StudentMapper;
+import pe.edu.vallegrande.msvstudents.infrastructure.util.SyntheticDataFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Siembra Mongo solo con el perfil seed, en segundo plano una vez que la aplicación está lista.
+ * Es idempotente: ids deterministas + upsert con $setOnInsert, así que reiniciar no duplica
+ * ni modifica documentos existentes.
+ *
+ * seed.dataset=demo: los dos estudiantes de ejemplo de la colección Postman.
+ * seed.dataset=synthetic: N instituciones × M estudiantes × K matrículas (SyntheticDataFactory),
+ * generadas de a una institución e insertadas en lotes de seed.batch-size.
+ */
+@Slf4j
+@Component
+@Profile("seed & !inmemory")
+public class MongoDataSeeder {
+
+    static final String DEMO_INSTITUTION_ID = "96960392-1e5f-4e66-afc9-4b5bcd771d9f";
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final InstitutionVersionService institutionVersions;
+    private final InstitutionStatisticsService institutionStatistics;
+
+    @Value("${seed.dataset:demo}")
+    private String dataset = "demo";
+
+    @Value("${seed.institutions:1}")
+    private int institutions = 1;
+
+    @Value("${seed.students-per-institution:1000}")
+    private int studentsPerInstitution = 1000;
+
+    @Value("${seed.enrollments-per-student:1}")
+    private int enrollmentsPerStudent = 1;
+
+    @Value("${seed.classrooms-per-institution:20}")
+    private int classroomsPerInstitution = 20;
+
+    @Value("${seed.random-seed:42}")
+    private long randomSeed = 42;
+
+    @Value("${seed.batch-size:1000}")
+    private int batchSize = 1000;
+
+    @Value("${seed.concurrency:2}")
+    private int concurrency = 2;
+
+    private volatile Disposable seeding;
+
+    public MongoDataSeeder(ReactiveMongoTemplate mongoTemplate, InstitutionVersionService institutionVersions,
+                           InstitutionStatisticsService institutionStatistics) {
+        this.mongoTemplate = mongoTemplate;
+        this.institutionVersions = institutionVersions;
+        this.institutionStatistics = institutionStatistics;
+    }
+
+    /**
+     * Resultado acumulado: documentos generados e insertados (el resto ya existía o falló).
+     */
+    record SeedResult(int students, int studentsInserted, int enrollments, int enrollmentsInserted) {
+
+        SeedResult plus(SeedResult other) {
+            return new SeedResult(students + other.students, studentsInserted + other.studentsInserted,
+                    enrollments + other.enrollments, enrollmentsInserted + other.enrollmentsInserted);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedOnStartup() {
+        long start = System.nanoTime();
+        // La generación sintética es CPU: fuera del hilo que publica el evento
+        seeding = seed()
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe(
+                    result -> log.info("Seeding ({}) finished in {} ms: {}/{} students and {}/{} enrollments inserted, the rest already existed",
+                            dataset, (System.nanoTime() - start) / 1_000_000,
+                            result.studentsInserted(), result.students(),
+                            result.enrollmentsInserted(), result.enrollments()),
+                    error -> log.warn("Seeding ({}) failed: {}", dataset, error.getMessage())
+                );
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (seeding != null) {
+            seeding.dispose();
+        }
+    }
+
+    Mono<SeedResult> seed() {
+        Flux<SyntheticDataFactory.Institution> data = "synthetic".equalsIgnoreCase(dataset)
+                ? Flux.range(0, institutions).map(index -> SyntheticDataFactory.institution(
+                        randomSeed, index, studentsPerInstitution, enrollmentsPerStudent, classroomsPerInstitution))
+                : Flux.defer(() -> Flux.just(demoInstitution()));
+        return data
+                .concatMap(this::seedInstitution)
+                .reduce(new SeedResult(0, 0, 0, 0), SeedResult::plus);
+    }
+
+    // Primero los estudiantes: las matrículas los referencian
+    private Mono<SeedResult> seedInstitution(SyntheticDataFactory.Institution institution) {
+        return insertIfAbsent(institution.students(), Student.class)
+                .flatMap(studentsInserted -> insertIfAbsent(institution.enrollments(), StudentEnrollment.class)
+                        .map(enrollmentsInserted -> new SeedResult(
+                                institution.students().size(), studentsInserted,
+                                institution.enrollments().size(), enrollmentsInserted)))
+                // Los inserts no pasan por los $inc de los servicios: se recalcula institution_stats
+                .flatMap(result -> institutionStatistics.reconcile(institution.institutionId()).thenReturn(result))
+                // Se siembra con la aplicación ya atendiendo: invalida los ETag de listados ya entregados
+                .flatMap(result -> institutionVersions.bump(institution.institutionId()).thenReturn(result))
+                .doOnNext(result -> log.debug("Institution {} seeded: {}", institution.institutionId(), result));
+    }
+
+    private Mono<Integer> insertIfAbsent(List<?> documents, Class<?> entityClass) {
+        return Flux.fromIterable(documents)
+                .buffer(batchSize)
+                .flatMap(batch -> BulkInserts.insertIfAbsent(mongoTemplate, batch, entityClass), concurrency)
+                .doOnNext(result -> result.getFailures().values().stream().findFirst().ifPresent(reason ->
+                        log.warn("Seeding {}: {} documents rejected, e.g. {}",
+                                entityClass.getSimpleName(), result.getFailures().size(), reason)))
+                .map(BulkInsertResult::getInsertedCount)
+                .reduce(0, Integer::sum);
+    }
+
+    private static SyntheticDataFactory.Institution demoInstitution() {
+        LocalDateTime now = LocalDateTime.now();
+        Student student1 = demoStudent("Juan Carlos", "González Pérez", "78901234", Gender.MALE, LocalDate.of(2015, 3, 15),
+                "Jr. Los Pinos 123, Lima", "912345678", "Carlos González", "987654321", "carlos.gonzalez@mail.com", now);
+        Student student2 = demoStudent("María Lucía", "Martínez López", "78901235", Gender.FEMALE, LocalDate.of(2014, 5, 20),
+                "Av. Los Jardines 456, Miraflores", "912345679", "Rosa López", "987654322", "rosa.lopez@mail.com", now);
+        return new SyntheticDataFactory.Institution(DEMO_INSTITUTION_ID,
+                List.of(student1, student2),
+                List.of(demoEnrollment(student1, now), demoEnrollment(student2, now)));
+    }
+
+    private static Student demoStudent(String firstName, String lastName, String documentNumber, Gender gender,
+                                       LocalDate birthDate, String address, String phone, String parentName,
+                                       String parentPhone, String parentEmail, LocalDateTime now) {
+        Student student = new Student();
+        student.setId(demoId("student-" + documentNumber));
+        student.setInstitutionId(DEMO_INSTITUTION_ID);
+        student.setFirstName(firstName);
+        student.setLastName(lastName);
+        student.setDocumentType(DocumentType.DNI);
+        student.setDocumentNumber(documentNumber);
+        student.setGender(gender);
+        student.setBirthDate(birthDate);
+        student.setAddress(address);
+        student.setPhone(phone);
+        student.setParentName(parentName);
+        student.setParentPhone(parentPhone);
+        student.setParentEmail(parentEmail);
+        student.setStatus(Status.ACTIVE);
+        student.setCreatedAt(now);
+        student.setUpdatedAt(now);
+        return StudentMapper.refreshSearchTerms(student);
+    }
+
+    private static StudentEnrollment demoEnrollment(Student student, LocalDateTime now) {
+        StudentEnrollment enrollment = new StudentEnrollment();
+        enrollment.setId(demoId("enrollment-" + student.getDocumentNumber()));
+        enrollment.setStudentId(student.getId());
+        enrollment.setClassroomId("classroom-2024-001");
+        enrollment.setInstitutionId(DEMO_INSTITUTION_ID);
+        enrollment.setEnrollmentDate(LocalDate.of(2024, 3, 1));
+        enrollment.setEnrollmentType(EnrollmentType.REGULAR);
+        enrollment.setStatus(EnrollmentStatus.ACTIVE);
+        // Mismo formato que QrCodeRenderer.newPayload, pero reproducible entre ejecuciones
+        enrollment.setQrCode(demoId("qr-" + student.getDocumentNumber()).replace("-", ""));
+        enrollment.setCreatedAt(now);
+        enrollment.setUpdatedAt(now);
+        return enrollment;
+    }
+
+    private static String demoId(String key) {
+        return UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+}
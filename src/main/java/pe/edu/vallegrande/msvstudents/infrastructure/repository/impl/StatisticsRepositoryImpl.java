@@ -0,0 +1,244 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.repository.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.UnionWithOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+import pe.edu.vallegrande.msvstudents.domain.enums.EnrollmentStatus;
+import pe.edu.vallegrande.msvstudents.domain.enums.Status;
+import pe.edu.vallegrande.msvstudents.domain.model.InstitutionStatistics;
+import pe.edu.vallegrande.msvstudents.domain.model.Student;
+import pe.edu.vallegrande.msvstudents.domain.model.StudentEnrollment;
+import pe.edu.vallegrande.msvstudents.infrastructure.repository.StatisticsRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static pe.edu.vallegrande.msvstudents.infrastructure.repository.impl.EnrollmentLookups.ACTIVE_ENROLLMENTS;
+import static pe.edu.vallegrande.msvstudents.infrastructure.repository.impl.EnrollmentLookups.activeEnrollmentLookup;
+
+@Repository
+@Profile("!inmemory")
+@RequiredArgsConstructor
+public class StatisticsRepositoryImpl implements StatisticsRepository {
+
+    private static final String STUDENTS_BY_STATUS = "studentsByStatus";
+    private static final String ENROLLMENTS_BY_STATUS = "enrollmentsByStatus";
+    private static final String UNENROLLED = "unenrolled";
+
+    // Un documento por institución (_id = institutionId) con los conteos mantenidos con $inc
+    static final String MATERIALIZED_COLLECTION = "institution_stats";
+    private static final String TOTAL_STUDENTS = "total_students";
+    private static final String MATERIALIZED_STUDENTS_BY_STATUS = "students_by_status";
+    private static final String UNENROLLED_STUDENTS = "unenrolled_students";
+    private static final String TOTAL_ENROLLMENTS = "total_enrollments";
+    private static final String MATERIALIZED_ENROLLMENTS_BY_STATUS = "enrollments_by_status";
+    private static final String VERSION = "version";
+    private static final String UPDATED_AT = "updated_at";
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    @Override
+    public Mono<InstitutionStatistics> aggregateStudentStatistics(String institutionId) {
+        Aggregation aggregation = Aggregation.newAggregation(
+            Aggregation.match(Criteria.where("institution_id").is(institutionId)),
+            Aggregation.project("_id", "institution_id", "status"),
+            Aggregation.facet(Aggregation.group("status").count().as("count")).as(STUDENTS_BY_STATUS)
+                    .and(
+                        activeEnrollmentLookup(),
+                        Aggregation.match(Criteria.where(ACTIVE_ENROLLMENTS).size(0)),
+                        Aggregation.count().as("count")
+                    ).as(UNENROLLED)
+        );
+        return mongoTemplate.aggregate(aggregation, Student.class, Document.class)
+                .next()
+                .map(StatisticsRepositoryImpl::toStatistics)
+                .defaultIfEmpty(new InstitutionStatistics());
+    }
+
+    @Override
+    public Mono<InstitutionStatistics> aggregateEnrollmentStatistics(String institutionId) {
+        Aggregation aggregation = Aggregation.newAggregation(
+            Aggregation.match(Criteria.where("institution_id").is(institutionId)),
+            Aggregation.facet(Aggregation.group("status").count().as("count")).as(ENROLLMENTS_BY_STATUS)
+        );
+        return mongoTemplate.aggregate(aggregation, StudentEnrollment.class, Document.class)
+                .next()
+                .map(StatisticsRepositoryImpl::toStatistics)
+                .defaultIfEmpty(new InstitutionStatistics());
+    }
+
+    @Override
+    public Mono<InstitutionStatistics> aggregateInstitutionStatistics(String institutionId) {
+        // Las matrículas se unen al flujo de students; solo ellas traen student_id,
+        // lo que permite separarlas dentro del $facet sin un campo discriminador extra.
+        Criteria isEnrollment = Criteria.where("student_id").exists(true);
+        Criteria isStudent = Criteria.where("student_id").exists(false);
+
+        Aggregation aggregation = Aggregation.newAggregation(
+            Aggregation.match(Criteria.where("institution_id").is(institutionId)),
+            Aggregation.project("_id", "institution_id", "status"),
+            UnionWithOperation.unionWith("enrollments").pipeline(
+                Aggregation.match(Criteria.where("institution_id").is(institutionId)),
+                Aggregation.project("status", "student_id")
+            ),
+            Aggregation.facet(
+                        Aggregation.match(isStudent),
+                        Aggregation.group("status").count().as("count")
+                    ).as(STUDENTS_BY_STATUS)
+                    .and(
+                        Aggregation.match(isEnrollment),
+                        Aggregation.group("status").count().as("count")
+                    ).as(ENROLLMENTS_BY_STATUS)
+                    .and(
+                        Aggregation.match(isStudent),
+                        activeEnrollmentLookup(),
+                        Aggregation.match(Criteria.where(ACTIVE_ENROLLMENTS).size(0)),
+                        Aggregation.count().as("count")
+                    ).as(UNENROLLED)
+        );
+        return mongoTemplate.aggregate(aggregation, Student.class, Document.class)
+                .next()
+                .map(StatisticsRepositoryImpl::toStatistics)
+                .defaultIfEmpty(new InstitutionStatistics());
+    }
+
+    @Override
+    public Mono<InstitutionStatistics> findMaterializedStatistics(String institutionId) {
+        return mongoTemplate.findById(institutionId, Document.class, MATERIALIZED_COLLECTION)
+                .map(StatisticsRepositoryImpl::fromMaterialized);
+    }
+
+    @Override
+    public Mono<Void> incrementStatistics(String institutionId, InstitutionStatistics delta) {
+        Update update = new Update()
+                .inc(TOTAL_STUDENTS, delta.getTotalStudents())
+                .inc(UNENROLLED_STUDENTS, delta.getUnenrolledStudents())
+                .inc(TOTAL_ENROLLMENTS, delta.getTotalEnrollments())
+                .inc(VERSION, 1)
+                .set(UPDATED_AT, Instant.now());
+        delta.getStudentsByStatus().forEach((status, count) ->
+                update.inc(MATERIALIZED_STUDENTS_BY_STATUS + "." + status.name(), count));
+        delta.getEnrollmentsByStatus().forEach((status, count) ->
+                update.inc(MATERIALIZED_ENROLLMENTS_BY_STATUS + "." + status.name(), count));
+        return mongoTemplate.updateFirst(byInstitution(institutionId), update, MATERIALIZED_COLLECTION).then();
+    }
+
+    @Override
+    public Mono<Boolean> saveMaterializedStatistics(String institutionId, InstitutionStatistics statistics, Long expectedVersion) {
+        if (expectedVersion == null) {
+            // Upsert con $setOnInsert: si otro lector lo creó primero, se conserva el suyo
+            Update update = new Update().setOnInsert(VERSION, 0L);
+            toMaterialized(statistics).forEach(update::setOnInsert);
+            return mongoTemplate.upsert(byInstitution(institutionId), update, MATERIALIZED_COLLECTION)
+                    .map(result -> result.getUpsertedId() != null);
+        }
+        // Control optimista: un $inc posterior a la lectura cambia la versión y este reemplazo no aplica
+        Update update = new Update().inc(VERSION, 1);
+        toMaterialized(statistics).forEach(update::set);
+        Query query = byInstitution(institutionId).addCriteria(Criteria.where(VERSION).is(expectedVersion));
+        return mongoTemplate.updateFirst(query, update, MATERIALIZED_COLLECTION)
+                .map(result -> result.getModifiedCount() > 0);
+    }
+
+    @Override
+    public Flux<String> findInstitutionIds() {
+        return Flux.merge(
+                    mongoTemplate.findDistinct(new Query(), "institution_id", Student.class, String.class),
+                    mongoTemplate.findDistinct(new Query(), "institution_id", StudentEnrollment.class, String.class))
+                .distinct();
+    }
+
+    private static Query byInstitution(String institutionId) {
+        return Query.query(Criteria.where("_id").is(institutionId));
+    }
+
+    private static Document toMaterialized(InstitutionStatistics statistics) {
+        Document studentsByStatus = new Document();
+        statistics.getStudentsByStatus().forEach((status, count) -> studentsByStatus.append(status.name(), count));
+        Document enrollmentsByStatus = new Document();
+        statistics.getEnrollmentsByStatus().forEach((status, count) -> enrollmentsByStatus.append(status.name(), count));
+        return new Document(TOTAL_STUDENTS, statistics.getTotalStudents())
+                .append(MATERIALIZED_STUDENTS_BY_STATUS, studentsByStatus)
+                .append(UNENROLLED_STUDENTS, statistics.getUnenrolledStudents())
+                .append(TOTAL_ENROLLMENTS, statistics.getTotalEnrollments())
+                .append(MATERIALIZED_ENROLLMENTS_BY_STATUS, enrollmentsByStatus)
+                .append(UPDATED_AT, Instant.now());
+    }
+
+    private static InstitutionStatistics fromMaterialized(Document document) {
+        InstitutionStatistics statistics = new InstitutionStatistics();
+        statistics.setTotalStudents(number(document.get(TOTAL_STUDENTS)));
+        statistics.setUnenrolledStudents(number(document.get(UNENROLLED_STUDENTS)));
+        statistics.setTotalEnrollments(number(document.get(TOTAL_ENROLLMENTS)));
+        statistics.setVersion(number(document.get(VERSION)));
+        document.get(MATERIALIZED_STUDENTS_BY_STATUS, new Document()).forEach((key, count) -> {
+            Status status = parse(Status.class, key);
+            if (status != null) {
+                statistics.getStudentsByStatus().put(status, number(count));
+            }
+        });
+        document.get(MATERIALIZED_ENROLLMENTS_BY_STATUS, new Document()).forEach((key, count) -> {
+            EnrollmentStatus status = parse(EnrollmentStatus.class, key);
+            if (status != null) {
+                statistics.getEnrollmentsByStatus().put(status, number(count));
+            }
+        });
+        return statistics;
+    }
+
+    private static InstitutionStatistics toStatistics(Document result) {
+        InstitutionStatistics statistics = new InstitutionStatistics();
+        for (Document group : groups(result, STUDENTS_BY_STATUS)) {
+            long count = count(group);
+            statistics.setTotalStudents(statistics.getTotalStudents() + count);
+            Status status = parse(Status.class, group.get("_id"));
+            if (status != null) {
+                statistics.getStudentsByStatus().merge(status, count, Long::sum);
+            }
+        }
+        for (Document group : groups(result, ENROLLMENTS_BY_STATUS)) {
+            long count = count(group);
+            statistics.setTotalEnrollments(statistics.getTotalEnrollments() + count);
+            EnrollmentStatus status = parse(EnrollmentStatus.class, group.get("_id"));
+            if (status != null) {
+                statistics.getEnrollmentsByStatus().merge(status, count, Long::sum);
+            }
+        }
+        List<Document> unenrolled = groups(result, UNENROLLED);
+        statistics.setUnenrolledStudents(unenrolled.isEmpty() ? 0L : count(unenrolled.get(0)));
+        return statistics;
+    }
+
+    private static List<Document> groups(Document result, String facet) {
+        return result.getList(facet, Document.class, List.of());
+    }
+
+    private static long count(Document group) {
+        return number(group.get("count"));
+    }
+
+    private static long number(Object value) {
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+
+    private static <E extends Enum<E>> E parse(Class<E> type, Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.toString());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -1,18 +1,35 @@
 package pe.edu.vallegrande.msvstudents.infrastructure.repository.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.bson.Document;
 import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Repository;
+import pe.edu.vallegrande.msvstudents.domain.enums.EnrollmentStatus;
+import pe.edu.vallegrande.msvstudents.domain.model.EnrollmentWithStudent;
+import pe.edu.vallegrande.msvstudents.domain.model.Student;
 import pe.edu.vallegrande.msvstudents.domain.model.StudentEnrollment;
+import pe.edu.vallegrande.msvstudents.infrastructure.repository.BulkInsertResult;
 import pe.edu.vallegrande.msvstudents.infrastructure.repository.StudentEnrollmentRepository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+
+import static pe.edu.vallegrande.msvstudents.infrastructure.repository.impl.EnrollmentLookups.STUDENT;
+import static pe.edu.vallegrande.msvstudents.infrastructure.repository.impl.EnrollmentLookups.studentLookup;
 
 @Repository
+@Profile("!inmemory")
 @RequiredArgsConstructor
 public class StudentEnrollmentRepositoryImpl implements StudentEnrollmentRepository {
 
@@ -66,4 +83,60 @@ public class StudentEnrollmentRepositoryImpl implements StudentEnrollmentReposit
         Query query = Query.query(Criteria.where("classroomId").is(classroomId));
         return mongoTemplate.find(query, StudentEnrollment.class);
     }
-}
\ No newline at end of file
+
+    @Override
+    public Flux<StudentEnrollment> findByInstitutionIdAfter(String institutionId, String afterId, int limit) {
+        Criteria criteria = Criteria.where("institutionId").is(institutionId);
+        return mongoTemplate.find(keysetQuery(criteria, afterId, limit), StudentEnrollment.class);
+    }
+
+    @Override
+    public Flux<StudentEnrollment> findByClassroomIdAndInstitutionIdAfter(String classroomId, String institutionId, String afterId, int limit) {
+        Criteria criteria = Criteria.where("classroomId").is(classroomId)
+                .and("institutionId").is(institutionId);
+        return mongoTemplate.find(keysetQuery(criteria, afterId, limit), StudentEnrollment.class);
+    }
+
+    @Override
+    public Flux<EnrollmentWithStudent> findByClassroomIdWithStudent(String classroomId, String institutionId) {
+        Criteria criteria = Criteria.where("classroom_id").is(classroomId);
+        if (institutionId != null) {
+            criteria.and("institution_id").is(institutionId);
+        }
+        List<AggregationOperation> operations = new ArrayList<>();
+        operations.add(Aggregation.match(criteria));
+        operations.addAll(studentLookup());
+        MongoConverter converter = mongoTemplate.getConverter();
+        return mongoTemplate.aggregate(Aggregation.newAggregation(operations), "enrollments", Document.class)
+                .map(document -> new EnrollmentWithStudent(
+                        converter.read(StudentEnrollment.class, document),
+                        converter.read(Student.class, document.get(STUDENT, Document.class))));
+    }
+
+    @Override
+    public Mono<BulkInsertResult> insertAllUnordered(List<StudentEnrollment> enrollments) {
+        return BulkInserts.insertUnordered(mongoTemplate, enrollments, StudentEnrollment.class);
+    }
+
+    private static Query keysetQuery(Criteria criteria, String afterId, int limit) {
+        if (afterId != null) {
+            criteria.and("id").gt(afterId);
+        }
+        return Query.query(criteria)
+                .with(Sort.by(Sort.Direction.ASC, "id"))
+                .limit(limit);
+    }
+
+    @Override
+    public Mono<Map<String, Long>> countActiveByStudentIds(Collection<String> studentIds, String institutionId) {
+        // Cubierta por enrollments_student_institution_status
+        Aggregation aggregation = Aggregation.newAggregation(
+            Aggregation.match(Criteria.where("student_id").in(studentIds)
+                    .and("institution_id").is(institutionId)
+                    .and("status").is(EnrollmentStatus.ACTIVE.name())),
+            Aggregation.group("student_id").count().as("count")
+        );
+        return mongoTemplate.aggregate(aggregation, StudentEnrollment.class, Document.class)
+                .collectMap(group -> group.getString("_id"), group -> ((Number) group.get("count")).longValue());
+    }
+}
@@ -1,16 +1,33 @@
 package pe.edu.vallegrande.msvstudents.infrastructure.repository.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
+import pe.edu.vallegrande.msvstudents.domain.enums.Status;
 import pe.edu.vallegrande.msvstudents.domain.model.Student;
+import pe.edu.vallegrande.msvstudents.infrastructure.repository.BulkInsertResult;
 import pe.edu.vallegrande.msvstudents.infrastructure.repository.StudentRepository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+import java.util.List;
+
+import static pe.edu.vallegrande.msvstudents.infrastructure.repository.impl.EnrollmentLookups.ACTIVE_ENROLLMENTS;
+import static pe.edu.vallegrande.msvstudents.infrastructure.repository.impl.EnrollmentLookups.activeEnrollmentLookup;
+
 @Repository
+@Profile("!inmemory")
 @RequiredArgsConstructor
 public class StudentRepositoryImpl implements StudentRepository {
 
@@ -26,6 +43,20 @@ public class StudentRepositoryImpl implements StudentRepository {
         return mongoTemplate.findById(id, Student.class);
     }
 
+    @Override
+    public Mono<Student> findByIdForUpdate(String id) {
+        return findById(id);
+    }
+
+    @Override
+    public Flux<Student> findAllByIds(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+        Query query = Query.query(Criteria.where("id").in(ids));
+        return mongoTemplate.find(query, Student.class);
+    }
+
     @Override
     public Flux<Student> findAll() {
         return mongoTemplate.findAll(Student.class);
@@ -75,4 +106,120 @@ public class StudentRepositoryImpl implements StudentRepository {
         );
         return mongoTemplate.count(query, Student.class);
     }
-}
\ No newline at end of file
+
+    @Override
+    public Flux<Student> findUnenrolledByInstitutionId(String institutionId) {
+        Aggregation aggregation = Aggregation.newAggregation(
+            Aggregation.match(Criteria.where("institution_id").is(institutionId)),
+            activeEnrollmentLookup(),
+            Aggregation.match(Criteria.where(ACTIVE_ENROLLMENTS).size(0)),
+            Aggregation.project().andExclude(ACTIVE_ENROLLMENTS)
+        );
+        return mongoTemplate.aggregate(aggregation, Student.class, Student.class);
+    }
+
+    @Override
+    public Mono<Long> countUnenrolledByInstitutionId(String institutionId) {
+        Aggregation aggregation = Aggregation.newAggregation(
+            Aggregation.match(Criteria.where("institution_id").is(institutionId)),
+            Aggregation.project("_id", "institution_id"),
+            activeEnrollmentLookup(),
+            Aggregation.match(Criteria.where(ACTIVE_ENROLLMENTS).size(0)),
+            Aggregation.count().as("count")
+        );
+        return mongoTemplate.aggregate(aggregation, Student.class, Document.class)
+                .next()
+                .map(result -> ((Number) result.get("count")).longValue())
+                .defaultIfEmpty(0L);
+    }
+
+    @Override
+    public Flux<Student> findAllAfter(String afterId, int limit) {
+        return mongoTemplate.find(keysetQuery(new Criteria(), afterId, limit), Student.class);
+    }
+
+    @Override
+    public Flux<Student> findByInstitutionIdAfter(String institutionId, String afterId, int limit) {
+        Criteria criteria = Criteria.where("institutionId").is(institutionId);
+        return mongoTemplate.find(keysetQuery(criteria, afterId, limit), Student.class);
+    }
+
+    @Override
+    public Flux<Student> findByInstitutionIdAndStatusAfter(String institutionId, Status status, String afterId, int limit) {
+        Criteria criteria = Criteria.where("institutionId").is(institutionId)
+                .and("status").is(status);
+        return mongoTemplate.find(keysetQuery(criteria, afterId, limit), Student.class);
+    }
+
+    @Override
+    public Flux<Student> findBySearchTermPrefixes(String institutionId, List<String> terms, int limit) {
+        Criteria[] prefixes = terms.stream()
+                .map(term -> Criteria.where("searchTerms").regex("^" + escapeRegex(term)))
+                .toArray(Criteria[]::new);
+        Query query = Query.query(Criteria.where("institutionId").is(institutionId).andOperator(prefixes))
+                .with(Sort.by(Sort.Direction.ASC, "lastName", "firstName"))
+                .limit(limit);
+        return mongoTemplate.find(query, Student.class);
+    }
+
+    @Override
+    public Flux<Student> findByText(String institutionId, List<String> terms, int limit) {
+        Query query = TextQuery.queryText(TextCriteria.forLanguage("none").matchingAny(terms.toArray(String[]::new)))
+                .sortByScore()
+                .addCriteria(Criteria.where("institutionId").is(institutionId))
+                .limit(limit);
+        // Sin índice de texto (aún en construcción) la consulta falla: se omite esta etapa
+        return mongoTemplate.find(query, Student.class)
+                .onErrorResume(DataAccessException.class, error -> Flux.empty());
+    }
+
+    @Override
+    public Flux<Student> findWithoutSearchTerms(int limit) {
+        Query query = Query.query(Criteria.where("searchTerms").exists(false)).limit(limit);
+        return mongoTemplate.find(query, Student.class);
+    }
+
+    @Override
+    public Mono<Boolean> setSearchTermsIfMissing(String id, List<String> searchTerms) {
+        Query query = Query.query(Criteria.where("id").is(id).and("searchTerms").exists(false));
+        return mongoTemplate.updateFirst(query, new Update().set("searchTerms", searchTerms), Student.class)
+                .map(result -> result.getModifiedCount() > 0);
+    }
+
+    @Override
+    public Flux<String> findExistingDocumentNumbers(String institutionId, Collection<String> documentNumbers) {
+        Query query = Query.query(
+            Criteria.where("institutionId").is(institutionId)
+                    .and("documentNumber").in(documentNumbers)
+        );
+        query.fields().include("documentNumber");
+        return mongoTemplate.find(query, Student.class)
+                .map(Student::getDocumentNumber);
+    }
+
+    @Override
+    public Mono<BulkInsertResult> insertAllUnordered(List<Student> students) {
+        return BulkInserts.insertUnordered(mongoTemplate, students, Student.class);
+    }
+
+    // Solo letras y dígitos quedan sin escapar: la regex sigue siendo un prefijo simple que usa el índice
+    private static String escapeRegex(String term) {
+        StringBuilder escaped = new StringBuilder(term.length());
+        for (char c : term.toCharArray()) {
+            if (!Character.isLetterOrDigit(c)) {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    private static Query keysetQuery(Criteria criteria, String afterId, int limit) {
+        if (afterId != null) {
+            criteria.and("id").gt(afterId);
+        }
+        return Query.query(criteria)
+                .with(Sort.by(Sort.Direction.ASC, "id"))
+                .limit(limit);
+    }
+}
@@ -0,0 +1,40 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.rest;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ServerWebExchange;
+import pe.edu.vallegrande.msvstudents.domain.model.InstitutionVersion;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+/**
+ * GET condicional para listados por institución validados con la versión de la institución
+ * (InstitutionVersionService). Si If-None-Match / If-Modified-Since coinciden se responde 304
+ * sin invocar al servicio, es decir, sin consultar Mongo.
+ */
+final class ConditionalResponses {
+
+    private ConditionalResponses() {
+    }
+
+    // La versión se resuelve antes que el cuerpo: nunca es más nueva que los datos que acompaña
+    static <T> Mono<ResponseEntity<T>> ifModified(ServerWebExchange exchange, Mono<InstitutionVersion> version, Supplier<Mono<T>> body) {
+        return version.flatMap(current -> {
+            if (exchange.checkNotModified(current.etag(), current.lastModified())) {
+                return Mono.just(headers(ResponseEntity.status(HttpStatus.NOT_MODIFIED), current).<T>build());
+            }
+            return body.get().map(value -> headers(ResponseEntity.ok(), current).body(value));
+        });
+    }
+
+    // no-cache: el cliente siempre revalida; la respuesta depende de la institución del header
+    private static ResponseEntity.BodyBuilder headers(ResponseEntity.BodyBuilder builder, InstitutionVersion version) {
+        return builder
+                .eTag(version.etag())
+                .lastModified(version.lastModified())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .varyBy("X-Institution-Id");
+    }
+}
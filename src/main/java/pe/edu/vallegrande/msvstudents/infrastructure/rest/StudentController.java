@@ -1,15 +1,22 @@
 package pe.edu.vallegrande.msvstudents.infrastructure.rest;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ServerWebExchange;
+import pe.edu.vallegrande.msvstudents.application.service.InstitutionVersionService;
 import pe.edu.vallegrande.msvstudents.application.service.StudentService;
 import pe.edu.vallegrande.msvstudents.infrastructure.dto.request.BulkStudentsRequest;
 import pe.edu.vallegrande.msvstudents.infrastructure.dto.request.CreateStudentRequest;
 import pe.edu.vallegrande.msvstudents.infrastructure.dto.request.UpdateStudentRequest;
 import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.ApiResponse;
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.BulkStudentsResponse;
 import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.StudentResponse;
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.StudentStatisticsResponse;
 import pe.edu.vallegrande.msvstudents.infrastructure.security.HeaderValidator;
+import pe.edu.vallegrande.msvstudents.infrastructure.util.CursorUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import jakarta.validation.Valid;
@@ -23,6 +30,7 @@ import java.util.Map;
 public class StudentController {
 
     private final StudentService studentService;
+    private final InstitutionVersionService institutionVersions;
 
     // ENDPOINTS ESPECÍFICOS PRIMERO para evitar conflictos de mapeo
 
@@ -41,19 +49,45 @@ public class StudentController {
         });
     }
 
+    // ETag débil / Last-Modified según la versión de la institución: 304 sin consultar Mongo
     @GetMapping("/secretary")
-    public Mono<ApiResponse<List<StudentResponse>>> getStudentsByInstitution(ServerWebExchange exchange) {
+    public Mono<ResponseEntity<ApiResponse<List<StudentResponse>>>> getStudentsByInstitution(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            ServerWebExchange exchange) {
         return Mono.defer(() -> {
             HeaderValidator.HeaderValidationResult headers = HeaderValidator.validateHeadersSimple(
                 exchange, Arrays.asList("SECRETARY")
             );
             
-            return studentService.getStudentsByInstitution(headers.getInstitutionId())
-                    .collectList()
-                    .map(studentResponses -> ApiResponse.success(
-                        studentResponses, 
-                        "Students retrieved successfully"
-                    ));
+            return ConditionalResponses.ifModified(exchange, institutionVersions.current(headers.getInstitutionId()), () -> {
+                if (CursorUtils.isPaged(cursor, size)) {
+                    return studentService.getStudentsByInstitutionPage(headers.getInstitutionId(), cursor, size)
+                            .map(page -> ApiResponse.success(
+                                page.getItems(), 
+                                "Students retrieved successfully",
+                                page.toExtraData()
+                            ));
+                }
+                
+                return studentService.getStudentsByInstitution(headers.getInstitutionId())
+                        .collectList()
+                        .map(studentResponses -> ApiResponse.success(
+                            studentResponses, 
+                            "Students retrieved successfully"
+                        ));
+            });
+        });
+    }
+
+    @GetMapping(value = "/secretary", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<StudentResponse> streamStudentsByInstitution(ServerWebExchange exchange) {
+        return Flux.defer(() -> {
+            HeaderValidator.HeaderValidationResult headers = HeaderValidator.validateHeadersSimple(
+                exchange, Arrays.asList("SECRETARY")
+            );
+            
+            return studentService.getStudentsByInstitution(headers.getInstitutionId());
         });
     }
 
@@ -91,13 +125,36 @@ public class StudentController {
         });
     }
 
+    @GetMapping(value = "/teacher/my-students", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<StudentResponse> streamMyStudents(ServerWebExchange exchange) {
+        return Flux.defer(() -> {
+            HeaderValidator.HeaderValidationResult headers = HeaderValidator.validateHeadersSimple(
+                exchange, Arrays.asList("TEACHER")
+            );
+            
+            return studentService.getStudentsByTeacher(headers.getUserId(), headers.getInstitutionId());
+        });
+    }
+
     @GetMapping("/auxiliary")
-    public Mono<ApiResponse<List<StudentResponse>>> getStudentsAuxiliary(ServerWebExchange exchange) {
+    public Mono<ApiResponse<List<StudentResponse>>> getStudentsAuxiliary(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            ServerWebExchange exchange) {
         return Mono.defer(() -> {
             HeaderValidator.HeaderValidationResult headers = HeaderValidator.validateHeadersSimple(
                 exchange, Arrays.asList("AUXILIARY")
             );
             
+            if (CursorUtils.isPaged(cursor, size)) {
+                return studentService.getStudentsByInstitutionPage(headers.getInstitutionId(), cursor, size)
+                        .map(page -> ApiResponse.success(
+                            page.getItems(), 
+                            "Students retrieved successfully",
+                            page.toExtraData()
+                        ));
+            }
+            
             return studentService.getStudentsByInstitution(headers.getInstitutionId())
                     .collectList()
                     .map(studentResponses -> ApiResponse.success(
@@ -107,9 +164,30 @@ public class StudentController {
         });
     }
 
+    @GetMapping(value = "/auxiliary", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<StudentResponse> streamStudentsAuxiliary(ServerWebExchange exchange) {
+        return Flux.defer(() -> {
+            HeaderValidator.HeaderValidationResult headers = HeaderValidator.validateHeadersSimple(
+                exchange, Arrays.asList("AUXILIARY")
+            );
+            
+            return studentService.getStudentsByInstitution(headers.getInstitutionId());
+        });
+    }
+
     // ENDPOINTS GENÉRICOS AL FINAL para evitar conflictos de mapping
     @GetMapping
-    public Mono<ApiResponse<List<StudentResponse>>> findAll() {
+    public Mono<ApiResponse<List<StudentResponse>>> findAll(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        if (CursorUtils.isPaged(cursor, size)) {
+            return Mono.defer(() -> studentService.findAllPage(cursor, size))
+                    .map(page -> ApiResponse.success(
+                        page.getItems(), 
+                        "Students retrieved successfully",
+                        page.toExtraData()
+                    ));
+        }
         return studentService.findAll()
                 .collectList()
                 .map(studentResponses -> ApiResponse.success(
@@ -118,6 +196,11 @@ public class StudentController {
                 ));
     }
 
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<StudentResponse> streamAll() {
+        return studentService.findAll();
+    }
+
     @GetMapping("/{id}")
     public Mono<ApiResponse<StudentResponse>> findById(@PathVariable String id) {
         return studentService.findById(id)
@@ -145,16 +228,28 @@ public class StudentController {
         });
     }
 
+    @GetMapping(value = "/secretary/unenrolled", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<StudentResponse> streamUnenrolledStudents(ServerWebExchange exchange) {
+        return Flux.defer(() -> {
+            HeaderValidator.HeaderValidationResult headers = HeaderValidator.validateHeadersSimple(
+                exchange, Arrays.asList("SECRETARY")
+            );
+            
+            return studentService.getUnenrolledStudents(headers.getInstitutionId());
+        });
+    }
+
     @PostMapping("/secretary/bulk-create")
-    public Mono<ApiResponse<Map<String, Object>>> createStudentsBulk(
+    public Mono<ApiResponse<BulkStudentsResponse>> createStudentsBulk(
             @Valid @RequestBody BulkStudentsRequest request, 
+            @RequestParam(defaultValue = "false") boolean summaryOnly,
             ServerWebExchange exchange) {
         return Mono.defer(() -> {
             HeaderValidator.HeaderValidationResult headers = HeaderValidator.validateHeadersSimple(
                 exchange, Arrays.asList("SECRETARY")
             );
             
-            return studentService.createStudentsBulk(request.getStudents(), headers.getInstitutionId())
+            return studentService.createStudentsBulk(request.getStudents(), headers.getInstitutionId(), summaryOnly)
                     .map(result -> ApiResponse.success(
                         result, 
                         "Bulk student creation completed"
@@ -165,13 +260,15 @@ public class StudentController {
     @GetMapping("/secretary/search")
     public Mono<ApiResponse<List<StudentResponse>>> searchStudents(
             @RequestParam String query,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "false") boolean fuzzy,
             ServerWebExchange exchange) {
         return Mono.defer(() -> {
             HeaderValidator.HeaderValidationResult headers = HeaderValidator.validateHeadersSimple(
                 exchange, Arrays.asList("SECRETARY")
             );
             
-            return studentService.searchStudents(query, headers.getInstitutionId())
+            return studentService.searchStudents(query, headers.getInstitutionId(), limit, fuzzy)
                     .collectList()
                     .map(studentResponses -> ApiResponse.success(
                         studentResponses, 
@@ -180,6 +277,21 @@ public class StudentController {
         });
     }
 
+    @GetMapping(value = "/secretary/search", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<StudentResponse> streamSearchStudents(
+            @RequestParam String query,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "false") boolean fuzzy,
+            ServerWebExchange exchange) {
+        return Flux.defer(() -> {
+            HeaderValidator.HeaderValidationResult headers = HeaderValidator.validateHeadersSimple(
+                exchange, Arrays.asList("SECRETARY")
+            );
+            
+            return studentService.searchStudents(query, headers.getInstitutionId(), limit, fuzzy);
+        });
+    }
+
     @GetMapping("/secretary/by-grade/{grade}")
     public Mono<ApiResponse<List<StudentResponse>>> getStudentsByGrade(
             @PathVariable String grade,
@@ -198,15 +310,39 @@ public class StudentController {
         });
     }
 
+    @GetMapping(value = "/secretary/by-grade/{grade}", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<StudentResponse> streamStudentsByGrade(
+            @PathVariable String grade,
+            ServerWebExchange exchange) {
+        return Flux.defer(() -> {
+            HeaderValidator.HeaderValidationResult headers = HeaderValidator.validateHeadersSimple(
+                exchange, Arrays.asList("SECRETARY")
+            );
+            
+            return studentService.getStudentsByGrade(grade, headers.getInstitutionId());
+        });
+    }
+
     @GetMapping("/secretary/by-status/{status}")
     public Mono<ApiResponse<List<StudentResponse>>> getStudentsByStatus(
             @PathVariable String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
             ServerWebExchange exchange) {
         return Mono.defer(() -> {
             HeaderValidator.HeaderValidationResult headers = HeaderValidator.validateHeadersSimple(
                 exchange, Arrays.asList("SECRETARY")
             );
             
+            if (CursorUtils.isPaged(cursor, size)) {
+                return studentService.getStudentsByStatusPage(status, headers.getInstitutionId(), cursor, size)
+                        .map(page -> ApiResponse.success(
+                            page.getItems(), 
+                            "Students by status retrieved successfully",
+                            page.toExtraData()
+                        ));
+            }
+            
             return studentService.getStudentsByStatus(status, headers.getInstitutionId())
                     .collectList()
                     .map(studentResponses -> ApiResponse.success(
@@ -216,8 +352,21 @@ public class StudentController {
         });
     }
 
+    @GetMapping(value = "/secretary/by-status/{status}", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<StudentResponse> streamStudentsByStatus(
+            @PathVariable String status,
+            ServerWebExchange exchange) {
+        return Flux.defer(() -> {
+            HeaderValidator.HeaderValidationResult headers = HeaderValidator.validateHeadersSimple(
+                exchange, Arrays.asList("SECRETARY")
+            );
+            
+            return studentService.getStudentsByStatus(status, headers.getInstitutionId());
+        });
+    }
+
     @GetMapping("/secretary/statistics")
-    public Mono<ApiResponse<Map<String, Object>>> getStudentStatistics(ServerWebExchange exchange) {
+    public Mono<ApiResponse<StudentStatisticsResponse>> getStudentStatistics(ServerWebExchange exchange) {
         return Mono.defer(() -> {
             HeaderValidator.HeaderValidationResult headers = HeaderValidator.validateHeadersSimple(
                 exchange, Arrays.asList("SECRETARY")
@@ -1,8 +1,13 @@
 package pe.edu.vallegrande.msvstudents.infrastructure.rest;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ServerWebExchange;
+import pe.edu.vallegrande.msvstudents.application.service.InstitutionVersionService;
+import pe.edu.vallegrande.msvstudents.application.service.QrCodeService;
 import pe.edu.vallegrande.msvstudents.application.service.StudentEnrollmentService;
 import pe.edu.vallegrande.msvstudents.infrastructure.dto.request.BulkEnrollmentsRequest;
 import pe.edu.vallegrande.msvstudents.infrastructure.dto.request.CancelEnrollmentRequest;
@@ -10,12 +15,17 @@ import pe.edu.vallegrande.msvstudents.infrastructure.dto.request.CreateStudentEn
 import pe.edu.vallegrande.msvstudents.infrastructure.dto.request.TransferStudentRequest;
 import pe.edu.vallegrande.msvstudents.infrastructure.dto.request.UpdateStudentEnrollmentRequest;
 import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.ApiResponse;
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.BulkEnrollmentsResponse;
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.EnrollmentStatisticsResponse;
 import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.StudentEnrollmentResponse;
 import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.EnrollmentWithStudentResponse;
 import pe.edu.vallegrande.msvstudents.infrastructure.security.HeaderValidator;
+import pe.edu.vallegrande.msvstudents.infrastructure.util.CursorUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import jakarta.validation.Valid;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -26,6 +36,8 @@ import java.util.Map;
 public class StudentEnrollmentController {
 
     private final StudentEnrollmentService enrollmentService;
+    private final QrCodeService qrCodeService;
+    private final InstitutionVersionService institutionVersions;
 
     @PostMapping("/secretary/create")
     public Mono<ApiResponse<Map<String, Object>>> createEnrollment(@Valid @RequestBody CreateStudentEnrollmentRequest request, ServerWebExchange exchange) {
@@ -40,17 +52,40 @@ public class StudentEnrollmentController {
         });
     }
 
+    // ETag débil / Last-Modified según la versión de la institución: 304 sin consultar Mongo
     @GetMapping("/secretary")
-    public Mono<ApiResponse<List<StudentEnrollmentResponse>>> getEnrollmentsByInstitution(ServerWebExchange exchange) {
+    public Mono<ResponseEntity<ApiResponse<List<StudentEnrollmentResponse>>>> getEnrollmentsByInstitution(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            ServerWebExchange exchange) {
         return Mono.defer(() -> {
             // Validación simple de headers para secretaria
             HeaderValidator.HeaderValidationResult headers = HeaderValidator.validateHeadersSimple(
                 exchange, Arrays.asList("SECRETARY")
             );
             
-            return enrollmentService.getEnrollmentsByInstitution(headers.getInstitutionId())
-                    .collectList()
-                    .map(responses -> ApiResponse.success(responses, "Enrollments retrieved successfully"));
+            return ConditionalResponses.ifModified(exchange, institutionVersions.current(headers.getInstitutionId()), () -> {
+                if (CursorUtils.isPaged(cursor, size)) {
+                    return enrollmentService.getEnrollmentsByInstitutionPage(headers.getInstitutionId(), cursor, size)
+                            .map(page -> ApiResponse.success(page.getItems(), "Enrollments retrieved successfully", page.toExtraData()));
+                }
+                
+                return enrollmentService.getEnrollmentsByInstitution(headers.getInstitutionId())
+                        .collectList()
+                        .map(responses -> ApiResponse.success(responses, "Enrollments retrieved successfully"));
+            });
+        });
+    }
+
+    @GetMapping(value = "/secretary", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<StudentEnrollmentResponse> streamEnrollmentsByInstitution(ServerWebExchange exchange) {
+        return Flux.defer(() -> {
+            // Validación simple de headers para secretaria
+            HeaderValidator.HeaderValidationResult headers = HeaderValidator.validateHeadersSimple(
+                exchange, Arrays.asList("SECRETARY")
+            );
+            
+            return enrollmentService.getEnrollmentsByInstitution(headers.getInstitutionId());
         });
     }
 
@@ -80,6 +115,18 @@ public class StudentEnrollmentController {
                     .map(responses -> ApiResponse.success(responses, "My enrollments retrieved successfully"));
         });
     }
+
+    @GetMapping(value = "/teacher/my-enrollments", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<StudentEnrollmentResponse> streamMyEnrollments(ServerWebExchange exchange) {
+        return Flux.defer(() -> {
+            // Validación simple de headers para profesor
+            HeaderValidator.HeaderValidationResult headers = HeaderValidator.validateHeadersSimple(
+                exchange, Arrays.asList("TEACHER")
+            );
+            
+            return enrollmentService.getEnrollmentsByTeacher(headers.getUserId(), headers.getInstitutionId());
+        });
+    }
     
     // The DTO for this was not specified, so a simple Map is used for the request body for now.
     @PutMapping("/teacher/observations/{enrollmentId}")
@@ -97,19 +144,40 @@ public class StudentEnrollmentController {
     }
 
     @GetMapping("/secretary/by-classroom/{classroomId}")
-    public Mono<ApiResponse<List<StudentEnrollmentResponse>>> getEnrollmentsByClassroom(@PathVariable String classroomId, ServerWebExchange exchange) {
+    public Mono<ApiResponse<List<StudentEnrollmentResponse>>> getEnrollmentsByClassroom(
+            @PathVariable String classroomId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            ServerWebExchange exchange) {
         return Mono.defer(() -> {
             // Validación simple de headers para secretaria
             HeaderValidator.HeaderValidationResult headers = HeaderValidator.validateHeadersSimple(
                 exchange, Arrays.asList("SECRETARY")
             );
             
+            if (CursorUtils.isPaged(cursor, size)) {
+                return enrollmentService.getEnrollmentsByClassroomPage(classroomId, headers.getInstitutionId(), cursor, size)
+                        .map(page -> ApiResponse.success(page.getItems(), "Enrollments by classroom retrieved successfully", page.toExtraData()));
+            }
+            
             return enrollmentService.getEnrollmentsByClassroom(classroomId, headers.getInstitutionId())
                     .collectList()
                     .map(responses -> ApiResponse.success(responses, "Enrollments by classroom retrieved successfully"));
         });
     }
 
+    @GetMapping(value = "/secretary/by-classroom/{classroomId}", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<StudentEnrollmentResponse> streamEnrollmentsByClassroom(@PathVariable String classroomId, ServerWebExchange exchange) {
+        return Flux.defer(() -> {
+            // Validación simple de headers para secretaria
+            HeaderValidator.HeaderValidationResult headers = HeaderValidator.validateHeadersSimple(
+                exchange, Arrays.asList("SECRETARY")
+            );
+            
+            return enrollmentService.getEnrollmentsByClassroom(classroomId, headers.getInstitutionId());
+        });
+    }
+
     @GetMapping("/secretary/qr/{enrollmentId}")
     public Mono<ApiResponse<Map<String, Object>>> getEnrollmentQr(@PathVariable String enrollmentId, ServerWebExchange exchange) {
         return Mono.defer(() -> {
@@ -118,8 +186,26 @@ public class StudentEnrollmentController {
                 exchange, Arrays.asList("SECRETARY")
             );
             
-            return enrollmentService.getEnrollmentById(enrollmentId, headers.getInstitutionId())
-                    .map(enrollment -> ApiResponse.success(Map.of("qrCode", enrollment.getQrCode()), "QR retrieved successfully"));
+            return qrCodeService.getEnrollmentQrDataUri(enrollmentId, headers.getInstitutionId())
+                    .map(qrCode -> ApiResponse.success(Map.of("qrCode", qrCode), "QR retrieved successfully"));
+        });
+    }
+
+    // ResponseEntityResultHandler responde 304 si If-None-Match coincide con el ETag
+    @GetMapping(value = "/secretary/qr/{enrollmentId}", produces = MediaType.IMAGE_PNG_VALUE)
+    public Mono<ResponseEntity<byte[]>> getEnrollmentQrImage(@PathVariable String enrollmentId, ServerWebExchange exchange) {
+        return Mono.defer(() -> {
+            // Validación simple de headers para secretaria
+            HeaderValidator.HeaderValidationResult headers = HeaderValidator.validateHeadersSimple(
+                exchange, Arrays.asList("SECRETARY")
+            );
+            
+            return qrCodeService.getEnrollmentQrImage(enrollmentId, headers.getInstitutionId())
+                    .map(image -> ResponseEntity.ok()
+                            .eTag(image.getEtag())
+                            .cacheControl(CacheControl.maxAge(Duration.ofHours(1)).cachePrivate())
+                            .contentType(MediaType.IMAGE_PNG)
+                            .body(image.getPng()));
         });
     }
 
@@ -137,18 +223,31 @@ public class StudentEnrollmentController {
         });
     }
 
+    @GetMapping(value = "/auxiliary/by-classroom/{classroomId}", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<EnrollmentWithStudentResponse> streamEnrollmentsByClassroomAuxiliary(@PathVariable String classroomId, ServerWebExchange exchange) {
+        return Flux.defer(() -> {
+            // Validación simple de headers para auxiliar
+            HeaderValidator.HeaderValidationResult headers = HeaderValidator.validateHeadersSimple(
+                exchange, Arrays.asList("AUXILIARY")
+            );
+            
+            return enrollmentService.getEnrollmentsByClassroomWithStudentInfo(classroomId, headers.getInstitutionId());
+        });
+    }
+
     // NUEVOS ENDPOINTS PARA LÓGICA DE NEGOCIO
 
     @PostMapping("/secretary/bulk-create")
-    public Mono<ApiResponse<Map<String, Object>>> createBulkEnrollments(
+    public Mono<ApiResponse<BulkEnrollmentsResponse>> createBulkEnrollments(
             @Valid @RequestBody BulkEnrollmentsRequest request, 
+            @RequestParam(defaultValue = "false") boolean summaryOnly,
             ServerWebExchange exchange) {
         return Mono.defer(() -> {
             HeaderValidator.HeaderValidationResult headers = HeaderValidator.validateHeadersSimple(
                 exchange, Arrays.asList("SECRETARY")
             );
             
-            return enrollmentService.createBulkEnrollments(request.getEnrollments(), headers.getInstitutionId())
+            return enrollmentService.createBulkEnrollments(request.getEnrollments(), headers.getInstitutionId(), summaryOnly)
                     .map(result -> ApiResponse.success(
                         result, 
                         "Bulk enrollment creation completed"
@@ -174,8 +273,21 @@ public class StudentEnrollmentController {
         });
     }
 
+    @GetMapping(value = "/secretary/by-status/{status}", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<StudentEnrollmentResponse> streamEnrollmentsByStatus(
+            @PathVariable String status,
+            ServerWebExchange exchange) {
+        return Flux.defer(() -> {
+            HeaderValidator.HeaderValidationResult headers = HeaderValidator.validateHeadersSimple(
+                exchange, Arrays.asList("SECRETARY")
+            );
+            
+            return enrollmentService.getEnrollmentsByStatus(status, headers.getInstitutionId());
+        });
+    }
+
     @GetMapping("/secretary/statistics")
-    public Mono<ApiResponse<Map<String, Object>>> getEnrollmentStatistics(ServerWebExchange exchange) {
+    public Mono<ApiResponse<EnrollmentStatisticsResponse>> getEnrollmentStatistics(ServerWebExchange exchange) {
         return Mono.defer(() -> {
             HeaderValidator.HeaderValidationResult headers = HeaderValidator.validateHeadersSimple(
                 exchange, Arrays.asList("SECRETARY")
@@ -229,6 +341,19 @@ public class StudentEnrollmentController {
         });
     }
 
+    @GetMapping(value = "/secretary/by-student/{studentId}", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<StudentEnrollmentResponse> streamEnrollmentsByStudent(
+            @PathVariable String studentId,
+            ServerWebExchange exchange) {
+        return Flux.defer(() -> {
+            HeaderValidator.HeaderValidationResult headers = HeaderValidator.validateHeadersSimple(
+                exchange, Arrays.asList("SECRETARY")
+            );
+            
+            return enrollmentService.getEnrollmentsByStudent(studentId, headers.getInstitutionId());
+        });
+    }
+
     @PutMapping("/secretary/cancel/{enrollmentId}")
     public Mono<ApiResponse<Map<String, Object>>> cancelEnrollment(
             @PathVariable String enrollmentId,
@@ -264,6 +389,18 @@ public class StudentEnrollmentController {
                     .map(responses -> ApiResponse.success(responses, "Teacher enrollments by classroom retrieved successfully"));
         });
     }
+
+    @GetMapping(value = "/teacher/by-classroom/{classroomId}", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<EnrollmentWithStudentResponse> streamEnrollmentsByClassroomTeacher(@PathVariable String classroomId, ServerWebExchange exchange) {
+        return Flux.defer(() -> {
+            // Validación simple de headers para profesor
+            HeaderValidator.HeaderValidationResult headers = HeaderValidator.validateHeadersSimple(
+                exchange, Arrays.asList("TEACHER")
+            );
+            
+            return enrollmentService.getEnrollmentsByClassroomWithStudentInfo(classroomId, headers.getInstitutionId());
+        });
+    }
     
     @GetMapping("/teacher/by-student/{studentId}")
     public Mono<ApiResponse<List<StudentEnrollmentResponse>>> getEnrollmentsByStudentForTeacher(
@@ -283,6 +420,19 @@ public class StudentEnrollmentController {
         });
     }
 
+    @GetMapping(value = "/teacher/by-student/{studentId}", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<StudentEnrollmentResponse> streamEnrollmentsByStudentForTeacher(
+            @PathVariable String studentId,
+            ServerWebExchange exchange) {
+        return Flux.defer(() -> {
+            HeaderValidator.HeaderValidationResult headers = HeaderValidator.validateHeadersSimple(
+                exchange, Arrays.asList("TEACHER")
+            );
+            
+            return enrollmentService.getEnrollmentsByStudent(studentId, headers.getInstitutionId());
+        });
+    }
+
     // ENDPOINTS PARA AUXILIARES  
     @GetMapping("/auxiliary/by-student/{studentId}")
     public Mono<ApiResponse<List<StudentEnrollmentResponse>>> getEnrollmentsByStudentForAuxiliary(
@@ -301,4 +451,17 @@ public class StudentEnrollmentController {
                     ));
         });
     }
+
+    @GetMapping(value = "/auxiliary/by-student/{studentId}", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<StudentEnrollmentResponse> streamEnrollmentsByStudentForAuxiliary(
+            @PathVariable String studentId,
+            ServerWebExchange exchange) {
+        return Flux.defer(() -> {
+            HeaderValidator.HeaderValidationResult headers = HeaderValidator.validateHeadersSimple(
+                exchange, Arrays.asList("AUXILIARY")
+            );
+            
+            return enrollmentService.getEnrollmentsByStudent(studentId, headers.getInstitutionId());
+        });
+    }
 }
\ No newline at end of file
@@ -1,10 +1,12 @@
 package pe.edu.vallegrande.msvstudents.infrastructure.rest.internal;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import pe.edu.vallegrande.msvstudents.application.service.StudentEnrollmentService;
 import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.ApiResponse;
 import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.InternalEnrollmentResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
@@ -23,4 +25,10 @@ public class InternalStudent {
                 .collectList()
                 .map(list -> ApiResponse.success(list, "Internal enrollments by classroom retrieved successfully"));
     }
+
+    @GetMapping(value = "/by-classroom/{classroomId}", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<InternalEnrollmentResponse> streamEnrollmentsByClassroomInternal(
+            @PathVariable String classroomId) {
+        return enrollmentService.getInternalEnrollmentsByClassroom(classroomId, null);
+    }
 }
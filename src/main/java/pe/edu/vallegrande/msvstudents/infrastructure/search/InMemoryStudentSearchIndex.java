@@ -0,0 +1,268 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.search;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import pe.edu.vallegrande.msvstudents.domain.model.Student;
+import pe.edu.vallegrande.msvstudents.infrastructure.repository.StudentRepository;
+import pe.edu.vallegrande.msvstudents.infrastructure.util.SearchTextUtils;
+import pe.edu.vallegrande.msvstudents.infrastructure.util.StudentMapper;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Índice de búsqueda en memoria por institución: trigramas sobre nombre, apellido,
+ * documento y correo del apoderado, plegados sin tildes. Se construye con una sola
+ * lectura de la institución en la primera búsqueda, se mantiene con cada alta o
+ * edición y se reconstruye al vencer su TTL (cambios hechos por otras instancias).
+ */
+@Component
+@ConditionalOnProperty(name = "students.search.backend", havingValue = "memory", matchIfMissing = true)
+public class InMemoryStudentSearchIndex implements StudentSearchBackend {
+
+    private static final double MIN_FUZZY_SCORE = 0.6;
+    private static final int COMMON_GRAM_RATIO = 4;
+    private static final int MIN_COMMON_GRAM_SIZE = 100;
+
+    private final StudentRepository studentRepository;
+    private final AsyncCache<String, InstitutionIndex> indexes;
+
+    public InMemoryStudentSearchIndex(
+            StudentRepository studentRepository,
+            @Value("${students.search.index-ttl:PT10M}") Duration ttl,
+            @Value("${students.search.max-institutions:200}") long maxInstitutions) {
+        this.studentRepository = studentRepository;
+        this.indexes = Caffeine.newBuilder()
+                .maximumSize(maxInstitutions)
+                .expireAfterWrite(ttl)
+                .buildAsync();
+    }
+
+    /**
+     * Mejores coincidencias primero: prefijo de palabra y luego subcadena. Con fuzzy, si faltan
+     * resultados, se agrega la coincidencia aproximada por trigramas (tolera errores de tipeo).
+     */
+    @Override
+    public Flux<Student> search(String query, String institutionId, int limit, boolean fuzzy) {
+        String folded = SearchTextUtils.fold(query);
+        if (folded.isEmpty()) {
+            return Flux.empty();
+        }
+        return Mono.fromFuture(() -> indexes.get(institutionId, (key, executor) -> build(key).toFuture()), true)
+                .flatMapIterable(index -> index.search(folded, limit, fuzzy));
+    }
+
+    /**
+     * Actualiza incrementalmente el índice de la institución si ya está cargado
+     * (o al terminar de cargarse, para no perder cambios concurrentes a la carga).
+     */
+    @Override
+    public void index(Student student) {
+        if (student.getInstitutionId() == null) {
+            return;
+        }
+        CompletableFuture<InstitutionIndex> index = indexes.getIfPresent(student.getInstitutionId());
+        if (index != null) {
+            index.thenAccept(loaded -> loaded.put(student));
+        }
+    }
+
+    private Mono<InstitutionIndex> build(String institutionId) {
+        InstitutionIndex index = new InstitutionIndex();
+        return studentRepository.findByInstitutionId(institutionId)
+                .doOnNext(index::put)
+                .then(Mono.just(index));
+    }
+
+    static final class InstitutionIndex {
+
+        private final Map<String, Entry> entries = new HashMap<>();
+        private final Map<String, Set<String>> postings = new HashMap<>();
+
+        synchronized void put(Student student) {
+            Entry previous = entries.remove(student.getId());
+            if (previous != null) {
+                previous.grams.forEach(gram -> {
+                    Set<String> ids = postings.get(gram);
+                    if (ids != null) {
+                        ids.remove(student.getId());
+                    }
+                });
+            }
+            Entry entry = new Entry(student);
+            entries.put(student.getId(), entry);
+            entry.grams.forEach(gram -> postings.computeIfAbsent(gram, key -> new HashSet<>()).add(student.getId()));
+        }
+
+        synchronized List<Student> search(String folded, int limit, boolean fuzzy) {
+            String[] queryTokens = SearchTextUtils.tokens(folded);
+
+            // Coincidencias exactas: intersección de las listas de trigramas de todas las palabras,
+            // recorriendo la más corta y consultando las demás (sin copiar conjuntos)
+            List<Set<String>> lists = new ArrayList<>();
+            for (String token : queryTokens) {
+                addPostingLists(token, lists);
+            }
+            lists.sort(Comparator.comparingInt(Set::size));
+            List<String> candidates = new ArrayList<>();
+            for (String id : lists.get(0)) {
+                if (containedInAll(id, lists)) {
+                    candidates.add(id);
+                }
+            }
+
+            TopK top = new TopK(limit);
+            Set<String> matched = new HashSet<>();
+            for (String id : candidates) {
+                Entry entry = entries.get(id);
+                double score = entry.score(queryTokens);
+                if (score > 0) {
+                    top.offer(entry, score);
+                    matched.add(id);
+                }
+            }
+
+            // Solo si se pidió y faltan resultados: coincidencia aproximada por proporción de trigramas
+            // compartidos, ignorando los trigramas presentes en gran parte de la institución (no discriminan)
+            if (fuzzy && matched.size() < limit) {
+                List<Set<String>> informative = SearchTextUtils.trigrams(folded).stream()
+                        .map(gram -> postings.getOrDefault(gram, Set.of()))
+                        .filter(ids -> ids.size() <= Math.max(MIN_COMMON_GRAM_SIZE, entries.size() / COMMON_GRAM_RATIO))
+                        .toList();
+                Map<String, Integer> sharedGrams = new HashMap<>();
+                for (Set<String> ids : informative) {
+                    for (String id : ids) {
+                        if (!matched.contains(id)) {
+                            sharedGrams.merge(id, 1, Integer::sum);
+                        }
+                    }
+                }
+                sharedGrams.forEach((id, shared) -> {
+                    double overlap = (double) shared / informative.size();
+                    if (overlap >= MIN_FUZZY_SCORE) {
+                        top.offer(entries.get(id), overlap);
+                    }
+                });
+            }
+            return top.toList();
+        }
+
+        /**
+         * Listas de los trigramas internos de la palabra: quien la contiene como subcadena está
+         * en todas ellas. Con menos de tres letras se usan los trigramas de prefijo.
+         */
+        private void addPostingLists(String token, List<Set<String>> lists) {
+            boolean hasInnerGrams = token.length() >= 3;
+            for (String gram : SearchTextUtils.trigrams(token)) {
+                if (hasInnerGrams && gram.charAt(0) == ' ') {
+                    continue;
+                }
+                lists.add(postings.getOrDefault(gram, Set.of()));
+            }
+        }
+
+        private static boolean containedInAll(String id, List<Set<String>> lists) {
+            for (int i = 1; i < lists.size(); i++) {
+                if (!lists.get(i).contains(id)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class Entry {
+
+        private final Student student;
+        private final String text;
+        private final String[] tokens;
+        private final Set<String> grams;
+        private final String sortKey;
+
+        Entry(Student student) {
+            this.student = student;
+            this.sortKey = SearchTextUtils.fold(student.getLastName()) + " " + SearchTextUtils.fold(student.getFirstName());
+            this.text = StudentMapper.searchText(student);
+            this.tokens = SearchTextUtils.tokens(text);
+            this.grams = SearchTextUtils.trigrams(text);
+        }
+
+        /**
+         * Cada palabra de la consulta suma 2 si es prefijo de una palabra y 1 si aparece
+         * como subcadena; 0 si alguna no aparece.
+         */
+        double score(String[] queryTokens) {
+            double score = 0;
+            for (String queryToken : queryTokens) {
+                if (startsAnyToken(queryToken)) {
+                    score += 2;
+                } else if (text.contains(queryToken)) {
+                    score += 1;
+                } else {
+                    return 0;
+                }
+            }
+            return score;
+        }
+
+        private boolean startsAnyToken(String queryToken) {
+            for (String token : tokens) {
+                if (token.startsWith(queryToken)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private record Scored(Entry entry, double score) {}
+
+    /**
+     * Selección de los K mejores con un heap acotado, sin ordenar todas las coincidencias:
+     * mayor puntaje primero y, a igual puntaje, por apellido y nombre.
+     */
+    private static final class TopK {
+
+        private static final Comparator<Scored> RANKING = Comparator.comparingDouble(Scored::score).reversed()
+                .thenComparing(scored -> scored.entry().sortKey);
+
+        private final int limit;
+        private final PriorityQueue<Scored> heap;
+
+        TopK(int limit) {
+            this.limit = limit;
+            // Sin limit (UNLIMITED) la capacidad inicial no puede depender de él
+            this.heap = new PriorityQueue<>(RANKING.reversed());
+        }
+
+        void offer(Entry entry, double score) {
+            Scored scored = new Scored(entry, score);
+            if (heap.size() < limit) {
+                heap.add(scored);
+            } else if (RANKING.compare(scored, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(scored);
+            }
+        }
+
+        List<Student> toList() {
+            return heap.stream()
+                    .sorted(RANKING)
+                    .map(scored -> scored.entry().student)
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import pe.edu.vallegrande.msvstudents.domain.model.Student;
+import pe.edu.vallegrande.msvstudents.infrastructure.repository.StudentRepository;
+import pe.edu.vallegrande.msvstudents.infrastructure.util.SearchTextUtils;
+import pe.edu.vallegrande.msvstudents.infrastructure.util.StudentMapper;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Búsqueda resuelta en Mongo: primero prefijos anclados sobre el campo sombra search_terms
+ * (índice institution_id + search_terms) y, con fuzzy y si faltan resultados, el índice de
+ * texto ordenado por relevancia. No mantiene estado en el proceso.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "students.search.backend", havingValue = "mongo")
+public class MongoStudentSearchBackend implements StudentSearchBackend {
+
+    private static final int BACKFILL_BATCH_SIZE = 500;
+
+    private final StudentRepository studentRepository;
+
+    @Override
+    public Flux<Student> search(String query, String institutionId, int limit, boolean fuzzy) {
+        List<String> terms = List.of(SearchTextUtils.tokens(SearchTextUtils.fold(query)));
+        if (terms.isEmpty()) {
+            return Flux.empty();
+        }
+        return studentRepository.findBySearchTermPrefixes(institutionId, terms, limit)
+                .collectList()
+                .flatMapMany(prefixMatches -> {
+                    // El índice de texto acepta cualquiera de las palabras: solo si se pidió fuzzy
+                    if (!fuzzy || prefixMatches.size() >= limit) {
+                        return Flux.fromIterable(prefixMatches);
+                    }
+                    Set<String> seen = prefixMatches.stream().map(Student::getId).collect(Collectors.toSet());
+                    return Flux.concat(
+                        Flux.fromIterable(prefixMatches),
+                        studentRepository.findByText(institutionId, terms, limit)
+                                .filter(student -> !seen.contains(student.getId()))
+                                .take(limit - prefixMatches.size())
+                    );
+                });
+    }
+
+    @Override
+    public void index(Student student) {
+        // search_terms se persiste con el propio estudiante (StudentMapper)
+    }
+
+    /**
+     * Completa search_terms en estudiantes creados antes de existir el campo. Corre mientras el
+     * servicio ya atiende escrituras: solo hace $set del campo sombra, nunca guarda el documento leído.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillSearchTerms() {
+        studentRepository.findWithoutSearchTerms(BACKFILL_BATCH_SIZE)
+                .concatMap(student -> studentRepository.setSearchTermsIfMissing(
+                        student.getId(), StudentMapper.refreshSearchTerms(student).getSearchTerms()))
+                .count()
+                .repeat(() -> true)
+                .takeUntil(updated -> updated < BACKFILL_BATCH_SIZE)
+                .reduce(0L, Long::sum)
+                .subscribe(
+                    updated -> log.info("Search terms backfilled for {} students", updated),
+                    error -> log.warn("Search terms backfill failed: {}", error.getMessage())
+                );
+    }
+}
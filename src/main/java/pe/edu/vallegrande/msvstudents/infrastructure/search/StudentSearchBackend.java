@@ -0,0 +1,18 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.search;
+
+import pe.edu.vallegrande.msvstudents.domain.model.Student;
+import reactor.core.publisher.Flux;
+
+/**
+ * Motor de búsqueda de estudiantes, elegido con students.search.backend:
+ * "memory" (índice de trigramas en el proceso, por defecto) o "mongo" (filtra en la base).
+ */
+public interface StudentSearchBackend {
+
+    // Resultados ordenados por relevancia, como máximo limit. Sin fuzzy solo devuelve
+    // estudiantes que contienen cada palabra de la consulta
+    Flux<Student> search(String query, String institutionId, int limit, boolean fuzzy);
+
+    // Notifica un alta o edición ya persistida
+    void index(Student student);
+}
@@ -0,0 +1,55 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public final class CursorUtils {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private static final String VERSION_PREFIX = "v1:";
+
+    private CursorUtils() {}
+
+    /**
+     * La paginación es opcional: solo se activa si el cliente envía cursor o size.
+     */
+    public static boolean isPaged(String cursor, Integer size) {
+        return cursor != null || size != null;
+    }
+
+    public static int resolvePageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be greater than 0");
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    public static String encode(String lastId) {
+        byte[] raw = (VERSION_PREFIX + lastId).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    /**
+     * Devuelve el último _id visto, o null para la primera página.
+     */
+    public static String decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid pagination cursor");
+        }
+        if (!decoded.startsWith(VERSION_PREFIX) || decoded.length() == VERSION_PREFIX.length()) {
+            throw new IllegalArgumentException("Invalid pagination cursor");
+        }
+        return decoded.substring(VERSION_PREFIX.length());
+    }
+}
@@ -17,7 +17,7 @@ public class EnrollmentWithStudentMapper {
                 .enrollmentType(enrollment.getEnrollmentType())
                 .status(enrollment.getStatus())
                 .transferReason(enrollment.getTransferReason())
-                .qrCode(enrollment.getQrCode())
+                .qrCode(QrCodeRenderer.isLegacyImage(enrollment.getQrCode()) ? null : enrollment.getQrCode())
                 .createdAt(enrollment.getCreatedAt())
                 .updatedAt(enrollment.getUpdatedAt())
                 // Datos del estudiante
@@ -0,0 +1,87 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.util;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Utilidades para describir comandos Mongo sin exponer datos: colección destino y
+ * forma del filtro (campos y operadores, con cada valor reemplazado por "?").
+ */
+public final class MongoCommandShapes {
+
+    public static final String UNKNOWN_COLLECTION = "none";
+
+    private static final BsonString PLACEHOLDER = new BsonString("?");
+
+    // Comandos cuyo primer campo no es el nombre de la colección
+    private static final Set<String> CURSOR_COMMANDS = Set.of("getMore", "killCursors");
+
+    // Partes del comando que definen la forma de la consulta
+    private static final Set<String> SHAPE_KEYS = Set.of("filter", "query", "sort", "hint");
+
+    private MongoCommandShapes() {
+    }
+
+    public static String collection(String commandName, BsonDocument command) {
+        BsonValue target = CURSOR_COMMANDS.contains(commandName)
+                ? command.get("collection")
+                : command.get(commandName);
+        return target != null && target.isString() ? target.asString().getValue() : UNKNOWN_COLLECTION;
+    }
+
+    /**
+     * Forma del comando en JSON, p. ej. {"filter": {"institution_id": "?", "status": {"$in": ["?"]}}}.
+     */
+    public static String shape(BsonDocument command) {
+        BsonDocument shape = new BsonDocument();
+        for (Map.Entry<String, BsonValue> entry : command.entrySet()) {
+            String key = entry.getKey();
+            BsonValue value = entry.getValue();
+            if (SHAPE_KEYS.contains(key)) {
+                shape.append(key, "sort".equals(key) || "hint".equals(key) ? value : mask(value));
+            } else if ("pipeline".equals(key) && value.isArray()) {
+                shape.append(key, pipelineShape(value.asArray()));
+            } else if (("updates".equals(key) || "deletes".equals(key)) && value.isArray() && !value.asArray().isEmpty()) {
+                // Operaciones en lote: basta la forma de la primera sentencia
+                BsonValue statement = value.asArray().get(0);
+                if (statement.isDocument() && statement.asDocument().containsKey("q")) {
+                    shape.append("q", mask(statement.asDocument().get("q")));
+                }
+            }
+        }
+        return shape.toJson();
+    }
+
+    private static BsonArray pipelineShape(BsonArray pipeline) {
+        BsonArray stages = new BsonArray();
+        for (BsonValue stage : pipeline) {
+            if (!stage.isDocument() || stage.asDocument().isEmpty()) {
+                continue;
+            }
+            String operator = stage.asDocument().getFirstKey();
+            BsonValue body = stage.asDocument().get(operator);
+            stages.add(new BsonDocument(operator, "$match".equals(operator) ? mask(body) : PLACEHOLDER));
+        }
+        return stages;
+    }
+
+    private static BsonValue mask(BsonValue value) {
+        if (value.isDocument()) {
+            BsonDocument masked = new BsonDocument();
+            value.asDocument().forEach((key, nested) -> masked.append(key, mask(nested)));
+            return masked;
+        }
+        if (value.isArray()) {
+            // Listas ($in, $and...) se reducen a un elemento para no depender del tamaño
+            BsonArray array = value.asArray();
+            return array.isEmpty() ? new BsonArray() : new BsonArray(List.of(mask(array.get(0))));
+        }
+        return PLACEHOLDER;
+    }
+}
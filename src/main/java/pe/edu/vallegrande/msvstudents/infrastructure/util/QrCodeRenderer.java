@@ -0,0 +1,89 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.util;
+
+import com.google.zxing.BarcodeFormat;
+import com.google.zxing.EncodeHintType;
+import com.google.zxing.MultiFormatWriter;
+import com.google.zxing.WriterException;
+import com.google.zxing.client.j2se.MatrixToImageWriter;
+import com.google.zxing.common.BitMatrix;
+import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Generación de payloads QR y renderizado PNG con ZXing.
+ * El renderizado usa CPU e ImageIO: debe invocarse fuera del event loop.
+ */
+public final class QrCodeRenderer {
+
+    public static final int DEFAULT_SIZE = 300;
+
+    private static final String LEGACY_DATA_URI_PREFIX = "data:image/png;base64,";
+
+    private QrCodeRenderer() {}
+
+    /**
+     * Token compacto que se guarda en la matrícula y se codifica en el QR.
+     */
+    public static String newPayload() {
+        return UUID.randomUUID().toString().replace("-", "");
+    }
+
+    /**
+     * Matrículas antiguas guardaban el PNG completo como data URI en qr_code.
+     */
+    public static boolean isLegacyImage(String qrCode) {
+        return qrCode != null && qrCode.startsWith(LEGACY_DATA_URI_PREFIX);
+    }
+
+    public static byte[] renderPng(String qrCode) {
+        return renderPng(qrCode, DEFAULT_SIZE);
+    }
+
+    public static byte[] renderPng(String qrCode, int size) {
+        if (isLegacyImage(qrCode)) {
+            return Base64.getDecoder().decode(qrCode.substring(LEGACY_DATA_URI_PREFIX.length()));
+        }
+        Map<EncodeHintType, Object> hints = new EnumMap<>(EncodeHintType.class);
+        hints.put(EncodeHintType.CHARACTER_SET, StandardCharsets.UTF_8.name());
+        hints.put(EncodeHintType.ERROR_CORRECTION, ErrorCorrectionLevel.M);
+        try {
+            BitMatrix bitMatrix = new MultiFormatWriter().encode(qrCode, BarcodeFormat.QR_CODE, size, size, hints);
+            ByteArrayOutputStream pngOutputStream = new ByteArrayOutputStream();
+            MatrixToImageWriter.writeToStream(bitMatrix, "PNG", pngOutputStream);
+            return pngOutputStream.toByteArray();
+        } catch (WriterException e) {
+            throw new IllegalStateException("Could not encode QR payload", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * ETag fuerte (entre comillas) derivado del payload y del tamaño: el PNG es determinista
+     * para ambos, así que el ETag se mantiene estable entre réplicas y reinicios.
+     */
+    public static String etag(String qrCode, int size) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest((qrCode + ":" + size).getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(hash, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public static String toDataUri(byte[] png) {
+        return LEGACY_DATA_URI_PREFIX + Base64.getEncoder().encodeToString(png);
+    }
+}
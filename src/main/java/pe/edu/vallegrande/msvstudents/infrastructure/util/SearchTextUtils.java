@@ -0,0 +1,60 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.util;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+public final class SearchTextUtils {
+
+    // Sin limit se devuelven todas las coincidencias, como el filtro por subcadena original
+    public static final int UNLIMITED = Integer.MAX_VALUE;
+    public static final int MAX_LIMIT = 100;
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("\\s+");
+
+    private SearchTextUtils() {}
+
+    /**
+     * Minúsculas sin tildes ni diéresis: "González" y "GONZALEZ" se pliegan a "gonzalez".
+     */
+    public static String fold(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String folded = COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT).trim();
+        return SEPARATORS.matcher(folded).replaceAll(" ");
+    }
+
+    /**
+     * Trigramas de un texto ya plegado. Cada palabra se rellena con dos espacios a la izquierda,
+     * así una consulta de una o dos letras ("j", "ju") también produce trigramas de prefijo.
+     */
+    public static Set<String> trigrams(String folded) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String token : tokens(folded)) {
+            String padded = "  " + token;
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                grams.add(padded.substring(i, i + 3));
+            }
+        }
+        return grams;
+    }
+
+    public static String[] tokens(String folded) {
+        return folded.isEmpty() ? new String[0] : SEPARATORS.split(folded);
+    }
+
+    public static int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return UNLIMITED;
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Search limit must be greater than 0");
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+}
@@ -0,0 +1,51 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.util;
+
+import pe.edu.vallegrande.msvstudents.domain.enums.EnrollmentStatus;
+import pe.edu.vallegrande.msvstudents.domain.enums.Status;
+import pe.edu.vallegrande.msvstudents.domain.model.InstitutionStatistics;
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.DashboardStatisticsResponse;
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.EnrollmentStatisticsResponse;
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.InstitutionOverviewResponse;
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.StudentStatisticsResponse;
+
+public class StatisticsMapper {
+
+    public static StudentStatisticsResponse toStudentStatistics(InstitutionStatistics statistics) {
+        return new StudentStatisticsResponse(
+                statistics.getTotalStudents(),
+                statistics.getStudentCount(Status.ACTIVE),
+                statistics.getStudentCount(Status.INACTIVE),
+                statistics.getUnenrolledStudents());
+    }
+
+    public static EnrollmentStatisticsResponse toEnrollmentStatistics(InstitutionStatistics statistics) {
+        return new EnrollmentStatisticsResponse(
+                statistics.getTotalEnrollments(),
+                statistics.getEnrollmentCount(EnrollmentStatus.ACTIVE),
+                statistics.getEnrollmentCount(EnrollmentStatus.RETIRED),
+                statistics.getEnrollmentCount(EnrollmentStatus.TRANSFER),
+                statistics.getEnrollmentCount(EnrollmentStatus.COMPLETED));
+    }
+
+    public static DashboardStatisticsResponse toDashboard(InstitutionStatistics statistics) {
+        return new DashboardStatisticsResponse(toStudentStatistics(statistics), toEnrollmentStatistics(statistics));
+    }
+
+    public static InstitutionOverviewResponse toOverview(InstitutionStatistics statistics) {
+        // Calcular porcentajes
+        long totalStudents = statistics.getTotalStudents();
+        Double enrollmentPercentage = null;
+        Double unenrolledPercentage = null;
+        if (totalStudents > 0) {
+            enrollmentPercentage = (statistics.getTotalEnrollments() * 100.0) / totalStudents;
+            unenrolledPercentage = (statistics.getUnenrolledStudents() * 100.0) / totalStudents;
+        }
+        return new InstitutionOverviewResponse(
+                totalStudents,
+                statistics.getUnenrolledStudents(),
+                statistics.getTotalEnrollments(),
+                statistics.getEnrollmentCount(EnrollmentStatus.ACTIVE),
+                enrollmentPercentage,
+                unenrolledPercentage);
+    }
+}
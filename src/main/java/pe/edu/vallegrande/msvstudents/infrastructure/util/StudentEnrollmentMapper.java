@@ -7,20 +7,8 @@ import pe.edu.vallegrande.msvstudents.infrastructure.dto.request.UpdateStudentEn
 import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.StudentEnrollmentResponse;
 
 import java.time.LocalDateTime;
-import java.util.Base64;
 import java.util.UUID;
 
-import com.google.zxing.BarcodeFormat;
-import com.google.zxing.EncodeHintType;
-import com.google.zxing.MultiFormatWriter;
-import com.google.zxing.client.j2se.MatrixToImageWriter;
-import com.google.zxing.common.BitMatrix;
-import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
-import java.io.ByteArrayOutputStream;
-import java.nio.charset.StandardCharsets;
-import java.util.HashMap;
-import java.util.Map;
-
 public class StudentEnrollmentMapper {
 
     public static StudentEnrollment toEntity(CreateStudentEnrollmentRequest request) {
@@ -35,31 +23,8 @@ public class StudentEnrollmentMapper {
         enrollment.setCreatedAt(LocalDateTime.now());
         enrollment.setUpdatedAt(LocalDateTime.now());
 
-        // Generate QR code content as a simple JSON string
-        String qrDataJson = String.format("{\"student_id\":\"%s\",\"classroom_id\":\"%s\"}",
-                request.getStudentId(), request.getClassroomId());
-
-        try {
-            // QR generation with ZXing
-            Map<EncodeHintType, Object> hints = new HashMap<>();
-            hints.put(EncodeHintType.CHARACTER_SET, StandardCharsets.UTF_8.name());
-            hints.put(EncodeHintType.ERROR_CORRECTION, ErrorCorrectionLevel.M);
-
-            int width = 300;
-            int height = 300;
-            BitMatrix bitMatrix = new MultiFormatWriter().encode(qrDataJson, BarcodeFormat.QR_CODE, width, height, hints);
-
-            ByteArrayOutputStream pngOutputStream = new ByteArrayOutputStream();
-            MatrixToImageWriter.writeToStream(bitMatrix, "PNG", pngOutputStream);
-            byte[] pngData = pngOutputStream.toByteArray();
-
-            String base64Qr = Base64.getEncoder().encodeToString(pngData);
-            // store as data URI (png) so it's clear it's an image
-            enrollment.setQrCode("data:image/png;base64," + base64Qr);
-        } catch (Exception e) {
-            // fallback: store the JSON string if QR generation fails
-            enrollment.setQrCode(qrDataJson);
-        }
+        // Solo se guarda el payload compacto; el PNG se renderiza bajo demanda en QrCodeService
+        enrollment.setQrCode(QrCodeRenderer.newPayload());
 
         return enrollment;
     }
@@ -91,7 +56,7 @@ public class StudentEnrollmentMapper {
                 .enrollmentType(enrollment.getEnrollmentType())
                 .status(enrollment.getStatus())
                 .transferReason(enrollment.getTransferReason())
-                .qrCode(enrollment.getQrCode())
+                .qrCode(QrCodeRenderer.isLegacyImage(enrollment.getQrCode()) ? null : enrollment.getQrCode())
                 .createdAt(enrollment.getCreatedAt())
                 .updatedAt(enrollment.getUpdatedAt())
                 .build();
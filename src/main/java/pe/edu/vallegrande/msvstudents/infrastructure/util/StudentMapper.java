@@ -7,7 +7,11 @@ import pe.edu.vallegrande.msvstudents.infrastructure.dto.request.UpdateStudentRe
 import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.StudentResponse;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class StudentMapper {
 
@@ -29,6 +33,7 @@ public class StudentMapper {
         student.setStatus(Status.ACTIVE);
         student.setCreatedAt(LocalDateTime.now());
         student.setUpdatedAt(LocalDateTime.now());
+        refreshSearchTerms(student);
         return student;
     }
 
@@ -46,9 +51,29 @@ public class StudentMapper {
         if (request.getParentEmail() != null) existing.setParentEmail(request.getParentEmail());
         if (request.getStatus() != null) existing.setStatus(request.getStatus());
         existing.setUpdatedAt(LocalDateTime.now());
+        refreshSearchTerms(existing);
         return existing;
     }
 
+    /**
+     * Nombre, apellido, documento y correo del apoderado plegados sin tildes y en minúsculas.
+     */
+    public static String searchText(Student student) {
+        return SearchTextUtils.fold(Stream.of(
+                        student.getFirstName(),
+                        student.getLastName(),
+                        student.getDocumentNumber(),
+                        student.getParentEmail())
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining(" ")));
+    }
+
+    // Campo sombra search_terms: una palabra plegada por elemento, consultable con regex anclada (^prefijo)
+    public static Student refreshSearchTerms(Student student) {
+        student.setSearchTerms(List.of(SearchTextUtils.tokens(searchText(student))));
+        return student;
+    }
+
     public static StudentResponse toResponse(Student student) {
         return StudentResponse.builder()
                 .id(student.getId())
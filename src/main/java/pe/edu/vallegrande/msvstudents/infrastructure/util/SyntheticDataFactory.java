@@ -0,0 +1,120 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.util;
+
+import pe.edu.vallegrande.msvstudents.domain.enums.DocumentType;
+import pe.edu.vallegrande.msvstudents.domain.enums.EnrollmentStatus;
+import pe.edu.vallegrande.msvstudents.domain.enums.EnrollmentType;
+import pe.edu.vallegrande.msvstudents.domain.enums.Gender;
+import pe.edu.vallegrande.msvstudents.domain.enums.Status;
+import pe.edu.vallegrande.msvstudents.domain.model.Student;
+import pe.edu.vallegrande.msvstudents.domain.model.StudentEnrollment;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Datos sintéticos deterministas (perfil inmemory y siembra de entornos de rendimiento).
+ * Cada institución se genera con su propia semilla, así que se puede producir una a la vez
+ * y los ids son estables entre ejecuciones: volver a sembrar no crea duplicados.
+ * Por estudiante, las K-1 primeras matrículas son de años anteriores (COMPLETED) y la última
+ * es ACTIVE si el estudiante está activo.
+ */
+public final class SyntheticDataFactory {
+
+    private static final String[] FIRST_NAMES = {"Juan", "María", "José", "Ana", "Luis", "Lucía", "Carlos", "Rosa", "Pedro", "Carmen", "Jorge", "Sofía"};
+    private static final String[] LAST_NAMES = {"González", "Pérez", "López", "Rodríguez", "Quispe", "Martínez", "Huamán", "Flores", "Sánchez", "Díaz", "Mamani", "Torres"};
+    private static final String[] STREETS = {"Jr. Los Pinos", "Av. Los Jardines", "Calle Las Flores", "Av. Arequipa", "Jr. Junín"};
+
+    private SyntheticDataFactory() {}
+
+    /**
+     * Estudiantes y matrículas de una institución.
+     */
+    public record Institution(String institutionId, List<Student> students, List<StudentEnrollment> enrollments) {}
+
+    /**
+     * Id de la i-ésima institución generada: no depende de la semilla ni del tamaño.
+     */
+    public static String institutionId(int index) {
+        return UUID.nameUUIDFromBytes(("institution-" + index).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    public static Institution institution(long randomSeed, int index, int studentCount, int enrollmentCount, int classroomCount) {
+        Random random = new Random(randomSeed * 31 + index);
+        String institutionId = institutionId(index);
+        int currentYear = LocalDate.now().getYear();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Student> students = new ArrayList<>(studentCount);
+        List<StudentEnrollment> enrollments = new ArrayList<>(studentCount * enrollmentCount);
+        for (int s = 0; s < studentCount; s++) {
+            Student student = student(random, institutionId, index, s, now);
+            students.add(student);
+            for (int e = 0; e < enrollmentCount; e++) {
+                int year = currentYear - (enrollmentCount - 1 - e);
+                boolean current = e == enrollmentCount - 1;
+                EnrollmentStatus status = !current ? EnrollmentStatus.COMPLETED
+                        : student.getStatus() == Status.ACTIVE ? EnrollmentStatus.ACTIVE
+                        : EnrollmentStatus.RETIRED;
+                enrollments.add(enrollment(random, student, year, status, classroomCount, now));
+            }
+        }
+        return new Institution(institutionId, students, enrollments);
+    }
+
+    private static Student student(Random random, String institutionId, int institutionIndex, int index, LocalDateTime now) {
+        String firstName = pick(random, FIRST_NAMES) + " " + pick(random, FIRST_NAMES);
+        String lastName = pick(random, LAST_NAMES) + " " + pick(random, LAST_NAMES);
+        String parentLastName = lastName.substring(0, lastName.indexOf(' '));
+
+        Student student = new Student();
+        student.setId(randomUuid(random));
+        student.setInstitutionId(institutionId);
+        student.setFirstName(firstName);
+        student.setLastName(lastName);
+        student.setDocumentType(DocumentType.DNI);
+        student.setDocumentNumber(String.format("%08d", 60_000_000 + institutionIndex * 1_000_000 + index));
+        student.setGender(random.nextBoolean() ? Gender.MALE : Gender.FEMALE);
+        student.setBirthDate(LocalDate.of(now.getYear() - 6 - random.nextInt(11), 1 + random.nextInt(12), 1 + random.nextInt(28)));
+        student.setAddress(pick(random, STREETS) + " " + (100 + random.nextInt(900)) + ", Lima");
+        student.setPhone("9" + (10_000_000 + random.nextInt(90_000_000)));
+        student.setParentName(pick(random, FIRST_NAMES) + " " + parentLastName);
+        student.setParentPhone("9" + (10_000_000 + random.nextInt(90_000_000)));
+        student.setParentEmail("apoderado" + institutionIndex + "." + index + "@mail.com");
+        // ~90 % activos, el resto repartido entre los demás estados
+        student.setStatus(random.nextInt(10) > 0 ? Status.ACTIVE : Status.values()[1 + random.nextInt(Status.values().length - 1)]);
+        student.setCreatedAt(now);
+        student.setUpdatedAt(now);
+        return StudentMapper.refreshSearchTerms(student);
+    }
+
+    private static StudentEnrollment enrollment(Random random, Student student, int year, EnrollmentStatus status,
+                                                int classroomCount, LocalDateTime now) {
+        StudentEnrollment enrollment = new StudentEnrollment();
+        enrollment.setId(randomUuid(random));
+        enrollment.setStudentId(student.getId());
+        enrollment.setClassroomId("classroom-" + year + "-" + String.format("%03d", 1 + random.nextInt(classroomCount))
+                + "-" + student.getInstitutionId().substring(0, 8));
+        enrollment.setInstitutionId(student.getInstitutionId());
+        enrollment.setEnrollmentDate(LocalDate.of(year, 3, 1));
+        enrollment.setEnrollmentType(EnrollmentType.REGULAR);
+        enrollment.setStatus(status);
+        // Mismo formato que QrCodeRenderer.newPayload, pero reproducible
+        enrollment.setQrCode(randomUuid(random).replace("-", ""));
+        enrollment.setCreatedAt(now);
+        enrollment.setUpdatedAt(now);
+        return enrollment;
+    }
+
+    private static String randomUuid(Random random) {
+        return new UUID(random.nextLong(), random.nextLong()).toString();
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,224 @@
+package pe.edu.vallegrande.msvstudents.application.service.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pe.edu.vallegrande.msvstudents.domain.enums.EnrollmentStatus;
+import pe.edu.vallegrande.msvstudents.domain.enums.Status;
+import pe.edu.vallegrande.msvstudents.domain.model.InstitutionStatistics;
+import pe.edu.vallegrande.msvstudents.domain.model.Student;
+import pe.edu.vallegrande.msvstudents.domain.model.StudentEnrollment;
+import pe.edu.vallegrande.msvstudents.infrastructure.repository.StatisticsRepository;
+import pe.edu.vallegrande.msvstudents.infrastructure.repository.StudentEnrollmentRepository;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pruebas unitarias para InstitutionStatisticsServiceImpl
+ *
+ * Verifican los deltas que cada escritura aplica sobre institution_stats,
+ * la lectura puntual del documento y la corrección del desfase.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InstitutionStatisticsService - Pruebas Unitarias")
+class InstitutionStatisticsServiceImplTest {
+
+    private static final String INSTITUTION_ID = "inst-123";
+
+    @Mock
+    private StatisticsRepository statisticsRepository;
+
+    @Mock
+    private StudentEnrollmentRepository enrollmentRepository;
+
+    @InjectMocks
+    private InstitutionStatisticsServiceImpl institutionStatistics;
+
+    @Test
+    @DisplayName("Debería leer el documento materializado sin ejecutar la agregación")
+    void shouldReadMaterializedDocument_WithoutAggregation() {
+        // Given - Preparación
+        when(statisticsRepository.findMaterializedStatistics(INSTITUTION_ID))
+            .thenReturn(Mono.just(statistics(3, 1, 2)));
+
+        // When & Then - Ejecución y verificación
+        StepVerifier.create(institutionStatistics.getStatistics(INSTITUTION_ID))
+            .assertNext(statistics -> assertEquals(3, statistics.getTotalStudents()))
+            .verifyComplete();
+
+        verify(statisticsRepository, never()).aggregateInstitutionStatistics(any());
+    }
+
+    @Test
+    @DisplayName("Debería calcular y guardar el documento cuando aún no existe")
+    void shouldMaterialize_WhenDocumentIsMissing() {
+        // Given - Preparación
+        InstitutionStatistics aggregated = statistics(3, 1, 2);
+        when(statisticsRepository.findMaterializedStatistics(INSTITUTION_ID)).thenReturn(Mono.empty());
+        when(statisticsRepository.aggregateInstitutionStatistics(INSTITUTION_ID)).thenReturn(Mono.just(aggregated));
+        when(statisticsRepository.saveMaterializedStatistics(eq(INSTITUTION_ID), eq(aggregated), isNull()))
+            .thenReturn(Mono.just(true));
+
+        // When & Then - Ejecución y verificación
+        StepVerifier.create(institutionStatistics.getStatistics(INSTITUTION_ID))
+            .expectNext(aggregated)
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debería sumar los estudiantes creados como no matriculados")
+    void shouldIncrementCounters_WhenStudentsAreCreated() {
+        // Given - Preparación
+        when(statisticsRepository.incrementStatistics(eq(INSTITUTION_ID), any())).thenReturn(Mono.empty());
+
+        // When - Ejecución
+        StepVerifier.create(institutionStatistics.studentsCreated(INSTITUTION_ID,
+                List.of(student(Status.ACTIVE), student(Status.ACTIVE), student(Status.INACTIVE))))
+            .verifyComplete();
+
+        // Then - Verificación
+        InstitutionStatistics delta = capturedDelta();
+        assertEquals(3, delta.getTotalStudents());
+        assertEquals(3, delta.getUnenrolledStudents());
+        assertEquals(2, delta.getStudentCount(Status.ACTIVE));
+        assertEquals(1, delta.getStudentCount(Status.INACTIVE));
+    }
+
+    @Test
+    @DisplayName("Debería descontar de no matriculados solo a quien recibe su primera matrícula activa")
+    void shouldDecrementUnenrolled_OnlyForFirstActiveEnrollment() {
+        // Given - Preparación: student-2 ya tenía otra matrícula activa
+        when(enrollmentRepository.countActiveByStudentIds(Set.of("student-1", "student-2"), INSTITUTION_ID))
+            .thenReturn(Mono.just(Map.of("student-1", 1L, "student-2", 2L)));
+        when(statisticsRepository.incrementStatistics(eq(INSTITUTION_ID), any())).thenReturn(Mono.empty());
+
+        // When - Ejecución
+        StepVerifier.create(institutionStatistics.enrollmentsCreated(INSTITUTION_ID, List.of(
+                enrollment("student-1", EnrollmentStatus.ACTIVE),
+                enrollment("student-2", EnrollmentStatus.ACTIVE))))
+            .verifyComplete();
+
+        // Then - Verificación
+        InstitutionStatistics delta = capturedDelta();
+        assertEquals(2, delta.getTotalEnrollments());
+        assertEquals(2, delta.getEnrollmentCount(EnrollmentStatus.ACTIVE));
+        assertEquals(-1, delta.getUnenrolledStudents());
+    }
+
+    @Test
+    @DisplayName("Debería sumar a no matriculados cuando se anula la última matrícula activa")
+    void shouldIncrementUnenrolled_WhenLastActiveEnrollmentIsCancelled() {
+        // Given - Preparación
+        when(enrollmentRepository.countActiveByStudentIds(List.of("student-1"), INSTITUTION_ID))
+            .thenReturn(Mono.just(Map.of()));
+        when(statisticsRepository.incrementStatistics(eq(INSTITUTION_ID), any())).thenReturn(Mono.empty());
+
+        // When - Ejecución
+        StepVerifier.create(institutionStatistics.enrollmentStatusChanged(INSTITUTION_ID,
+                enrollment("student-1", EnrollmentStatus.RETIRED), EnrollmentStatus.ACTIVE))
+            .verifyComplete();
+
+        // Then - Verificación
+        InstitutionStatistics delta = capturedDelta();
+        assertEquals(0, delta.getTotalEnrollments());
+        assertEquals(-1, delta.getEnrollmentCount(EnrollmentStatus.ACTIVE));
+        assertEquals(1, delta.getEnrollmentCount(EnrollmentStatus.RETIRED));
+        assertEquals(1, delta.getUnenrolledStudents());
+    }
+
+    @Test
+    @DisplayName("No debería fallar la escritura si el $inc falla")
+    void shouldNotFail_WhenIncrementFails() {
+        // Given - Preparación
+        when(statisticsRepository.incrementStatistics(eq(INSTITUTION_ID), any()))
+            .thenReturn(Mono.error(new IllegalStateException("Mongo no disponible")));
+
+        // When & Then - Ejecución y verificación
+        StepVerifier.create(institutionStatistics.studentStatusChanged(INSTITUTION_ID, Status.ACTIVE, Status.INACTIVE))
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debería corregir el desfase condicionado a la versión leída")
+    void shouldReconcileDrift_WithExpectedVersion() {
+        // Given - Preparación
+        InstitutionStatistics materialized = statistics(3, 2, 2);
+        materialized.setVersion(7);
+        InstitutionStatistics actual = statistics(3, 1, 2);
+        when(statisticsRepository.findMaterializedStatistics(INSTITUTION_ID)).thenReturn(Mono.just(materialized));
+        when(statisticsRepository.aggregateInstitutionStatistics(INSTITUTION_ID)).thenReturn(Mono.just(actual));
+        when(statisticsRepository.saveMaterializedStatistics(INSTITUTION_ID, actual, 7L)).thenReturn(Mono.just(true));
+
+        // When & Then - Ejecución y verificación
+        StepVerifier.create(institutionStatistics.reconcile(INSTITUTION_ID))
+            .expectNext(true)
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("No debería reescribir el documento si los conteos coinciden")
+    void shouldNotRewrite_WhenCountsMatch() {
+        // Given - Preparación
+        InstitutionStatistics materialized = statistics(3, 1, 2);
+        materialized.setVersion(7);
+        // Un estado que llegó a cero por $inc equivale a no tenerlo
+        materialized.getStudentsByStatus().put(Status.INACTIVE, 0L);
+        when(statisticsRepository.findMaterializedStatistics(INSTITUTION_ID)).thenReturn(Mono.just(materialized));
+        when(statisticsRepository.aggregateInstitutionStatistics(INSTITUTION_ID)).thenReturn(Mono.just(statistics(3, 1, 2)));
+
+        // When & Then - Ejecución y verificación
+        StepVerifier.create(institutionStatistics.reconcile(INSTITUTION_ID))
+            .expectNext(false)
+            .verifyComplete();
+
+        verify(statisticsRepository, never()).saveMaterializedStatistics(any(), any(), anyLong());
+    }
+
+    private InstitutionStatistics capturedDelta() {
+        ArgumentCaptor<InstitutionStatistics> delta = ArgumentCaptor.forClass(InstitutionStatistics.class);
+        verify(statisticsRepository).incrementStatistics(eq(INSTITUTION_ID), delta.capture());
+        return delta.getValue();
+    }
+
+    private static InstitutionStatistics statistics(long students, long unenrolled, long enrollments) {
+        InstitutionStatistics statistics = new InstitutionStatistics();
+        statistics.setTotalStudents(students);
+        statistics.getStudentsByStatus().put(Status.ACTIVE, students);
+        statistics.setUnenrolledStudents(unenrolled);
+        statistics.setTotalEnrollments(enrollments);
+        statistics.getEnrollmentsByStatus().put(EnrollmentStatus.ACTIVE, enrollments);
+        return statistics;
+    }
+
+    private static Student student(Status status) {
+        Student student = new Student();
+        student.setInstitutionId(INSTITUTION_ID);
+        student.setStatus(status);
+        return student;
+    }
+
+    private static StudentEnrollment enrollment(String studentId, EnrollmentStatus status) {
+        StudentEnrollment enrollment = new StudentEnrollment();
+        enrollment.setStudentId(studentId);
+        enrollment.setInstitutionId(INSTITUTION_ID);
+        enrollment.setStatus(status);
+        return enrollment;
+    }
+}
@@ -0,0 +1,92 @@
+package pe.edu.vallegrande.msvstudents.application.service.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import pe.edu.vallegrande.msvstudents.domain.model.InstitutionVersion;
+import pe.edu.vallegrande.msvstudents.infrastructure.repository.InstitutionVersionRepository;
+import pe.edu.vallegrande.msvstudents.infrastructure.repository.impl.InMemoryInstitutionVersionRepository;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pruebas unitarias para InstitutionVersionServiceImpl
+ *
+ * Verifican que la versión sea estable entre escrituras, cambie con cada bump,
+ * que Last-Modified avance aunque haya varias escrituras en el mismo segundo
+ * y que un error del contador no falle la escritura.
+ */
+@DisplayName("InstitutionVersionService - Pruebas Unitarias")
+class InstitutionVersionServiceImplTest {
+
+    private InstitutionVersionServiceImpl versionService;
+
+    @BeforeEach
+    void setUp() {
+        versionService = service(new InMemoryInstitutionVersionRepository());
+    }
+
+    @Test
+    @DisplayName("Debería mantener la versión hasta la siguiente escritura")
+    void shouldKeepVersionUntilBump() {
+        // Given - Preparación
+        InstitutionVersion first = versionService.current("inst-1").block();
+
+        // When - Ejecución
+        InstitutionVersion again = versionService.current("inst-1").block();
+        versionService.bump("inst-1").block();
+        InstitutionVersion bumped = versionService.current("inst-1").block();
+
+        // Then - Verificación
+        assertEquals(first, again);
+        assertTrue(first.etag().startsWith("W/\""));
+        assertNotEquals(first.etag(), bumped.etag());
+        assertEquals(Instant.parse("2024-03-01T10:15:30Z"), first.lastModified());
+        assertTrue(bumped.lastModified().isAfter(first.lastModified()));
+    }
+
+    @Test
+    @DisplayName("Debería usar versiones distintas por institución")
+    void shouldSeparateInstitutions() {
+        // When - Ejecución
+        InstitutionVersion first = versionService.current("inst-1").block();
+        InstitutionVersion second = versionService.current("inst-2").block();
+        versionService.bump("inst-2").block();
+
+        // Then - Verificación
+        assertNotEquals(first, versionService.current("inst-2").block());
+        assertNotEquals(second, versionService.current("inst-2").block());
+        assertEquals(first, versionService.current("inst-1").block());
+    }
+
+    @Test
+    @DisplayName("No debería fallar la escritura si el contador no se puede incrementar")
+    void shouldNotFail_WhenBumpFails() {
+        // Given - Preparación
+        InstitutionVersionRepository repository = mock(InstitutionVersionRepository.class);
+        when(repository.increment(eq("inst-1"), any()))
+            .thenReturn(Mono.error(new IllegalStateException("Mongo no disponible")));
+
+        // When & Then - Ejecución y verificación
+        StepVerifier.create(service(repository).bump("inst-1"))
+            .verifyComplete();
+    }
+
+    private static InstitutionVersionServiceImpl service(InstitutionVersionRepository repository) {
+        InstitutionVersionServiceImpl service = new InstitutionVersionServiceImpl(repository);
+        Clock clock = Clock.fixed(Instant.parse("2024-03-01T10:15:30.500Z"), ZoneOffset.UTC);
+        ReflectionTestUtils.setField(service, "clock", clock);
+        return service;
+    }
+}
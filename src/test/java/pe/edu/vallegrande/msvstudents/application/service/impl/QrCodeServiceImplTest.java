@@ -0,0 +1,126 @@
+package pe.edu.vallegrande.msvstudents.application.service.impl;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pe.edu.vallegrande.msvstudents.domain.model.StudentEnrollment;
+import pe.edu.vallegrande.msvstudents.infrastructure.exception.custom.InsufficientPermissionsException;
+import pe.edu.vallegrande.msvstudents.infrastructure.repository.StudentEnrollmentRepository;
+import pe.edu.vallegrande.msvstudents.infrastructure.util.QrCodeRenderer;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pruebas unitarias para QrCodeServiceImpl
+ * 
+ * Verifican que el PNG del QR se renderice una sola vez por matrícula,
+ * que el ETag sea estable, que el renderizado corra en qrRenderScheduler
+ * y que no se sirva a otra institución.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QrCodeService - Pruebas Unitarias")
+class QrCodeServiceImplTest {
+
+    @Mock
+    private StudentEnrollmentRepository enrollmentRepository;
+
+    private QrCodeServiceImpl qrCodeService;
+
+    private StudentEnrollment enrollment;
+
+    @BeforeEach
+    void setUp() {
+        qrCodeService = new QrCodeServiceImpl(
+            enrollmentRepository,
+            Schedulers.immediate(),
+            Caffeine.newBuilder().maximumSize(10).buildAsync()
+        );
+
+        enrollment = new StudentEnrollment();
+        enrollment.setId("enrollment-123");
+        enrollment.setInstitutionId("inst-123");
+        enrollment.setQrCode(QrCodeRenderer.newPayload());
+    }
+
+    @Test
+    @DisplayName("Debería leer y renderizar el QR una sola vez por matrícula")
+    void shouldRenderQrOnce_WhenRequestedRepeatedly() {
+        // Given - Preparación
+        when(enrollmentRepository.findById(eq("enrollment-123"))).thenReturn(Mono.just(enrollment));
+        String expectedEtag = QrCodeRenderer.etag(enrollment.getQrCode(), QrCodeRenderer.DEFAULT_SIZE);
+
+        // When & Then - Dos solicitudes consecutivas
+        for (int i = 0; i < 2; i++) {
+            StepVerifier.create(qrCodeService.getEnrollmentQrImage("enrollment-123", "inst-123"))
+                .assertNext(image -> {
+                    assertEquals(expectedEtag, image.getEtag());
+                    assertTrue(image.getPng().length > 0);
+                })
+                .verifyComplete();
+        }
+
+        verify(enrollmentRepository, times(1)).findById(eq("enrollment-123"));
+    }
+
+    @Test
+    @DisplayName("Debería rechazar el QR de una matrícula de otra institución")
+    void shouldRejectQr_WhenEnrollmentBelongsToAnotherInstitution() {
+        // Given - Preparación
+        when(enrollmentRepository.findById(eq("enrollment-123"))).thenReturn(Mono.just(enrollment));
+
+        // When & Then - Ejecución y verificación
+        StepVerifier.create(qrCodeService.getEnrollmentQrImage("enrollment-123", "other-inst"))
+            .expectError(InsufficientPermissionsException.class)
+            .verify();
+    }
+
+    @Test
+    @DisplayName("Debería renderizar el QR en qrRenderScheduler y no en el hilo que lo solicita")
+    void shouldRenderQr_OnRenderScheduler() {
+        // Given - Preparación: el id se lee al construir la imagen, junto con el renderizado
+        List<String> renderThreads = new CopyOnWriteArrayList<>();
+        StudentEnrollment tracked = new StudentEnrollment() {
+            @Override
+            public String getId() {
+                renderThreads.add(Thread.currentThread().getName());
+                return super.getId();
+            }
+        };
+        tracked.setId("enrollment-123");
+        tracked.setInstitutionId("inst-123");
+        tracked.setQrCode(QrCodeRenderer.newPayload());
+        when(enrollmentRepository.findById(eq("enrollment-123"))).thenReturn(Mono.just(tracked));
+
+        Scheduler renderScheduler = Schedulers.newSingle("qr-render-test");
+        QrCodeServiceImpl service = new QrCodeServiceImpl(
+            enrollmentRepository, renderScheduler, Caffeine.newBuilder().maximumSize(10).buildAsync());
+
+        try {
+            // When - Ejecución
+            StepVerifier.create(service.getEnrollmentQrImage("enrollment-123", "inst-123"))
+                .assertNext(image -> assertTrue(image.getPng().length > 0))
+                .verifyComplete();
+
+            // Then - Verificación
+            assertFalse(renderThreads.isEmpty());
+            assertTrue(renderThreads.stream().allMatch(name -> name.startsWith("qr-render-test")), renderThreads::toString);
+        } finally {
+            renderScheduler.dispose();
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package pe.edu.vallegrande.msvstudents.application.service.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import pe.edu.vallegrande.msvstudents.application.service.InstitutionStatisticsService;
+import pe.edu.vallegrande.msvstudents.application.service.InstitutionVersionService;
+import pe.edu.vallegrande.msvstudents.domain.enums.EnrollmentStatus;
+import pe.edu.vallegrande.msvstudents.domain.enums.EnrollmentType;
+import pe.edu.vallegrande.msvstudents.domain.model.Student;
+import pe.edu.vallegrande.msvstudents.domain.model.StudentEnrollment;
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.request.CreateStudentEnrollmentRequest;
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.BulkFailure;
+import pe.edu.vallegrande.msvstudents.infrastructure.repository.BulkInsertResult;
+import pe.edu.vallegrande.msvstudents.infrastructure.repository.StudentEnrollmentRepository;
+import pe.edu.vallegrande.msvstudents.infrastructure.repository.StudentRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pruebas unitarias para StudentEnrollmentServiceImpl
+ *
+ * Verifican que el cruce de matrículas con estudiantes por aula
+ * se resuelva en lote, sin una consulta por matrícula, y que los cambios
+ * de estado actualicen los contadores materializados. La matrícula masiva
+ * valida los estudiantes con una sola consulta e inserta por lotes.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StudentEnrollmentService - Pruebas Unitarias")
+class StudentEnrollmentServiceImplTest {
+
+    @Mock
+    private StudentEnrollmentRepository enrollmentRepository;
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    @Mock
+    private InstitutionStatisticsService institutionStatistics;
+
+    @Mock
+    private InstitutionVersionService institutionVersions;
+
+    @InjectMocks
+    private StudentEnrollmentServiceImpl enrollmentService;
+
+    private String institutionId;
+
+    @BeforeEach
+    void setUp() {
+        institutionId = "inst-123";
+    }
+
+    /**
+     * Prueba: Matrículas de un aula con datos del estudiante
+     *
+     * Verifica que el servicio:
+     * - Resuelva todos los estudiantes con una sola consulta $in
+     * - Conserve el orden de las matrículas
+     * - Omita las matrículas cuyo estudiante no existe
+     *
+     * Expectativa: Dos matrículas en orden y ninguna llamada a findById
+     */
+    @Test
+    @DisplayName("Debería cruzar matrículas y estudiantes con una consulta por ventana")
+    void shouldJoinStudents_WithOneQueryPerWindow() {
+        // Given - Preparación
+        when(enrollmentRepository.findByClassroomId(eq("classroom-1")))
+            .thenReturn(Flux.just(
+                enrollment("enrollment-1", "student-2"),
+                enrollment("enrollment-2", "student-missing"),
+                enrollment("enrollment-3", "student-1")
+            ));
+        when(studentRepository.findAllByIds(any()))
+            .thenReturn(Flux.just(student("student-1", "Ana"), student("student-2", "Luis")));
+
+        // When & Then - Ejecución y verificación
+        StepVerifier.create(enrollmentService.getEnrollmentsByClassroomWithStudentInfo("classroom-1", institutionId))
+            .assertNext(response -> {
+                assertEquals("enrollment-1", response.getId());
+                assertEquals("Luis", response.getFirstName());
+            })
+            .assertNext(response -> {
+                assertEquals("enrollment-3", response.getId());
+                assertEquals("Ana", response.getFirstName());
+            })
+            .verifyComplete();
+
+        verify(studentRepository, times(1)).findAllByIds(any());
+        verify(studentRepository, never()).findById(any());
+    }
+
+    /**
+     * Prueba: Anular una matrícula activa
+     *
+     * Verifica que el servicio informe el estado anterior a la anulación
+     * para que los contadores se muevan de ACTIVE a RETIRED.
+     *
+     * Expectativa: Matrícula RETIRED y contadores actualizados con el estado previo
+     */
+    @Test
+    @DisplayName("Debería actualizar los contadores con el estado previo al anular")
+    void shouldUpdateCounters_WhenEnrollmentIsCancelled() {
+        // Given - Preparación
+        StudentEnrollment enrollment = enrollment("enrollment-1", "student-1");
+        enrollment.setStatus(EnrollmentStatus.ACTIVE);
+        when(enrollmentRepository.findById("enrollment-1")).thenReturn(Mono.just(enrollment));
+        when(enrollmentRepository.save(any(StudentEnrollment.class)))
+            .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(institutionStatistics.enrollmentStatusChanged(eq(institutionId), any(), eq(EnrollmentStatus.ACTIVE)))
+            .thenReturn(Mono.empty());
+        when(institutionVersions.bump(institutionId)).thenReturn(Mono.empty());
+
+        // When & Then - Ejecución y verificación
+        StepVerifier.create(enrollmentService.cancelEnrollment("enrollment-1", "Retiro voluntario", institutionId))
+            .assertNext(response -> assertEquals(EnrollmentStatus.RETIRED, response.getStatus()))
+            .verifyComplete();
+
+        verify(institutionStatistics).enrollmentStatusChanged(institutionId, enrollment, EnrollmentStatus.ACTIVE);
+        verify(institutionVersions).bump(institutionId);
+    }
+
+    /**
+     * Prueba: Matrícula masiva con estudiantes inválidos
+     *
+     * Verifica que la matrícula masiva:
+     * - Resuelva todos los estudiantes con una sola consulta $in
+     * - Rechace en memoria los estudiantes inexistentes y los de otra institución
+     * - Inserte el resto con un insertMany no ordenado
+     *
+     * Expectativa: Dos matrículas creadas y dos errores con el índice de la petición
+     */
+    @Test
+    @DisplayName("Debería matricular en lote reportando estudiantes inexistentes y de otra institución")
+    void shouldCreateBulkEnrollments_ReportingInvalidStudentsByIndex() {
+        // Given - Preparación
+        Student foreignStudent = student("student-foreign", "Rosa");
+        foreignStudent.setInstitutionId("inst-999");
+        List<CreateStudentEnrollmentRequest> requests = List.of(
+            enrollmentRequest("student-1"),
+            enrollmentRequest("student-missing"),
+            enrollmentRequest("student-foreign"),
+            enrollmentRequest("student-2"));
+
+        when(studentRepository.findAllByIds(any()))
+            .thenReturn(Flux.just(student("student-1", "Ana"), student("student-2", "Luis"), foreignStudent));
+        when(enrollmentRepository.insertAllUnordered(any()))
+            .thenReturn(Mono.just(new BulkInsertResult(2, Map.of())));
+        when(institutionStatistics.enrollmentsCreated(eq(institutionId), any())).thenReturn(Mono.empty());
+        when(institutionVersions.bump(institutionId)).thenReturn(Mono.empty());
+
+        // When & Then - Ejecución y verificación
+        StepVerifier.create(enrollmentService.createBulkEnrollments(requests, institutionId, false))
+            .assertNext(result -> {
+                assertEquals(4, result.totalRequested());
+                assertEquals(2, result.successfullyCreated());
+                assertEquals(2, result.errors());
+                assertEquals(BulkFailure.ofStudent(1, "student-missing", "Student not found with id: student-missing"),
+                    result.failures().get(0));
+                assertEquals(BulkFailure.ofStudent(2, "student-foreign", "Cannot enroll a student from another institution"),
+                    result.failures().get(1));
+                assertEquals(2, result.enrollments().size());
+                assertEquals(institutionId, result.enrollments().get(0).getInstitutionId());
+            })
+            .verifyComplete();
+
+        verify(studentRepository, times(1)).findAllByIds(
+            Set.of("student-1", "student-missing", "student-foreign", "student-2"));
+        verify(studentRepository, never()).findById(any());
+        verify(enrollmentRepository, times(1)).insertAllUnordered(argThat(enrollments -> enrollments.size() == 2));
+        verify(enrollmentRepository, never()).save(any());
+    }
+
+    /**
+     * Prueba: Matrícula masiva por lotes con rechazos de Mongo
+     *
+     * Verifica que la matrícula masiva:
+     * - Divida las matrículas válidas en lotes del tamaño configurado
+     * - Traduzca la posición de cada rechazo dentro del lote al índice de la petición
+     * - Actualice los contadores solo con las matrículas insertadas
+     *
+     * Expectativa: Tres insertMany (2, 2 y 1), cuatro matrículas creadas y un error con índice 3
+     */
+    @Test
+    @DisplayName("Debería insertar por lotes y reportar los rechazos con el índice de la petición")
+    void shouldCreateBulkEnrollments_InChunks_MappingFailuresToRequestIndex() {
+        // Given - Preparación
+        ReflectionTestUtils.setField(enrollmentService, "bulkChunkSize", 2);
+        List<CreateStudentEnrollmentRequest> requests = List.of(
+            enrollmentRequest("student-1"),
+            enrollmentRequest("student-2"),
+            enrollmentRequest("student-3"),
+            enrollmentRequest("student-4"),
+            enrollmentRequest("student-5"));
+
+        when(studentRepository.findAllByIds(any()))
+            .thenReturn(Flux.just(
+                student("student-1", "Ana"), student("student-2", "Luis"), student("student-3", "Rosa"),
+                student("student-4", "Juan"), student("student-5", "Eva")));
+        // El segundo lote (índices 2 y 3) rechaza su segunda posición
+        when(enrollmentRepository.insertAllUnordered(any()))
+            .thenReturn(Mono.just(new BulkInsertResult(2, Map.of())))
+            .thenReturn(Mono.just(new BulkInsertResult(1, Map.of(1, "E11000 duplicate key error"))))
+            .thenReturn(Mono.just(new BulkInsertResult(1, Map.of())));
+        when(institutionStatistics.enrollmentsCreated(eq(institutionId), any())).thenReturn(Mono.empty());
+        when(institutionVersions.bump(institutionId)).thenReturn(Mono.empty());
+
+        // When & Then - Ejecución y verificación
+        StepVerifier.create(enrollmentService.createBulkEnrollments(requests, institutionId, true))
+            .assertNext(result -> {
+                assertEquals(5, result.totalRequested());
+                assertEquals(4, result.successfullyCreated());
+                assertEquals(1, result.errors());
+                assertEquals(BulkFailure.ofStudent(3, "student-4", "E11000 duplicate key error"), result.failures().get(0));
+                assertNull(result.enrollments());
+            })
+            .verifyComplete();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<StudentEnrollment>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(enrollmentRepository, times(3)).insertAllUnordered(chunks.capture());
+        assertEquals(List.of(2, 2, 1), chunks.getAllValues().stream().map(Collection::size).toList());
+        assertEquals("student-3", chunks.getAllValues().get(1).get(0).getStudentId());
+        // Un solo $inc con las matrículas efectivamente insertadas
+        verify(institutionStatistics).enrollmentsCreated(eq(institutionId), argThat(enrollments -> enrollments.size() == 4
+            && enrollments.stream().noneMatch(enrollment -> "student-4".equals(enrollment.getStudentId()))));
+        verify(institutionVersions, times(1)).bump(institutionId);
+    }
+
+    private StudentEnrollment enrollment(String id, String studentId) {
+        StudentEnrollment enrollment = new StudentEnrollment();
+        enrollment.setId(id);
+        enrollment.setStudentId(studentId);
+        enrollment.setClassroomId("classroom-1");
+        enrollment.setInstitutionId(institutionId);
+        return enrollment;
+    }
+
+    private Student student(String id, String firstName) {
+        Student student = new Student();
+        student.setId(id);
+        student.setInstitutionId(institutionId);
+        student.setFirstName(firstName);
+        return student;
+    }
+
+    private CreateStudentEnrollmentRequest enrollmentRequest(String studentId) {
+        CreateStudentEnrollmentRequest request = new CreateStudentEnrollmentRequest();
+        request.setStudentId(studentId);
+        request.setClassroomId("classroom-1");
+        request.setEnrollmentDate(LocalDate.of(2024, 3, 1));
+        request.setEnrollmentType(EnrollmentType.REGULAR);
+        return request;
+    }
+}
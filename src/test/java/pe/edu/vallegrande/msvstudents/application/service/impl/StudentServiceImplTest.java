@@ -7,6 +7,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import pe.edu.vallegrande.msvstudents.application.service.InstitutionStatisticsService;
+import pe.edu.vallegrande.msvstudents.application.service.InstitutionVersionService;
 import pe.edu.vallegrande.msvstudents.domain.enums.DocumentType;
 import pe.edu.vallegrande.msvstudents.domain.enums.Gender;
 import pe.edu.vallegrande.msvstudents.domain.enums.Status;
@@ -14,16 +16,28 @@ import pe.edu.vallegrande.msvstudents.domain.model.Student;
 import pe.edu.vallegrande.msvstudents.infrastructure.dto.request.CreateStudentRequest;
 import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.StudentResponse;
 import pe.edu.vallegrande.msvstudents.infrastructure.exception.ResourceNotFoundException;
+import pe.edu.vallegrande.msvstudents.infrastructure.repository.BulkInsertResult;
 import pe.edu.vallegrande.msvstudents.infrastructure.repository.StudentRepository;
 import pe.edu.vallegrande.msvstudents.infrastructure.repository.StudentEnrollmentRepository;
+import pe.edu.vallegrande.msvstudents.infrastructure.search.StudentSearchBackend;
+import pe.edu.vallegrande.msvstudents.infrastructure.util.CursorUtils;
+import pe.edu.vallegrande.msvstudents.infrastructure.util.SearchTextUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -44,6 +58,15 @@ class StudentServiceImplTest {
     @Mock
     private StudentEnrollmentRepository studentEnrollmentRepository;
 
+    @Mock
+    private StudentSearchBackend searchIndex;
+
+    @Mock
+    private InstitutionVersionService institutionVersions;
+
+    @Mock
+    private InstitutionStatisticsService institutionStatistics;
+
     @InjectMocks
     private StudentServiceImpl studentService;
 
@@ -113,6 +136,9 @@ class StudentServiceImplTest {
         
         when(studentRepository.save(any(Student.class)))
             .thenReturn(Mono.just(testStudent));
+        when(institutionStatistics.studentsCreated(eq(institutionId), any()))
+            .thenReturn(Mono.empty());
+        when(institutionVersions.bump(institutionId)).thenReturn(Mono.empty());
 
         // When - Ejecución del método bajo prueba
         Mono<StudentResponse> result = studentService.createStudent(createRequest, institutionId);
@@ -127,6 +153,38 @@ class StudentServiceImplTest {
                 assertEquals(testStudent.getInstitutionId(), response.getInstitutionId());
             })
             .verifyComplete();
+
+        verify(institutionVersions).bump(testStudent.getInstitutionId());
+        verify(institutionStatistics).studentsCreated(institutionId, List.of(testStudent));
+    }
+
+    /**
+     * Prueba: Desactivar un estudiante
+     * 
+     * Verifica que el servicio:
+     * - Lea el estudiante sin cache antes de modificarlo y guardarlo completo
+     * - Informe el cambio de estado a los contadores de la institución
+     * 
+     * Expectativa: Estudiante INACTIVE y ninguna lectura por findById
+     */
+    @Test
+    @DisplayName("Debería leer sin cache el estudiante que va a desactivar")
+    void shouldDeactivateStudent_ReadingWithoutCache() {
+        // Given - Preparación
+        when(studentRepository.findByIdForUpdate("student-123")).thenReturn(Mono.just(testStudent));
+        when(studentRepository.save(any(Student.class)))
+            .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(institutionStatistics.studentStatusChanged(institutionId, Status.ACTIVE, Status.INACTIVE))
+            .thenReturn(Mono.empty());
+        when(institutionVersions.bump(institutionId)).thenReturn(Mono.empty());
+
+        // When & Then - Ejecución y verificación
+        StepVerifier.create(studentService.deactivateStudent("student-123", institutionId))
+            .assertNext(response -> assertEquals(Status.INACTIVE, response.getStatus()))
+            .verifyComplete();
+
+        verify(studentRepository, never()).findById(any());
+        verify(institutionStatistics).studentStatusChanged(institutionId, Status.ACTIVE, Status.INACTIVE);
     }
 
     /**
@@ -242,4 +300,227 @@ class StudentServiceImplTest {
             .expectNext(false)
             .verifyComplete();
     }
+
+    /**
+     * Prueba: Estudiantes sin matrícula activa
+     * 
+     * Verifica que el servicio resuelva los estudiantes no matriculados y su conteo
+     * con la consulta de anti-join del repositorio, sin consultar matrículas por estudiante.
+     * 
+     * Expectativa: Retorna los estudiantes y el conteo que entrega el repositorio
+     */
+    @Test
+    @DisplayName("Debería obtener estudiantes no matriculados con una sola consulta")
+    void shouldGetUnenrolledStudents_UsingSingleAntiJoinQuery() {
+        // Given - Preparación
+        when(studentRepository.findUnenrolledByInstitutionId(eq(institutionId)))
+            .thenReturn(Flux.just(testStudent));
+        when(studentRepository.countUnenrolledByInstitutionId(eq(institutionId)))
+            .thenReturn(Mono.just(1L));
+
+        // When & Then - Listado
+        StepVerifier.create(studentService.getUnenrolledStudents(institutionId))
+            .assertNext(response -> assertEquals(testStudent.getId(), response.getId()))
+            .verifyComplete();
+
+        // When & Then - Conteo
+        StepVerifier.create(studentService.countUnenrolledStudents(institutionId))
+            .expectNext(1L)
+            .verifyComplete();
+
+        verifyNoInteractions(studentEnrollmentRepository);
+    }
+
+    /**
+     * Prueba: Carga masiva de estudiantes
+     * 
+     * Verifica que la carga masiva:
+     * - Rechace en memoria los documentos repetidos dentro de la misma petición
+     * - Rechace los documentos existentes con una sola consulta al repositorio
+     * - Inserte el resto con un insertMany por lote
+     * 
+     * Expectativa: Un estudiante creado y dos errores con el índice de la petición
+     */
+    @Test
+    @DisplayName("Debería crear estudiantes en lote reportando duplicados por índice")
+    void shouldCreateStudentsBulk_ReportingDuplicatesByIndex() {
+        // Given - Preparación
+        CreateStudentRequest existingRequest = new CreateStudentRequest();
+        existingRequest.setFirstName("Ana");
+        existingRequest.setLastName("Torres");
+        existingRequest.setDocumentNumber("87654321");
+        List<CreateStudentRequest> requests = List.of(createRequest, createRequest, existingRequest);
+
+        when(studentRepository.findExistingDocumentNumbers(eq(institutionId), any()))
+            .thenReturn(Flux.just("87654321"));
+        when(studentRepository.insertAllUnordered(any()))
+            .thenReturn(Mono.just(new BulkInsertResult(1, Map.of())));
+        when(institutionStatistics.studentsCreated(eq(institutionId), any()))
+            .thenReturn(Mono.empty());
+        when(institutionVersions.bump(institutionId)).thenReturn(Mono.empty());
+
+        // When & Then - Ejecución y verificación
+        StepVerifier.create(studentService.createStudentsBulk(requests, institutionId, false))
+            .assertNext(result -> {
+                assertEquals(3, result.totalRequested());
+                assertEquals(1, result.successfullyCreated());
+                assertEquals(2, result.errors());
+                assertEquals(1, result.failures().get(0).index());
+                assertEquals(2, result.failures().get(1).index());
+                assertEquals(1, result.students().size());
+            })
+            .verifyComplete();
+
+        verify(studentRepository, never()).findByDocumentNumberAndInstitutionId(any(), any());
+        // Un solo $inc con los estudiantes efectivamente insertados
+        verify(institutionStatistics).studentsCreated(eq(institutionId), argThat(students -> students.size() == 1));
+    }
+
+    /**
+     * Prueba: Carga masiva en modo resumen
+     * 
+     * Verifica que con summaryOnly la respuesta conserve los contadores
+     * pero no incluya la lista de estudiantes creados
+     * 
+     * Expectativa: Dos estudiantes creados y lista de estudiantes nula
+     */
+    @Test
+    @DisplayName("Debería omitir los estudiantes creados cuando se pide solo el resumen")
+    void shouldCreateStudentsBulk_SummaryOnly() {
+        // Given - Preparación
+        CreateStudentRequest secondRequest = new CreateStudentRequest();
+        secondRequest.setFirstName("Ana");
+        secondRequest.setLastName("Torres");
+        secondRequest.setDocumentNumber("87654321");
+        List<CreateStudentRequest> requests = List.of(createRequest, secondRequest);
+
+        when(studentRepository.findExistingDocumentNumbers(eq(institutionId), any()))
+            .thenReturn(Flux.empty());
+        when(studentRepository.insertAllUnordered(any()))
+            .thenReturn(Mono.just(new BulkInsertResult(2, Map.of())));
+        when(institutionStatistics.studentsCreated(eq(institutionId), any()))
+            .thenReturn(Mono.empty());
+        when(institutionVersions.bump(institutionId)).thenReturn(Mono.empty());
+
+        // When & Then - Ejecución y verificación
+        StepVerifier.create(studentService.createStudentsBulk(requests, institutionId, true))
+            .assertNext(result -> {
+                assertEquals(2, result.successfullyCreated());
+                assertEquals(0, result.errors());
+                assertNull(result.students());
+            })
+            .verifyComplete();
+    }
+
+    /**
+     * Prueba: Página de estudiantes con un tamaño mayor al permitido
+     * 
+     * Verifica que la paginación por cursor:
+     * - Limite el tamaño pedido a MAX_PAGE_SIZE y consulte un elemento extra
+     * - Use el elemento extra solo para indicar hasMore
+     * - Devuelva como nextCursor el último id de la página
+     * 
+     * Expectativa: 500 estudiantes, hasMore y cursor al estudiante 500
+     */
+    @Test
+    @DisplayName("Debería limitar el tamaño de página y calcular el siguiente cursor")
+    void shouldCapPageSize_AndBuildNextCursor() {
+        // Given - Preparación
+        int limit = CursorUtils.MAX_PAGE_SIZE + 1;
+        when(studentRepository.findByInstitutionIdAfter(institutionId, "student-000", limit))
+            .thenReturn(Flux.fromStream(IntStream.rangeClosed(1, limit).mapToObj(this::pagedStudent)));
+
+        // When & Then - Ejecución y verificación
+        StepVerifier.create(studentService.getStudentsByInstitutionPage(institutionId, CursorUtils.encode("student-000"), 10_000))
+            .assertNext(page -> {
+                assertEquals(CursorUtils.MAX_PAGE_SIZE, page.getItems().size());
+                assertTrue(page.isHasMore());
+                assertEquals("student-500", CursorUtils.decode(page.getNextCursor()));
+                assertEquals(true, page.toExtraData().get("hasMore"));
+                assertEquals(page.getNextCursor(), page.toExtraData().get("nextCursor"));
+                assertEquals(CursorUtils.MAX_PAGE_SIZE, page.toExtraData().get("size"));
+            })
+            .verifyComplete();
+    }
+
+    /**
+     * Prueba: Última página de estudiantes
+     * 
+     * Verifica que sin el elemento extra la página indique que no hay más
+     * y no devuelva cursor siguiente
+     * 
+     * Expectativa: hasMore false y nextCursor nulo en extraData
+     */
+    @Test
+    @DisplayName("Debería indicar la última página sin cursor siguiente")
+    void shouldReturnLastPage_WithoutNextCursor() {
+        // Given - Preparación
+        when(studentRepository.findByInstitutionIdAfter(institutionId, null, CursorUtils.DEFAULT_PAGE_SIZE + 1))
+            .thenReturn(Flux.just(testStudent));
+
+        // When & Then - Ejecución y verificación
+        StepVerifier.create(studentService.getStudentsByInstitutionPage(institutionId, null, null))
+            .assertNext(page -> {
+                assertEquals(1, page.getItems().size());
+                assertEquals(false, page.toExtraData().get("hasMore"));
+                assertTrue(page.toExtraData().containsKey("nextCursor"));
+                assertNull(page.toExtraData().get("nextCursor"));
+            })
+            .verifyComplete();
+    }
+
+    /**
+     * Prueba: Cursor de paginación inválido
+     * 
+     * Verifica que un cursor alterado se rechace con IllegalArgumentException
+     * (400 en GlobalExceptionHandler) sin consultar el repositorio
+     * 
+     * Expectativa: Error "Invalid pagination cursor"
+     */
+    @Test
+    @DisplayName("Debería rechazar un cursor inválido sin consultar el repositorio")
+    void shouldRejectInvalidCursor() {
+        // When & Then - Ejecución y verificación (como en el controlador, dentro de Mono.defer)
+        StepVerifier.create(Mono.defer(() -> studentService.getStudentsByInstitutionPage(institutionId, "not-a-cursor", 10)))
+            .expectErrorSatisfies(error -> {
+                assertInstanceOf(IllegalArgumentException.class, error);
+                assertEquals("Invalid pagination cursor", error.getMessage());
+            })
+            .verify();
+
+        verifyNoInteractions(studentRepository);
+    }
+
+    /**
+     * Prueba: Búsqueda sin limit ni fuzzy
+     * 
+     * Verifica que sin parámetros opcionales la búsqueda conserve el contrato
+     * original: todas las coincidencias por subcadena, sin recorte ni aproximadas
+     * 
+     * Expectativa: El motor recibe UNLIMITED y fuzzy false; limit se acota a MAX_LIMIT
+     */
+    @Test
+    @DisplayName("Debería buscar sin recortar resultados cuando no se envía limit")
+    void shouldSearchWithoutLimit_WhenLimitIsMissing() {
+        // Given - Preparación
+        when(searchIndex.search("juan", institutionId, SearchTextUtils.UNLIMITED, false))
+            .thenReturn(Flux.just(testStudent));
+        when(searchIndex.search("juan", institutionId, SearchTextUtils.MAX_LIMIT, true))
+            .thenReturn(Flux.empty());
+
+        // When & Then - Ejecución y verificación
+        StepVerifier.create(studentService.searchStudents("juan", institutionId, null, false))
+            .assertNext(response -> assertEquals(testStudent.getId(), response.getId()))
+            .verifyComplete();
+        StepVerifier.create(studentService.searchStudents("juan", institutionId, 1_000, true))
+            .verifyComplete();
+    }
+
+    private Student pagedStudent(int index) {
+        Student student = new Student();
+        student.setId(String.format("student-%03d", index));
+        student.setInstitutionId(institutionId);
+        student.setStatus(Status.ACTIVE);
+        return student;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import pe.edu.vallegrande.msvstudents.domain.model.Student;
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.ApiResponse;
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.StudentResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para NativeHintsConfig
+ *
+ * Verifican que los DTOs descubiertos por escaneo, las entidades de Mongo
+ * y el escritor PNG de ImageIO queden registrados para la imagen nativa.
+ */
+@DisplayName("NativeHintsConfig - Pruebas Unitarias")
+class NativeHintsConfigTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new NativeHintsConfig.ApplicationRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("Debería registrar los DTOs y sus builders para Jackson")
+    void shouldRegisterDtosForBinding() throws Exception {
+        // Then - Verificación
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(ApiResponse.class.getMethod("getData")).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(StudentResponse.class.getMethod("getFirstName")).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(StudentResponse.StudentResponseBuilder.class).test(hints));
+    }
+
+    @Test
+    @DisplayName("Debería registrar las entidades de Mongo y el escritor PNG")
+    void shouldRegisterEntitiesAndImageIo() throws Exception {
+        // Then - Verificación
+        assertTrue(RuntimeHintsPredicates.reflection().onField(Student.class.getDeclaredField("documentNumber")).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("com.sun.imageio.plugins.png.PNGImageWriterSpi")).test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource("META-INF/services/javax.imageio.spi.ImageWriterSpi").test(hints));
+    }
+}
@@ -0,0 +1,111 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import pe.edu.vallegrande.msvstudents.domain.model.Student;
+import pe.edu.vallegrande.msvstudents.infrastructure.repository.StudentRepository;
+import pe.edu.vallegrande.msvstudents.infrastructure.repository.impl.CachingStudentRepository;
+import pe.edu.vallegrande.msvstudents.infrastructure.repository.impl.InMemoryDataStore;
+import pe.edu.vallegrande.msvstudents.infrastructure.repository.impl.InMemoryStudentRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pruebas unitarias para ReactiveMetricsAspect
+ *
+ * Verifican que los métodos reactivos de repositorio se midan al suscribirse,
+ * con la etiqueta de nivel de institución y el conteo de documentos emitidos, y que
+ * el decorador CachingStudentRepository no duplique las mediciones de su delegado.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveMetricsAspect - Pruebas Unitarias")
+class ReactiveMetricsAspectTest {
+
+    @Mock
+    private StudentRepository delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ReactiveMetricsAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        InstitutionTierResolver tierResolver = new InstitutionTierResolver();
+        tierResolver.setInstitutionTiers(Map.of("inst-123", "large"));
+        aspect = new ReactiveMetricsAspect(meterRegistry, tierResolver);
+    }
+
+    private StudentRepository proxy(StudentRepository target) {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.addAspect(aspect);
+        return proxyFactory.getProxy();
+    }
+
+    private static Student student(String id) {
+        Student student = new Student();
+        student.setId(id);
+        student.setInstitutionId("inst-123");
+        student.setDocumentNumber(id);
+        return student;
+    }
+
+    @Test
+    @DisplayName("Debería medir la consulta y contar los documentos emitidos")
+    void shouldTimeQueryAndCountDocuments() {
+        // Given - Preparación
+        InMemoryStudentRepository target = new InMemoryStudentRepository(new InMemoryDataStore(Duration.ZERO, Duration.ZERO));
+        Flux.just(student("student-1"), student("student-2"), student("student-3"))
+            .concatMap(target::save)
+            .blockLast();
+        StudentRepository repository = proxy(target);
+
+        // When - Ensamblar sin suscribirse no registra nada
+        Flux<Student> students = repository.findByInstitutionId("inst-123");
+        assertNull(meterRegistry.find(ReactiveMetricsAspect.METHOD_TIMER).timer());
+
+        // Then - Al consumir se registra la duración y los documentos
+        StepVerifier.create(students).expectNextCount(3).verifyComplete();
+        assertEquals(1, meterRegistry.get(ReactiveMetricsAspect.METHOD_TIMER)
+            .tag("layer", "repository")
+            .tag("operation", "InMemoryStudentRepository.findByInstitutionId")
+            .tag("tier", "large")
+            .tag("outcome", "success")
+            .timer().count());
+        assertEquals(3.0, meterRegistry.get(ReactiveMetricsAspect.DOCUMENTS_COUNTER)
+            .tag("operation", "InMemoryStudentRepository.findByInstitutionId")
+            .counter().count());
+    }
+
+    @Test
+    @DisplayName("No debería medir el decorador de cache sobre el repositorio")
+    void shouldNotTimeCachingDecorator() {
+        // Given - Preparación
+        when(delegate.findById(eq("student-1"))).thenReturn(Mono.just(student("student-1")));
+        when(delegate.findByInstitutionId(eq("inst-123"))).thenReturn(Flux.just(student("student-1")));
+        StudentRepository repository = proxy(new CachingStudentRepository(delegate, meterRegistry, Duration.ofMinutes(5), 100));
+
+        // When - Ejecución
+        StepVerifier.create(repository.findById("student-1")).expectNextCount(1).verifyComplete();
+        StepVerifier.create(repository.findByInstitutionId("inst-123")).expectNextCount(1).verifyComplete();
+
+        // Then - Ni la consulta ni los documentos se registran en las series del aspecto
+        assertNull(meterRegistry.find(ReactiveMetricsAspect.METHOD_TIMER).timer());
+        assertNull(meterRegistry.find(ReactiveMetricsAspect.DOCUMENTS_COUNTER).counter());
+        assertEquals(1, meterRegistry.get("students.by-id.lookup").tag("result", "miss").timer().count());
+    }
+}
@@ -0,0 +1,122 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.repository.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pe.edu.vallegrande.msvstudents.domain.enums.Status;
+import pe.edu.vallegrande.msvstudents.domain.model.Student;
+import pe.edu.vallegrande.msvstudents.infrastructure.repository.StudentRepository;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pruebas unitarias para CachingStudentRepository
+ *
+ * Verifican que findById se sirva desde cache, que las lecturas concurrentes
+ * del mismo id compartan una sola consulta, que save invalide la entrada y
+ * que findByIdForUpdate nunca use la cache.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingStudentRepository - Pruebas Unitarias")
+class CachingStudentRepositoryTest {
+
+    @Mock
+    private StudentRepository delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CachingStudentRepository repository;
+
+    private Student student;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        repository = new CachingStudentRepository(delegate, meterRegistry, Duration.ofMinutes(5), 100);
+
+        student = new Student();
+        student.setId("student-123");
+        student.setFirstName("Juan");
+    }
+
+    @Test
+    @DisplayName("Debería compartir una sola consulta entre lecturas concurrentes del mismo id")
+    void shouldCoalesceConcurrentMisses() {
+        // Given - La consulta a Mongo queda pendiente hasta emitir
+        Sinks.One<Student> pending = Sinks.one();
+        when(delegate.findById(eq("student-123"))).thenReturn(pending.asMono());
+
+        // When & Then - Dos lecturas en paralelo antes de que llegue el resultado
+        StepVerifier.create(Mono.zip(repository.findById("student-123"), repository.findById("student-123")))
+            .then(() -> pending.tryEmitValue(student))
+            .assertNext(both -> {
+                assertEquals("Juan", both.getT1().getFirstName());
+                assertEquals("Juan", both.getT2().getFirstName());
+            })
+            .verifyComplete();
+
+        // When & Then - La tercera lectura se sirve desde cache
+        StepVerifier.create(repository.findById("student-123"))
+            .expectNextCount(1)
+            .verifyComplete();
+
+        verify(delegate, times(1)).findById("student-123");
+        assertEquals(2.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        // Las dos lecturas que esperaron a Mongo se miden aparte de la servida desde cache
+        assertEquals(2, meterRegistry.get(CachingStudentRepository.LOOKUP_TIMER).tag("result", "miss").timer().count());
+        assertEquals(1, meterRegistry.get(CachingStudentRepository.LOOKUP_TIMER).tag("result", "hit").timer().count());
+    }
+
+    @Test
+    @DisplayName("Debería invalidar la entrada al guardar y no exponer la instancia cacheada")
+    void shouldInvalidateOnSave() {
+        // Given - Preparación
+        when(delegate.findById(eq("student-123"))).thenReturn(Mono.just(student));
+        when(delegate.save(any(Student.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        // When - Se modifica la copia leída y se guarda
+        Student loaded = repository.findById("student-123").block();
+        loaded.setFirstName("Pedro");
+        StepVerifier.create(repository.save(loaded)).expectNextCount(1).verifyComplete();
+
+        // Then - La siguiente lectura vuelve a consultar el repositorio
+        StepVerifier.create(repository.findById("student-123")).expectNextCount(1).verifyComplete();
+        verify(delegate, times(2)).findById("student-123");
+        assertEquals("Juan", student.getFirstName());
+    }
+
+    @Test
+    @DisplayName("Debería leer siempre desde Mongo para modificar y guardar")
+    void shouldBypassCache_WhenReadingForUpdate() {
+        // Given - Una copia ya cacheada y otra réplica que desactivó al estudiante
+        when(delegate.findById(eq("student-123"))).thenReturn(Mono.just(student));
+        repository.findById("student-123").block();
+        Student current = new Student();
+        current.setId("student-123");
+        current.setFirstName("Juan");
+        current.setStatus(Status.INACTIVE);
+        when(delegate.findByIdForUpdate(eq("student-123"))).thenReturn(Mono.just(current));
+
+        // When & Then - Ejecución y verificación
+        StepVerifier.create(repository.findByIdForUpdate("student-123"))
+            .assertNext(loaded -> assertEquals(Status.INACTIVE, loaded.getStatus()))
+            .verifyComplete();
+
+        verify(delegate, times(1)).findById("student-123");
+        verify(delegate, times(1)).findByIdForUpdate("student-123");
+    }
+}
@@ -0,0 +1,120 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.repository.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import pe.edu.vallegrande.msvstudents.domain.enums.EnrollmentStatus;
+import pe.edu.vallegrande.msvstudents.domain.enums.Status;
+import pe.edu.vallegrande.msvstudents.domain.model.Student;
+import pe.edu.vallegrande.msvstudents.domain.model.StudentEnrollment;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para InMemoryStudentRepository
+ *
+ * Verifican que el almacén en memoria respete las mismas reglas que Mongo:
+ * índice único por documento, paginación por cursor, anti-join de matrículas
+ * y escritura aislada del campo sombra search_terms.
+ */
+@DisplayName("InMemoryStudentRepository - Pruebas Unitarias")
+class InMemoryStudentRepositoryTest {
+
+    private static final String INSTITUTION_ID = "inst-123";
+
+    private InMemoryDataStore store;
+    private InMemoryStudentRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryDataStore(Duration.ZERO, Duration.ZERO);
+        repository = new InMemoryStudentRepository(store);
+    }
+
+    @Test
+    @DisplayName("Debería rechazar documentos duplicados en la carga masiva y al guardar")
+    void shouldEnforceUniqueDocumentNumber() {
+        // Given - Preparación
+        List<Student> batch = List.of(student("s-1", "78901234"), student("s-2", "78901234"), student("s-3", "78901235"));
+
+        // When / Then - Ejecución y verificación
+        StepVerifier.create(repository.insertAllUnordered(batch))
+            .assertNext(result -> {
+                assertEquals(2, result.getInsertedCount());
+                assertTrue(result.isFailed(1));
+                assertTrue(result.getFailures().get(1).startsWith("Duplicate key"));
+            })
+            .verifyComplete();
+
+        StepVerifier.create(repository.save(student("s-4", "78901235")))
+            .expectError(DuplicateKeyException.class)
+            .verify();
+
+        StepVerifier.create(repository.findByDocumentNumberAndInstitutionId("78901234", INSTITUTION_ID))
+            .assertNext(student -> assertEquals("s-1", student.getId()))
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debería paginar por cursor y excluir estudiantes con matrícula activa")
+    void shouldPageByIdAndFindUnenrolled() {
+        // Given - Preparación
+        repository.insertAllUnordered(List.of(student("s-1", "1"), student("s-2", "2"), student("s-3", "3"))).block();
+        StudentEnrollment enrollment = new StudentEnrollment();
+        enrollment.setId("e-1");
+        enrollment.setStudentId("s-2");
+        enrollment.setClassroomId("classroom-1");
+        enrollment.setInstitutionId(INSTITUTION_ID);
+        enrollment.setStatus(EnrollmentStatus.ACTIVE);
+        store.saveEnrollment(enrollment);
+
+        // When / Then - Ejecución y verificación
+        StepVerifier.create(repository.findByInstitutionIdAfter(INSTITUTION_ID, "s-1", 1).map(Student::getId))
+            .expectNext("s-2")
+            .verifyComplete();
+
+        StepVerifier.create(repository.findUnenrolledByInstitutionId(INSTITUTION_ID).map(Student::getId))
+            .expectNext("s-1", "s-3")
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debería completar search_terms sin pisar una escritura posterior a la lectura")
+    void shouldSetSearchTermsOnly_WhenMissing() {
+        // Given - Preparación: el backfill lee el estudiante y otra escritura lo desactiva
+        repository.save(student("s-1", "78901234")).block();
+        Student stale = repository.findWithoutSearchTerms(10).blockFirst();
+        Student deactivated = student("s-1", "78901234");
+        deactivated.setStatus(Status.INACTIVE);
+        repository.save(deactivated).block();
+
+        // When / Then - Ejecución y verificación
+        StepVerifier.create(repository.setSearchTermsIfMissing(stale.getId(), List.of("78901234")))
+            .expectNext(true)
+            .verifyComplete();
+        StepVerifier.create(repository.setSearchTermsIfMissing(stale.getId(), List.of("otro")))
+            .expectNext(false)
+            .verifyComplete();
+
+        StepVerifier.create(repository.findById("s-1"))
+            .assertNext(student -> {
+                assertEquals(Status.INACTIVE, student.getStatus());
+                assertEquals(List.of("78901234"), student.getSearchTerms());
+            })
+            .verifyComplete();
+    }
+
+    private static Student student(String id, String documentNumber) {
+        Student student = new Student();
+        student.setId(id);
+        student.setInstitutionId(INSTITUTION_ID);
+        student.setDocumentNumber(documentNumber);
+        student.setStatus(Status.ACTIVE);
+        return student;
+    }
+}
@@ -0,0 +1,164 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.repository.impl;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import org.springframework.test.util.ReflectionTestUtils;
+import pe.edu.vallegrande.msvstudents.application.service.InstitutionStatisticsService;
+import pe.edu.vallegrande.msvstudents.application.service.InstitutionVersionService;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pruebas unitarias para MongoDataSeeder
+ *
+ * Verifican que la siembra use upserts por _id con $setOnInsert en lotes
+ * y que una segunda ejecución no inserte nada.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MongoDataSeeder - Pruebas Unitarias")
+class MongoDataSeederTest {
+
+    @Mock
+    private ReactiveMongoTemplate mongoTemplate;
+
+    @Mock
+    private ReactiveBulkOperations bulkOperations;
+
+    @Mock
+    private InstitutionVersionService institutionVersions;
+
+    @Mock
+    private InstitutionStatisticsService institutionStatistics;
+
+    private MongoDataSeeder seeder;
+
+    // Upserts del lote en curso y si el servidor ya tiene los documentos
+    private final AtomicInteger pendingUpserts = new AtomicInteger();
+    private boolean alreadySeeded;
+
+    @BeforeEach
+    void setUp() {
+        // Mismo mapeo que en la aplicación (LocalDate, LocalDateTime como tipos simples)
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        when(mongoTemplate.getConverter()).thenReturn(converter);
+        when(mongoTemplate.bulkOps(eq(BulkOperations.BulkMode.UNORDERED), any(Class.class))).thenReturn(bulkOperations);
+        when(bulkOperations.upsert(any(Query.class), any(UpdateDefinition.class))).thenAnswer(invocation -> {
+            pendingUpserts.incrementAndGet();
+            return bulkOperations;
+        });
+        when(bulkOperations.execute()).thenAnswer(invocation -> {
+            int upserts = pendingUpserts.getAndSet(0);
+            List<BulkWriteUpsert> inserted = alreadySeeded ? List.of()
+                    : IntStream.range(0, upserts).mapToObj(index -> new BulkWriteUpsert(index, new BsonString("id"))).toList();
+            return Mono.just(BulkWriteResult.acknowledged(0, upserts - inserted.size(), 0, 0, inserted, List.of()));
+        });
+
+        when(institutionStatistics.reconcile(any())).thenReturn(Mono.just(true));
+        when(institutionVersions.bump(any())).thenReturn(Mono.empty());
+
+        seeder = new MongoDataSeeder(mongoTemplate, institutionVersions, institutionStatistics);
+        ReflectionTestUtils.setField(seeder, "dataset", "synthetic");
+        ReflectionTestUtils.setField(seeder, "institutions", 2);
+        ReflectionTestUtils.setField(seeder, "studentsPerInstitution", 5);
+        ReflectionTestUtils.setField(seeder, "enrollmentsPerStudent", 2);
+        ReflectionTestUtils.setField(seeder, "batchSize", 2);
+    }
+
+    @Test
+    @DisplayName("Debería insertar en lotes con upserts por _id y $setOnInsert")
+    void shouldUpsertInBatches() {
+        // When - Ejecución
+        StepVerifier.create(seeder.seed())
+                .assertNext(result -> {
+                    // Then - Verificación
+                    assertEquals(new MongoDataSeeder.SeedResult(10, 10, 20, 20), result);
+                })
+                .verifyComplete();
+
+        // 2 instituciones: 5 estudiantes en 3 lotes y 10 matrículas en 5 lotes
+        verify(bulkOperations, times(16)).execute();
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<UpdateDefinition> update = ArgumentCaptor.forClass(UpdateDefinition.class);
+        verify(bulkOperations, atLeastOnce()).upsert(query.capture(), update.capture());
+        assertEquals(Set.of("_id"), query.getValue().getQueryObject().keySet());
+        assertEquals(Set.of("$setOnInsert"), ((Update) update.getValue()).getUpdateObject().keySet());
+        verify(institutionVersions, times(2)).bump(any());
+        verify(institutionStatistics, times(2)).reconcile(any());
+    }
+
+    @Test
+    @DisplayName("No debería insertar nada si los documentos ya existen")
+    void shouldBeIdempotent() {
+        // Given - Preparación
+        alreadySeeded = true;
+
+        // When - Ejecución
+        StepVerifier.create(seeder.seed())
+                .assertNext(result -> {
+                    // Then - Verificación
+                    assertEquals(new MongoDataSeeder.SeedResult(10, 0, 20, 0), result);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debería sembrar las matrículas demo con el token QR compacto y reproducible")
+    void shouldSeedDemoEnrollments_WithCompactQrToken() {
+        // Given - Preparación
+        ReflectionTestUtils.setField(seeder, "dataset", "demo");
+
+        // When - Ejecución: dos siembras para comparar los tokens
+        seeder.seed().block();
+        seeder.seed().block();
+
+        // Then - Verificación
+        ArgumentCaptor<UpdateDefinition> update = ArgumentCaptor.forClass(UpdateDefinition.class);
+        verify(bulkOperations, atLeastOnce()).upsert(any(Query.class), update.capture());
+        List<String> qrCodes = update.getAllValues().stream()
+                .map(definition -> ((Update) definition).getUpdateObject().get("$setOnInsert", Document.class))
+                .filter(document -> document.containsKey("qr_code"))
+                .map(document -> document.getString("qr_code"))
+                .toList();
+        assertEquals(4, qrCodes.size());
+        assertTrue(qrCodes.stream().allMatch(qrCode -> qrCode.matches("[0-9a-f]{32}")), qrCodes::toString);
+        assertEquals(qrCodes.subList(0, 2), qrCodes.subList(2, 4));
+        assertNotEquals(qrCodes.get(0), qrCodes.get(1));
+    }
+}
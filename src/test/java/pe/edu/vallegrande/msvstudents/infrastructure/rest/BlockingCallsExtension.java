@@ -0,0 +1,30 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.rest;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import pe.edu.vallegrande.msvstudents.infrastructure.metrics.BlockingCallDetector;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Falla la prueba si durante su ejecución se detectó alguna llamada bloqueante,
+ * aunque el controlador haya convertido el error en una respuesta HTTP.
+ * Sin el perfil blocking-check el detector no se instala y el contador no cambia.
+ */
+public class BlockingCallsExtension implements BeforeEachCallback, AfterEachCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(BlockingCallsExtension.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        context.getStore(NAMESPACE).put("detected", BlockingCallDetector.detectedCount());
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        long before = context.getStore(NAMESPACE).get("detected", Long.class);
+        assertEquals(before, BlockingCallDetector.detectedCount(),
+                "Llamadas bloqueantes detectadas en hilos no bloqueantes (ver logger reactor.blocking)");
+    }
+}
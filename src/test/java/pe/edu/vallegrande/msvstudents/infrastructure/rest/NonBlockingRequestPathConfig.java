@@ -0,0 +1,34 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.rest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.web.server.WebFilter;
+import pe.edu.vallegrande.msvstudents.infrastructure.metrics.BlockingCallDetector;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Configuración de pruebas del perfil blocking-check (mvn test -Pblocking-check).
+ *
+ * WebTestClient ejecuta los controladores en el hilo de la prueba, que sí puede bloquear;
+ * este filtro mueve cada solicitud a un hilo no bloqueante para que BlockHound la vigile
+ * igual que al event loop de Netty.
+ */
+@TestConfiguration
+@ConditionalOnProperty(name = "blocking-detector.enabled", havingValue = "true")
+@Import(BlockingCallDetector.class)
+public class NonBlockingRequestPathConfig {
+
+    @Bean
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
+    @Bean
+    public WebFilter nonBlockingRequestPath() {
+        return (exchange, chain) -> chain.filter(exchange).subscribeOn(Schedulers.parallel());
+    }
+}
@@ -4,30 +4,43 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import pe.edu.vallegrande.msvstudents.application.service.InstitutionVersionService;
 import pe.edu.vallegrande.msvstudents.application.service.StudentService;
 import pe.edu.vallegrande.msvstudents.domain.enums.DocumentType;
 import pe.edu.vallegrande.msvstudents.domain.enums.Gender;
 import pe.edu.vallegrande.msvstudents.domain.enums.Status;
+import pe.edu.vallegrande.msvstudents.domain.model.InstitutionVersion;
 import pe.edu.vallegrande.msvstudents.infrastructure.dto.request.CreateStudentRequest;
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.CursorPage;
 import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.StudentResponse;
+import pe.edu.vallegrande.msvstudents.infrastructure.config.JacksonConfig;
+import pe.edu.vallegrande.msvstudents.infrastructure.config.WebConfig;
 import pe.edu.vallegrande.msvstudents.infrastructure.exception.GlobalExceptionHandler;
 import pe.edu.vallegrande.msvstudents.infrastructure.exception.ResourceNotFoundException;
+import pe.edu.vallegrande.msvstudents.infrastructure.util.CursorUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsString;
 
 /**
@@ -37,11 +50,13 @@ import static org.hamcrest.Matchers.containsString;
  * de los endpoints REST del controlador de estudiantes, incluyendo:
  * - Validación de headers de seguridad
  * - Creación de estudiantes
- * - Consulta de estudiantes
+ * - Consulta de estudiantes (completa y paginada por cursor)
  * - Manejo de errores HTTP
  */
 @WebFluxTest(StudentController.class)
-@ContextConfiguration(classes = {StudentController.class, GlobalExceptionHandler.class})
+@ContextConfiguration(classes = {StudentController.class, GlobalExceptionHandler.class, WebConfig.class, JacksonConfig.class})
+@Import(NonBlockingRequestPathConfig.class)
+@ExtendWith(BlockingCallsExtension.class)
 @DisplayName("StudentController - Pruebas de Integración")
 class StudentControllerTest {
 
@@ -51,6 +66,12 @@ class StudentControllerTest {
     @MockBean
     private StudentService studentService;
 
+    @MockBean
+    private InstitutionVersionService institutionVersions;
+
+    private final InstitutionVersion institutionVersion =
+        new InstitutionVersion("W/\"test-1\"", Instant.parse("2024-03-01T10:15:30Z"));
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -67,6 +88,7 @@ class StudentControllerTest {
     void setUp() {
         institutionId = "inst-123";
         userId = "user-456";
+        when(institutionVersions.current(institutionId)).thenReturn(Mono.just(institutionVersion));
 
         // Configuración de la solicitud de creación válida
         validCreateRequest = new CreateStudentRequest();
@@ -219,6 +241,8 @@ class StudentControllerTest {
             .header("X-Institution-Id", institutionId)
             .exchange()
             .expectStatus().isOk()
+            .expectHeader().valueEquals("ETag", institutionVersion.etag())
+            .expectHeader().lastModified(institutionVersion.lastModified().toEpochMilli())
             .expectBody()
             .jsonPath("$.message").isEqualTo("Students retrieved successfully")
             .jsonPath("$.data").isArray()
@@ -229,6 +253,42 @@ class StudentControllerTest {
             .jsonPath("$.data[1].firstName").isEqualTo(student2.getFirstName());
     }
 
+    /**
+     * Prueba: Formato de fechas en las respuestas
+     * 
+     * Verifica que los codecs HTTP (WebConfig) serialicen:
+     * - LocalDate como arreglo [año, mes, día]
+     * - LocalDateTime como arreglo [año, mes, día, hora, minuto, segundo]
+     * 
+     * Expectativa: El mismo formato que ya consumen los clientes, no cadenas ISO
+     */
+    @Test
+    @DisplayName("GET /secretary - Debería serializar las fechas como arreglos")
+    void shouldSerializeDatesAsArrays() {
+        // Given - Preparación
+        StudentResponse student = StudentResponse.builder()
+            .id("student-789")
+            .institutionId(institutionId)
+            .firstName("María")
+            .birthDate(LocalDate.of(2015, 3, 15))
+            .createdAt(LocalDateTime.of(2024, 3, 1, 8, 30, 15))
+            .build();
+        when(studentService.getStudentsByInstitution(eq(institutionId)))
+            .thenReturn(Flux.just(student));
+
+        // When & Then - Ejecución y verificación
+        webTestClient.get()
+            .uri("/api/v1/students/secretary")
+            .header("X-User-Id", userId)
+            .header("X-User-Roles", "SECRETARY")
+            .header("X-Institution-Id", institutionId)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.data[0].birthDate").value(contains(2015, 3, 15))
+            .jsonPath("$.data[0].createdAt").value(contains(2024, 3, 1, 8, 30, 15));
+    }
+
     /**
      * Prueba: Error por rol insuficiente
      * 
@@ -321,4 +381,123 @@ class StudentControllerTest {
             .exchange()
             .expectStatus().isBadRequest();
     }
-}
\ No newline at end of file
+
+    /**
+     * Prueba: Listado en streaming NDJSON
+     * 
+     * Verifica que el endpoint GET /api/v1/students/secretary:
+     * - Con Accept application/x-ndjson emita cada estudiante como una línea JSON
+     * - No envuelva la respuesta en ApiResponse
+     * 
+     * Expectativa: HTTP 200 con un elemento StudentResponse por línea
+     */
+    @Test
+    @DisplayName("GET /secretary - Debería transmitir estudiantes en NDJSON")
+    void shouldStreamStudentsAsNdjson_WhenRequested() {
+        // Given - Preparación
+        when(studentService.getStudentsByInstitution(eq(institutionId)))
+            .thenReturn(Flux.just(studentResponse, studentResponse));
+
+        // When & Then - Ejecución y verificación
+        webTestClient.get()
+            .uri("/api/v1/students/secretary")
+            .header("X-User-Id", userId)
+            .header("X-User-Roles", "SECRETARY")
+            .header("X-Institution-Id", institutionId)
+            .accept(MediaType.APPLICATION_NDJSON)
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+            .expectBodyList(StudentResponse.class)
+            .hasSize(2);
+    }
+
+    /**
+     * Prueba: GET condicional sin cambios
+     * 
+     * Verifica que el endpoint GET /api/v1/students/secretary:
+     * - Responda 304 si If-None-Match coincide con la versión de la institución
+     * - No consulte el servicio (ni Mongo) en ese caso
+     * 
+     * Expectativa: HTTP 304 sin cuerpo y con el mismo ETag
+     */
+    @Test
+    @DisplayName("GET /secretary - Debería responder 304 si la institución no cambió")
+    void shouldAnswerNotModified_WhenEtagMatches() {
+        // When & Then - Ejecución y verificación
+        webTestClient.get()
+            .uri("/api/v1/students/secretary")
+            .header("X-User-Id", userId)
+            .header("X-User-Roles", "SECRETARY")
+            .header("X-Institution-Id", institutionId)
+            .ifNoneMatch(institutionVersion.etag())
+            .exchange()
+            .expectStatus().isNotModified()
+            .expectHeader().valueEquals("ETag", institutionVersion.etag())
+            .expectBody().isEmpty();
+
+        verifyNoInteractions(studentService);
+    }
+
+    /**
+     * Prueba: Listado paginado por cursor
+     * 
+     * Verifica que el endpoint GET /api/v1/students/secretary?size=1:
+     * - Devuelva solo los elementos de la página en data
+     * - Informe hasMore, nextCursor y size en extraData
+     * 
+     * Expectativa: HTTP 200 con hasMore true y el cursor al último id
+     */
+    @Test
+    @DisplayName("GET /secretary?size - Debería informar hasMore y nextCursor en extraData")
+    void shouldReturnCursorInExtraData_WhenPaged() {
+        // Given - Preparación: el servicio recibió size + 1 elementos
+        StudentResponse extra = StudentResponse.builder().id("student-999").institutionId(institutionId).build();
+        CursorPage<StudentResponse> page = CursorPage.of(List.of(studentResponse, extra), 1, StudentResponse::getId);
+        when(studentService.getStudentsByInstitutionPage(eq(institutionId), isNull(), eq(1)))
+            .thenReturn(Mono.just(page));
+
+        // When & Then - Ejecución y verificación
+        webTestClient.get()
+            .uri("/api/v1/students/secretary?size=1")
+            .header("X-User-Id", userId)
+            .header("X-User-Roles", "SECRETARY")
+            .header("X-Institution-Id", institutionId)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.data.length()").isEqualTo(1)
+            .jsonPath("$.data[0].id").isEqualTo(studentResponse.getId())
+            .jsonPath("$.extraData.hasMore").isEqualTo(true)
+            .jsonPath("$.extraData.nextCursor").isEqualTo(CursorUtils.encode(studentResponse.getId()))
+            .jsonPath("$.extraData.size").isEqualTo(1);
+    }
+
+    /**
+     * Prueba: Cursor de paginación inválido
+     * 
+     * Verifica que la IllegalArgumentException que lanza el servicio al
+     * decodificar el cursor se responda como error del cliente
+     * 
+     * Expectativa: HTTP 400 con el mensaje "Invalid pagination cursor"
+     */
+    @Test
+    @DisplayName("GET /secretary?cursor - Debería responder 400 con un cursor inválido")
+    void shouldAnswerBadRequest_WhenCursorIsInvalid() {
+        // Given - Preparación: el servicio decodifica el cursor al armar la consulta
+        when(studentService.getStudentsByInstitutionPage(eq(institutionId), eq("not-a-cursor"), isNull()))
+            .thenAnswer(invocation -> Mono.just(new CursorPage<StudentResponse>(
+                List.of(), CursorUtils.decode(invocation.getArgument(1)), false)));
+
+        // When & Then - Ejecución y verificación
+        webTestClient.get()
+            .uri("/api/v1/students/secretary?cursor=not-a-cursor")
+            .header("X-User-Id", userId)
+            .header("X-User-Roles", "SECRETARY")
+            .header("X-Institution-Id", institutionId)
+            .exchange()
+            .expectStatus().isBadRequest()
+            .expectBody()
+            .jsonPath("$.error").isEqualTo("Invalid pagination cursor");
+    }
+}
@@ -0,0 +1,124 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pe.edu.vallegrande.msvstudents.domain.model.Student;
+import pe.edu.vallegrande.msvstudents.infrastructure.repository.StudentRepository;
+import pe.edu.vallegrande.msvstudents.infrastructure.util.SearchTextUtils;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pruebas unitarias para InMemoryStudentSearchIndex
+ *
+ * Verifican que la búsqueda ignore tildes, ordene por relevancia, devuelva solo
+ * subcadenas salvo que se pida fuzzy, respete el límite y se actualice sin volver
+ * a leer la institución.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InMemoryStudentSearchIndex - Pruebas Unitarias")
+class InMemoryStudentSearchIndexTest {
+
+    private static final String INSTITUTION_ID = "inst-123";
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    private InMemoryStudentSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new InMemoryStudentSearchIndex(studentRepository, Duration.ofMinutes(10), 10);
+        when(studentRepository.findByInstitutionId(eq(INSTITUTION_ID)))
+            .thenReturn(Flux.just(
+                student("student-1", "Juan Carlos", "González Pérez", "78901234"),
+                student("student-2", "María Lucía", "Martínez López", "78901235"),
+                student("student-3", "Ana", "Rodríguez Gonzales", "78901236")
+            ));
+    }
+
+    @Test
+    @DisplayName("Debería encontrar sin tildes y priorizar coincidencias de prefijo")
+    void shouldMatchAccentFolded_RankingPrefixFirst() {
+        // When & Then - "gonzal" es prefijo en los dos apellidos; a igual puntaje, por apellido
+        StepVerifier.create(searchIndex.search("GONZAL", INSTITUTION_ID, 10, false))
+            .assertNext(found -> assertEquals("student-1", found.getId()))
+            .assertNext(found -> assertEquals("student-3", found.getId()))
+            .verifyComplete();
+
+        // When & Then - Prefijo de palabra antes que subcadena interna
+        StepVerifier.create(searchIndex.search("lu", INSTITUTION_ID, 10, false))
+            .assertNext(found -> assertEquals("student-2", found.getId()))
+            .verifyComplete();
+
+        // When & Then - Prefijo corto con límite
+        StepVerifier.create(searchIndex.search("MAR", INSTITUTION_ID, 1, false))
+            .assertNext(found -> assertEquals("student-2", found.getId()))
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debería devolver solo subcadenas, sin límite, cuando no se pide fuzzy")
+    void shouldReturnOnlySubstringMatches_WhenNotFuzzy() {
+        // When & Then - "gonzalez" no es subcadena de "Gonzales": sin fuzzy no aparece
+        StepVerifier.create(searchIndex.search("gonzalez", INSTITUTION_ID, SearchTextUtils.UNLIMITED, false))
+            .assertNext(found -> assertEquals("student-1", found.getId()))
+            .verifyComplete();
+
+        // When & Then - Subcadena interna y documento: todas las coincidencias, y solo ellas
+        List<Student> found = searchIndex.search("onza", INSTITUTION_ID, SearchTextUtils.UNLIMITED, false)
+            .collectList().block();
+        assertEquals(List.of("student-1", "student-3"), found.stream().map(Student::getId).toList());
+        List<Student> byDocument = searchIndex.search("7890123", INSTITUTION_ID, SearchTextUtils.UNLIMITED, false)
+            .collectList().block();
+        assertEquals(3, byDocument.size());
+        assertTrue(byDocument.stream().allMatch(student -> student.getDocumentNumber().contains("7890123")));
+    }
+
+    @Test
+    @DisplayName("Debería agregar coincidencias aproximadas solo cuando se pide fuzzy")
+    void shouldAddApproximateMatches_WhenFuzzy() {
+        // When & Then - "gonzalez" encuentra "González" antes que la coincidencia aproximada "Gonzales"
+        StepVerifier.create(searchIndex.search("gonzalez", INSTITUTION_ID, 10, true))
+            .assertNext(found -> assertEquals("student-1", found.getId()))
+            .assertNext(found -> assertEquals("student-3", found.getId()))
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debería actualizar el índice cargado sin volver a leer la institución")
+    void shouldUpdateIndexIncrementally() {
+        // Given - Índice ya cargado por una primera búsqueda
+        StepVerifier.create(searchIndex.search("juan", INSTITUTION_ID, 10, false)).expectNextCount(1).verifyComplete();
+
+        // When - Se registra un estudiante nuevo
+        searchIndex.index(student("student-4", "Juana", "Quispe", "78901237"));
+
+        // Then - Aparece en la búsqueda y la institución se leyó una sola vez
+        StepVerifier.create(searchIndex.search("juan", INSTITUTION_ID, 10, false)).expectNextCount(2).verifyComplete();
+        verify(studentRepository, times(1)).findByInstitutionId(INSTITUTION_ID);
+    }
+
+    private Student student(String id, String firstName, String lastName, String documentNumber) {
+        Student student = new Student();
+        student.setId(id);
+        student.setInstitutionId(INSTITUTION_ID);
+        student.setFirstName(firstName);
+        student.setLastName(lastName);
+        student.setDocumentNumber(documentNumber);
+        return student;
+    }
+}
@@ -0,0 +1,59 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pe.edu.vallegrande.msvstudents.domain.model.Student;
+import pe.edu.vallegrande.msvstudents.infrastructure.repository.StudentRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pruebas unitarias para MongoStudentSearchBackend
+ *
+ * Verifican que el backfill de search_terms escriba solo el campo sombra
+ * y nunca guarde el documento completo que leyó.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MongoStudentSearchBackend - Pruebas Unitarias")
+class MongoStudentSearchBackendTest {
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    @InjectMocks
+    private MongoStudentSearchBackend searchBackend;
+
+    @Test
+    @DisplayName("Debería completar search_terms con $set sin guardar el estudiante leído")
+    void shouldBackfillSearchTerms_WithoutSavingStudent() {
+        // Given - Preparación
+        Student student = new Student();
+        student.setId("student-1");
+        student.setFirstName("José");
+        student.setLastName("Quispe");
+        student.setDocumentNumber("78901234");
+        when(studentRepository.findWithoutSearchTerms(anyInt()))
+            .thenReturn(Flux.just(student))
+            .thenReturn(Flux.empty());
+        when(studentRepository.setSearchTermsIfMissing(any(), any())).thenReturn(Mono.just(true));
+
+        // When - Ejecución
+        searchBackend.backfillSearchTerms();
+
+        // Then - Verificación
+        verify(studentRepository).setSearchTermsIfMissing("student-1", List.of("jose", "quispe", "78901234"));
+        verify(studentRepository, never()).save(any());
+    }
+}
@@ -0,0 +1,53 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.CursorPage;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para CursorUtils y CursorPage
+ * 
+ * Verifican el formato opaco del cursor de paginación, el límite
+ * de tamaño de página y el cálculo de hasMore/nextCursor.
+ */
+@DisplayName("CursorUtils - Pruebas de Paginación por Cursor")
+class CursorUtilsTest {
+
+    @Test
+    @DisplayName("Debería codificar y decodificar el cursor sin perder el id")
+    void shouldRoundTripCursor() {
+        String cursor = CursorUtils.encode("student-123");
+
+        assertFalse(cursor.contains("student-123"));
+        assertEquals("student-123", CursorUtils.decode(cursor));
+        assertNull(CursorUtils.decode(null));
+        assertThrows(IllegalArgumentException.class, () -> CursorUtils.decode("not-a-cursor"));
+    }
+
+    @Test
+    @DisplayName("Debería limitar el tamaño de página")
+    void shouldCapPageSize() {
+        assertEquals(CursorUtils.DEFAULT_PAGE_SIZE, CursorUtils.resolvePageSize(null));
+        assertEquals(CursorUtils.MAX_PAGE_SIZE, CursorUtils.resolvePageSize(10_000));
+        assertThrows(IllegalArgumentException.class, () -> CursorUtils.resolvePageSize(0));
+    }
+
+    @Test
+    @DisplayName("Debería indicar hasMore solo cuando llega el elemento extra")
+    void shouldBuildPageFromPageSizePlusOne() {
+        CursorPage<String> page = CursorPage.of(List.of("a", "b", "c"), 2, Function.identity());
+
+        assertEquals(List.of("a", "b"), page.getItems());
+        assertTrue(page.isHasMore());
+        assertEquals("b", CursorUtils.decode(page.getNextCursor()));
+
+        CursorPage<String> lastPage = CursorPage.of(List.of("c"), 2, Function.identity());
+        assertFalse(lastPage.isHasMore());
+        assertNull(lastPage.getNextCursor());
+    }
+}
@@ -0,0 +1,65 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.util;
+
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para MongoCommandShapes
+ *
+ * Verifican que la forma de un comando conserve campos y operadores
+ * sin incluir ningún valor de la consulta.
+ */
+@DisplayName("MongoCommandShapes - Pruebas Unitarias")
+class MongoCommandShapesTest {
+
+    @Test
+    @DisplayName("Debería ocultar los valores del filtro y conservar su forma")
+    void shouldMaskFilterValues() {
+        // Given - Preparación
+        BsonDocument command = BsonDocument.parse("""
+            {"find": "students",
+             "filter": {"institution_id": "inst-123", "document_number": {"$in": ["78901234", "78901235"]}},
+             "sort": {"last_name": 1},
+             "limit": 20,
+             "$db": "vg_ms_students"}
+            """);
+
+        // When - Ejecución
+        String collection = MongoCommandShapes.collection("find", command);
+        String shape = MongoCommandShapes.shape(command);
+
+        // Then - Verificación
+        assertEquals("students", collection);
+        assertEquals(BsonDocument.parse("""
+            {"filter": {"institution_id": "?", "document_number": {"$in": ["?"]}}, "sort": {"last_name": 1}}
+            """), BsonDocument.parse(shape));
+        assertFalse(shape.contains("inst-123"));
+        assertFalse(shape.contains("78901234"));
+    }
+
+    @Test
+    @DisplayName("Debería describir pipelines y sentencias de actualización")
+    void shouldDescribePipelinesAndUpdates() {
+        // Given - Preparación
+        BsonDocument aggregate = BsonDocument.parse("""
+            {"aggregate": "enrollments",
+             "pipeline": [{"$match": {"classroom_id": "c-1"}}, {"$lookup": {"from": "students"}}, {"$unwind": "$student"}]}
+            """);
+        BsonDocument update = BsonDocument.parse("""
+            {"update": "students", "updates": [{"q": {"_id": "s-1"}, "u": {"$set": {"status": "INACTIVE"}}}]}
+            """);
+        BsonDocument getMore = BsonDocument.parse("""
+            {"getMore": 12345, "collection": "students"}
+            """);
+
+        // When / Then - Ejecución y verificación
+        assertEquals(BsonDocument.parse("""
+            {"pipeline": [{"$match": {"classroom_id": "?"}}, {"$lookup": "?"}, {"$unwind": "?"}]}
+            """), BsonDocument.parse(MongoCommandShapes.shape(aggregate)));
+        assertEquals(BsonDocument.parse("{\"q\": {\"_id\": \"?\"}}"), BsonDocument.parse(MongoCommandShapes.shape(update)));
+        assertEquals("students", MongoCommandShapes.collection("getMore", getMore));
+    }
+}
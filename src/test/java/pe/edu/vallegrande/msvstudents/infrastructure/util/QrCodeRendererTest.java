@@ -0,0 +1,73 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.util;
+
+import com.google.zxing.BinaryBitmap;
+import com.google.zxing.DecodeHintType;
+import com.google.zxing.client.j2se.BufferedImageLuminanceSource;
+import com.google.zxing.common.HybridBinarizer;
+import com.google.zxing.qrcode.QRCodeReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.util.Base64;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para QrCodeRenderer
+ *
+ * Verifican que el token compacto se renderice como un QR legible y determinista,
+ * y que las matrículas antiguas con el PNG en data URI sigan devolviendo la misma imagen.
+ */
+@DisplayName("QrCodeRenderer - Pruebas Unitarias")
+class QrCodeRendererTest {
+
+    @Test
+    @DisplayName("Debería renderizar el token como un QR legible y determinista")
+    void shouldRenderPayload_AsReadableQr() throws Exception {
+        // Given - Preparación
+        String payload = QrCodeRenderer.newPayload();
+
+        // When - Ejecución
+        byte[] png = QrCodeRenderer.renderPng(payload);
+
+        // Then - Verificación
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        assertEquals(QrCodeRenderer.DEFAULT_SIZE, image.getWidth());
+        assertEquals(QrCodeRenderer.DEFAULT_SIZE, image.getHeight());
+        BinaryBitmap bitmap = new BinaryBitmap(new HybridBinarizer(new BufferedImageLuminanceSource(image)));
+        assertEquals(payload, new QRCodeReader().decode(bitmap, Map.of(DecodeHintType.PURE_BARCODE, Boolean.TRUE)).getText());
+        assertArrayEquals(png, QrCodeRenderer.renderPng(payload));
+    }
+
+    @Test
+    @DisplayName("Debería devolver el PNG guardado en matrículas antiguas sin volver a renderizar")
+    void shouldRenderLegacyDataUri_AsStoredImage() {
+        // Given - Preparación: qr_code antiguo con el PNG completo
+        byte[] storedPng = QrCodeRenderer.renderPng("legacy-enrollment-payload");
+        String legacyQrCode = "data:image/png;base64," + Base64.getEncoder().encodeToString(storedPng);
+
+        // When - Ejecución
+        byte[] png = QrCodeRenderer.renderPng(legacyQrCode);
+
+        // Then - Verificación
+        assertTrue(QrCodeRenderer.isLegacyImage(legacyQrCode));
+        assertArrayEquals(storedPng, png);
+        assertEquals(legacyQrCode, QrCodeRenderer.toDataUri(png));
+    }
+
+    @Test
+    @DisplayName("Debería derivar un ETag estable del payload y del tamaño")
+    void shouldDeriveStableEtag() {
+        // Given - Preparación
+        String payload = QrCodeRenderer.newPayload();
+
+        // When & Then - Ejecución y verificación
+        assertEquals(QrCodeRenderer.etag(payload, 300), QrCodeRenderer.etag(payload, 300));
+        assertNotEquals(QrCodeRenderer.etag(payload, 300), QrCodeRenderer.etag(payload, 200));
+        assertTrue(QrCodeRenderer.etag(payload, 300).matches("\"[0-9a-f]{32}\""));
+    }
+}
@@ -0,0 +1,141 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import pe.edu.vallegrande.msvstudents.domain.enums.EnrollmentStatus;
+import pe.edu.vallegrande.msvstudents.domain.enums.Status;
+import pe.edu.vallegrande.msvstudents.domain.model.InstitutionStatistics;
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.BulkFailure;
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.BulkStudentsResponse;
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.InstitutionOverviewResponse;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para StatisticsMapper
+ * 
+ * Verifican que los records de estadísticas se serialicen con los mismos campos
+ * que tenían los mapas anteriores, usando el ObjectMapper con Blackbird.
+ */
+@DisplayName("StatisticsMapper - Pruebas de Transformación")
+class StatisticsMapperTest {
+
+    private ObjectMapper objectMapper;
+    private InstitutionStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().registerModule(new BlackbirdModule());
+
+        Map<Status, Long> studentsByStatus = new EnumMap<>(Status.class);
+        studentsByStatus.put(Status.ACTIVE, 8L);
+        studentsByStatus.put(Status.INACTIVE, 2L);
+        Map<EnrollmentStatus, Long> enrollmentsByStatus = new EnumMap<>(EnrollmentStatus.class);
+        enrollmentsByStatus.put(EnrollmentStatus.ACTIVE, 5L);
+        enrollmentsByStatus.put(EnrollmentStatus.RETIRED, 1L);
+        statistics = InstitutionStatistics.builder()
+                .totalStudents(10)
+                .studentsByStatus(studentsByStatus)
+                .unenrolledStudents(4)
+                .totalEnrollments(6)
+                .enrollmentsByStatus(enrollmentsByStatus)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Debería serializar el dashboard con los campos anidados de estudiantes y matrículas")
+    void shouldSerializeDashboard() {
+        // When - Ejecución
+        JsonNode json = objectMapper.valueToTree(StatisticsMapper.toDashboard(statistics));
+
+        // Then - Verificación
+        assertEquals(10, json.at("/studentStats/totalStudents").asLong());
+        assertEquals(8, json.at("/studentStats/activeStudents").asLong());
+        assertEquals(2, json.at("/studentStats/inactiveStudents").asLong());
+        assertEquals(4, json.at("/studentStats/unenrolledStudents").asLong());
+        assertEquals(6, json.at("/enrollmentStats/totalEnrollments").asLong());
+        assertEquals(5, json.at("/enrollmentStats/activeEnrollments").asLong());
+        assertEquals(1, json.at("/enrollmentStats/retiredEnrollments").asLong());
+        assertEquals(0, json.at("/enrollmentStats/transferredEnrollments").asLong());
+        assertEquals(0, json.at("/enrollmentStats/completedEnrollments").asLong());
+    }
+
+    @Test
+    @DisplayName("Debería mantener las claves del dashboard y rellenar con cero los estados sin conteo")
+    void shouldKeepDashboardKeys_AndZeroFillMissingStatuses() {
+        // Given - Preparación: documento sin estudiantes inactivos ni matrículas en ningún estado
+        InstitutionStatistics partial = InstitutionStatistics.builder()
+                .totalStudents(3)
+                .studentsByStatus(new EnumMap<>(Map.of(Status.ACTIVE, 3L)))
+                .unenrolledStudents(3)
+                .build();
+
+        // When - Ejecución
+        JsonNode json = objectMapper.valueToTree(StatisticsMapper.toDashboard(partial));
+
+        // Then - Verificación: mismas claves que el mapa anterior, sin campos nulos ni omitidos
+        assertEquals(Set.of("studentStats", "enrollmentStats"), fieldNames(json));
+        assertEquals(Set.of("totalStudents", "activeStudents", "inactiveStudents", "unenrolledStudents"),
+                fieldNames(json.get("studentStats")));
+        assertEquals(Set.of("totalEnrollments", "activeEnrollments", "retiredEnrollments",
+                        "transferredEnrollments", "completedEnrollments"),
+                fieldNames(json.get("enrollmentStats")));
+        assertEquals(3, json.at("/studentStats/activeStudents").asLong());
+        assertTrue(json.at("/studentStats/inactiveStudents").isIntegralNumber());
+        assertEquals(0, json.at("/studentStats/inactiveStudents").asLong());
+        json.get("enrollmentStats").forEach(count -> {
+            assertTrue(count.isIntegralNumber());
+            assertEquals(0, count.asLong());
+        });
+    }
+
+    @Test
+    @DisplayName("Debería calcular porcentajes del resumen y omitirlos sin estudiantes")
+    void shouldComputeOverviewPercentages() {
+        // When - Ejecución
+        InstitutionOverviewResponse overview = StatisticsMapper.toOverview(statistics);
+        JsonNode empty = objectMapper.valueToTree(StatisticsMapper.toOverview(new InstitutionStatistics()));
+
+        // Then - Verificación
+        assertEquals(60.0, overview.enrollmentPercentage());
+        assertEquals(40.0, overview.unenrolledPercentage());
+        assertEquals(0, empty.get("totalStudents").asLong());
+        assertFalse(empty.has("enrollmentPercentage"));
+        assertFalse(empty.has("unenrolledPercentage"));
+    }
+
+    @Test
+    @DisplayName("Debería omitir la lista de estudiantes y los campos nulos de los rechazos en la carga masiva")
+    void shouldSerializeBulkSummary() {
+        // Given - Preparación
+        BulkStudentsResponse response = new BulkStudentsResponse(2, 1, 1,
+                List.of(BulkFailure.ofDocument(1, "12345678", "Duplicate document number in request")), null);
+
+        // When - Ejecución
+        JsonNode json = objectMapper.valueToTree(response);
+
+        // Then - Verificación
+        assertFalse(json.has("students"));
+        assertEquals(1, json.get("errors").asInt());
+        JsonNode failure = json.at("/failures/0");
+        assertEquals(1, failure.get("index").asInt());
+        assertEquals("12345678", failure.get("documentNumber").asText());
+        assertFalse(failure.has("studentId"));
+    }
+
+    private static Set<String> fieldNames(JsonNode node) {
+        return StreamSupport.stream(((Iterable<String>) node::fieldNames).spliterator(), false)
+                .collect(Collectors.toSet());
+    }
+}
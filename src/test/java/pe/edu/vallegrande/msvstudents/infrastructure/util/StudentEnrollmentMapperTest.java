@@ -0,0 +1,66 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import pe.edu.vallegrande.msvstudents.domain.enums.EnrollmentStatus;
+import pe.edu.vallegrande.msvstudents.domain.enums.EnrollmentType;
+import pe.edu.vallegrande.msvstudents.domain.model.StudentEnrollment;
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.request.CreateStudentEnrollmentRequest;
+import pe.edu.vallegrande.msvstudents.infrastructure.dto.response.StudentEnrollmentResponse;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para StudentEnrollmentMapper
+ *
+ * Verifican que la matrícula guarde solo el token compacto del QR
+ * y que la respuesta no exponga el PNG de las matrículas antiguas.
+ */
+@DisplayName("StudentEnrollmentMapper - Pruebas de Transformación")
+class StudentEnrollmentMapperTest {
+
+    private CreateStudentEnrollmentRequest createRequest;
+
+    @BeforeEach
+    void setUp() {
+        createRequest = new CreateStudentEnrollmentRequest();
+        createRequest.setStudentId("student-1");
+        createRequest.setClassroomId("classroom-1");
+        createRequest.setEnrollmentDate(LocalDate.of(2024, 3, 1));
+        createRequest.setEnrollmentType(EnrollmentType.REGULAR);
+    }
+
+    @Test
+    @DisplayName("Debería guardar un token compacto como código QR")
+    void shouldStoreCompactQrPayload_WhenCreatingEnrollment() {
+        // When - Ejecución
+        StudentEnrollment first = StudentEnrollmentMapper.toEntity(createRequest);
+        StudentEnrollment second = StudentEnrollmentMapper.toEntity(createRequest);
+
+        // Then - Verificación
+        assertEquals(EnrollmentStatus.ACTIVE, first.getStatus());
+        assertTrue(first.getQrCode().matches("[0-9a-f]{32}"), "payload compacto: " + first.getQrCode());
+        assertFalse(QrCodeRenderer.isLegacyImage(first.getQrCode()));
+        assertNotEquals(first.getQrCode(), second.getQrCode());
+    }
+
+    @Test
+    @DisplayName("Debería exponer el token y ocultar el PNG de matrículas antiguas")
+    void shouldHideLegacyQrImage_InResponse() {
+        // Given - Preparación
+        StudentEnrollment enrollment = StudentEnrollmentMapper.toEntity(createRequest);
+        StudentEnrollment legacy = StudentEnrollmentMapper.toEntity(createRequest);
+        legacy.setQrCode(QrCodeRenderer.toDataUri(new byte[] {1, 2, 3}));
+
+        // When - Ejecución
+        StudentEnrollmentResponse response = StudentEnrollmentMapper.toResponse(enrollment);
+        StudentEnrollmentResponse legacyResponse = StudentEnrollmentMapper.toResponse(legacy);
+
+        // Then - Verificación
+        assertEquals(enrollment.getQrCode(), response.getQrCode());
+        assertNull(legacyResponse.getQrCode());
+    }
+}
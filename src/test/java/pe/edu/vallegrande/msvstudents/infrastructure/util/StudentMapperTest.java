@@ -378,4 +378,31 @@ class StudentMapperTest {
             assertNull(updated.getLastName()); // Debe mantenerse nulo
         }, "updateEntity debe manejar requests con campos nulos");
     }
+
+    /**
+     * Prueba: Campo sombra de búsqueda
+     * 
+     * Verifica que search_terms:
+     * - Contenga nombre, apellido, documento y correo plegados sin tildes y en minúsculas
+     * - Se recalcule al actualizar el estudiante
+     * 
+     * Expectativa: Términos plegados actualizados tras cada mapeo
+     */
+    @Test
+    @DisplayName("searchTerms - Debería mantener los términos plegados al crear y actualizar")
+    void shouldMaintainFoldedSearchTerms_OnCreateAndUpdate() {
+        // When - Crear desde el request
+        Student created = StudentMapper.toEntity(createRequest, institutionId);
+
+        // Then - Términos sin tildes y en minúsculas
+        assertEquals(java.util.List.of("ana", "martinez", "98765432", "roberto.martinez@email.com"), created.getSearchTerms(),
+            "Los términos deben estar plegados");
+
+        // When - Actualizar el nombre
+        Student updated = StudentMapper.updateEntity(existingStudent, updateRequest);
+
+        // Then - Los términos reflejan el nuevo nombre
+        assertEquals("lucia", updated.getSearchTerms().get(1),
+            "Los términos deben recalcularse al actualizar");
+    }
 }
\ No newline at end of file
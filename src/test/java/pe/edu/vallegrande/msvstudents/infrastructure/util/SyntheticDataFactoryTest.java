@@ -0,0 +1,60 @@
+package pe.edu.vallegrande.msvstudents.infrastructure.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import pe.edu.vallegrande.msvstudents.domain.enums.EnrollmentStatus;
+import pe.edu.vallegrande.msvstudents.domain.model.Student;
+import pe.edu.vallegrande.msvstudents.domain.model.StudentEnrollment;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para SyntheticDataFactory
+ *
+ * Verifican que los datos sean reproducibles (base de la siembra idempotente)
+ * y que cada estudiante tenga a lo sumo una matrícula vigente.
+ */
+@DisplayName("SyntheticDataFactory - Pruebas Unitarias")
+class SyntheticDataFactoryTest {
+
+    @Test
+    @DisplayName("Debería generar los mismos ids para la misma semilla e institución")
+    void shouldBeDeterministic() {
+        // Given - Preparación
+        SyntheticDataFactory.Institution first = SyntheticDataFactory.institution(42, 1, 50, 2, 10);
+
+        // When - Ejecución
+        SyntheticDataFactory.Institution second = SyntheticDataFactory.institution(42, 1, 50, 2, 10);
+        SyntheticDataFactory.Institution other = SyntheticDataFactory.institution(42, 2, 50, 2, 10);
+
+        // Then - Verificación
+        assertEquals(SyntheticDataFactory.institutionId(1), first.institutionId());
+        assertEquals(first.students().stream().map(Student::getId).toList(),
+                second.students().stream().map(Student::getId).toList());
+        assertEquals(first.enrollments().stream().map(StudentEnrollment::getQrCode).toList(),
+                second.enrollments().stream().map(StudentEnrollment::getQrCode).toList());
+        assertNotEquals(first.students().get(0).getId(), other.students().get(0).getId());
+    }
+
+    @Test
+    @DisplayName("Debería generar K matrículas por estudiante y solo la última vigente")
+    void shouldGenerateEnrollmentHistory() {
+        // When - Ejecución
+        SyntheticDataFactory.Institution institution = SyntheticDataFactory.institution(7, 0, 20, 3, 5);
+
+        // Then - Verificación
+        assertEquals(20, institution.students().size());
+        assertEquals(60, institution.enrollments().size());
+        assertEquals(20, institution.students().stream().map(Student::getDocumentNumber).distinct().count());
+        Set<String> currentByStudent = institution.enrollments().stream()
+                .filter(enrollment -> enrollment.getStatus() != EnrollmentStatus.COMPLETED)
+                .map(StudentEnrollment::getStudentId)
+                .collect(Collectors.toSet());
+        assertEquals(20, currentByStudent.size());
+        assertTrue(institution.enrollments().stream()
+                .allMatch(enrollment -> institution.institutionId().equals(enrollment.getInstitutionId())));
+    }
+}
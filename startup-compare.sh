@@ -0,0 +1,125 @@
+#!/bin/bash
+
+# Compara el arranque de la app: JVM, JVM con Spring AOT, JVM con archivo AppCDS e imagen nativa GraalVM.
+# Mide tiempo hasta la primera solicitud exitosa, tiempo hasta readiness y memoria (RSS).
+# Usa el perfil inmemory para no depender de Mongo.
+#
+# Compilar antes (el perfil Spring queda fijado en AOT, por eso -Daot.profile=inmemory):
+#   mvn -Pnative -DskipTests -Daot.profile=inmemory package          -> target/vg-ms-students-1.0.jar (jvm, jvm-aot)
+#   ./cds-train.sh                                                    -> target/cds (jvm-cds)
+#   mvn -Pnative -DskipTests -Daot.profile=inmemory native:compile   -> target/vg-ms-students (native, requiere GraalVM)
+#
+# Uso: ./startup-compare.sh [corridas]   (variantes sin artefacto se omiten)
+
+set -euo pipefail
+
+RUNS=${1:-5}
+PORT=${PORT:-18102}
+JAR=${JAR:-target/vg-ms-students-1.0.jar}
+CDS_DIR=${CDS_DIR:-target/cds}
+NATIVE=${NATIVE:-target/vg-ms-students}
+# Mismas opciones que el Dockerfile; MaxRAM y ActiveProcessorCount aproximan el contenedor (256 MB, 0.4 CPU)
+JAVA_OPTS=${JAVA_OPTS:--XX:+UseSerialGC -XX:MaxRAMPercentage=60 -Xss512k -XX:TieredStopAtLevel=1 -XX:MaxRAM=256m -XX:ActiveProcessorCount=1}
+NATIVE_OPTS=${NATIVE_OPTS:--Xmx128m}
+WARM_REQUESTS=${WARM_REQUESTS:-200}
+READY_TIMEOUT_SECONDS=${READY_TIMEOUT_SECONDS:-180}
+# SyntheticDataFactory.institutionId(0)
+INSTITUTION_ID=8ff22b24-6c59-36f8-9f4e-3e1a089472cb
+FIRST_REQUEST="localhost:$PORT/api/v1/students/secretary"
+APP_ARGS="--spring.profiles.active=inmemory --server.port=$PORT"
+RESULTS=target/startup-compare.csv
+
+mkdir -p target
+echo "variant,run,first_ok_ms,ready_ms,rss_ready_mb,rss_warm_mb,rss_peak_mb" > "$RESULTS"
+
+rss_mb() {
+    awk -v key="$2:" '$1 == key { print int($2 / 1024) }' "/proc/$1/status"
+}
+
+elapsed_ms() {
+    echo $(( ($(date +%s%N) - $1) / 1000000 ))
+}
+
+api_request() {
+    curl -sf -o /dev/null \
+        -H "X-User-Id: startup-compare" -H "X-User-Roles: SECRETARY" -H "X-Institution-Id: $INSTITUTION_ID" \
+        "$FIRST_REQUEST"
+}
+
+measure() {
+    local name=$1
+    shift
+    for run in $(seq 1 "$RUNS"); do
+        local start pid first_ok_ms="" ready_ms="" rss_ready rss_warm rss_peak
+        start=$(date +%s%N)
+        # shellcheck disable=SC2086
+        "$@" $APP_ARGS > "target/startup-$name.log" 2>&1 &
+        pid=$!
+
+        # Primera solicitud exitosa (lo que ve el balanceador al escalar) y readiness (tras los ApplicationRunner)
+        until [ -n "$first_ok_ms" ] && [ -n "$ready_ms" ]; do
+            if ! kill -0 "$pid" 2> /dev/null; then
+                echo "❌ $name terminó antes de estar listo (ver target/startup-$name.log)"
+                exit 1
+            fi
+            if [ $(( ($(date +%s%N) - start) / 1000000000 )) -ge "$READY_TIMEOUT_SECONDS" ]; then
+                kill "$pid"
+                echo "❌ $name no estuvo listo en ${READY_TIMEOUT_SECONDS} s (ver target/startup-$name.log)"
+                exit 1
+            fi
+            if [ -z "$first_ok_ms" ] && api_request; then
+                first_ok_ms=$(elapsed_ms "$start")
+            fi
+            if [ -z "$ready_ms" ] && curl -sf -o /dev/null "localhost:$PORT/actuator/health/readiness"; then
+                ready_ms=$(elapsed_ms "$start")
+            fi
+            sleep 0.02
+        done
+        rss_ready=$(rss_mb "$pid" VmRSS)
+
+        for _ in $(seq 1 "$WARM_REQUESTS"); do
+            api_request || true
+        done
+        rss_warm=$(rss_mb "$pid" VmRSS)
+        rss_peak=$(rss_mb "$pid" VmHWM)
+
+        kill "$pid"
+        wait "$pid" 2> /dev/null || true
+        echo "$name,$run,$first_ok_ms,$ready_ms,$rss_ready,$rss_warm,$rss_peak" >> "$RESULTS"
+        echo "   $name #$run: primera solicitud OK en ${first_ok_ms} ms, listo en ${ready_ms} ms," \
+            "RSS ${rss_ready} MB -> ${rss_warm} MB (pico ${rss_peak} MB)"
+    done
+}
+
+echo "⏱️  Comparación de arranque ($RUNS corridas por variante)"
+if [ -f "$JAR" ]; then
+    # shellcheck disable=SC2086
+    measure jvm java $JAVA_OPTS -jar "$JAR"
+    # shellcheck disable=SC2086
+    measure jvm-aot java $JAVA_OPTS -Dspring.aot.enabled=true -jar "$JAR"
+else
+    echo "⚠️  $JAR no existe: se omiten jvm y jvm-aot"
+fi
+if [ -f "$CDS_DIR/app.jsa" ]; then
+    # shellcheck disable=SC2086
+    measure jvm-cds java $JAVA_OPTS -XX:SharedArchiveFile="$CDS_DIR/app.jsa" -jar "$CDS_DIR/application.jar"
+else
+    echo "⚠️  $CDS_DIR/app.jsa no existe: se omite jvm-cds (ejecutar ./cds-train.sh)"
+fi
+if [ -x "$NATIVE" ]; then
+    # shellcheck disable=SC2086
+    measure native "$NATIVE" $NATIVE_OPTS
+else
+    echo "⚠️  $NATIVE no existe: se omite native"
+fi
+
+echo ""
+echo "📊 Promedios (resultados en $RESULTS)"
+awk -F, 'NR > 1 {
+        n[$1]++; firstOk[$1] += $3; ready[$1] += $4; rssReady[$1] += $5; rssWarm[$1] += $6
+        if ($7 > peak[$1]) peak[$1] = $7
+    }
+    END {
+        printf "%-10s %14s %10s %14s %14s %13s\n", "variant", "first OK ms", "ready ms", "RSS ready MB", "RSS warm MB", "RSS peak MB"
+        for (v in n) printf "%-10s %14d %10d %14d %14d %13d\n", v, firstOk[v] / n[v], ready[v] / n[v], rssReady[v] / n[v], rssWarm[v] / n[v], peak[v]
+    }' "$RESULTS"